@@ -16,6 +16,10 @@
 
 package org.springframework.social.linkedin.autoconfigure;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -36,8 +40,11 @@ import org.springframework.social.connect.Connection;
 import org.springframework.social.connect.ConnectionFactory;
 import org.springframework.social.connect.ConnectionRepository;
 import org.springframework.social.connect.web.GenericConnectionStatusView;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
 import org.springframework.social.linkedin.api.LinkedIn;
 import org.springframework.social.linkedin.connect.LinkedInConnectionFactory;
+import org.springframework.social.linkedin.connect.LinkedInTemplateCustomizer;
+import org.springframework.social.linkedin.connect.LinkedInTokenValidator;
 import org.springframework.social.autoconfigure.SocialAutoConfigurerAdapter;
 import org.springframework.social.autoconfigure.SocialWebAutoConfiguration;
 
@@ -55,6 +62,31 @@ import org.springframework.social.autoconfigure.SocialWebAutoConfiguration;
 @AutoConfigureAfter(WebMvcAutoConfiguration.class)
 public class LinkedInAutoConfiguration {
 
+	@Configuration
+	@EnableConfigurationProperties(LinkedInProperties.class)
+	@ConditionalOnWebApplication(type = Type.SERVLET)
+	@ConditionalOnProperty(prefix = "spring.social.linkedin.client.binding-cache", name = "enabled", matchIfMissing = true)
+	protected static class LinkedInBindingCacheConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public LinkedInBindingCache linkedInBindingCache(LinkedInProperties properties) {
+			LinkedInProperties.BindingCache cache = properties.getClient().getBindingCache();
+			LinkedInBindingCache bindingCache = new LinkedInBindingCache(cache.getMaxSize(), cache.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+			if (cache.getMaxIdleTime() != null) {
+				bindingCache.setMaxIdleTime(cache.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			return bindingCache;
+		}
+
+		@Bean
+		public LinkedInBindingCacheInterceptor linkedInBindingCacheInterceptor(LinkedInBindingCache bindingCache,
+				ConnectionRepository repository) {
+			return new LinkedInBindingCacheInterceptor(bindingCache, repository);
+		}
+
+	}
+
 	@Configuration
 	@EnableSocial
 	@EnableConfigurationProperties(LinkedInProperties.class)
@@ -63,8 +95,20 @@ public class LinkedInAutoConfiguration {
 
 		private final LinkedInProperties properties;
 
-		protected LinkedInConfigurerAdapter(LinkedInProperties properties) {
+		private final List<LinkedInTemplateCustomizer> customizers;
+
+		private final ObjectProvider<LinkedInBindingCache> bindingCache;
+
+		private final ObjectProvider<LinkedInTokenValidator> tokenValidator;
+
+		protected LinkedInConfigurerAdapter(LinkedInProperties properties,
+				ObjectProvider<List<LinkedInTemplateCustomizer>> customizers,
+				ObjectProvider<LinkedInBindingCache> bindingCache,
+				ObjectProvider<LinkedInTokenValidator> tokenValidator) {
 			this.properties = properties;
+			this.customizers = customizers.getIfAvailable();
+			this.bindingCache = bindingCache;
+			this.tokenValidator = tokenValidator;
 		}
 
 		@Bean
@@ -73,7 +117,17 @@ public class LinkedInAutoConfiguration {
 		public LinkedIn linkedin(ConnectionRepository repository) {
 			Connection<LinkedIn> connection = repository
 					.findPrimaryConnection(LinkedIn.class);
-			return connection != null ? connection.getApi() : null;
+			if (connection == null) {
+				return null;
+			}
+			// the binding was resolved through the cache when the connection was restored;
+			// associating it with its owner retires the binding of a token this one replaced
+			LinkedInBindingCache cache = this.bindingCache.getIfAvailable();
+			if (cache != null) {
+				cache.associate(connection.getKey().getProviderUserId(),
+						connection.createData().getAccessToken());
+			}
+			return connection.getApi();
 		}
 
 		@Bean(name = { "connect/linkedinConnect", "connect/linkedinConnected" })
@@ -84,8 +138,16 @@ public class LinkedInAutoConfiguration {
 
 		@Override
 		protected ConnectionFactory<?> createConnectionFactory() {
-			return new LinkedInConnectionFactory(this.properties.getAppId(),
-					this.properties.getAppSecret());
+			LinkedInConnectionFactory connectionFactory = new LinkedInConnectionFactory(
+					this.properties.getAppId(), this.properties.getAppSecret());
+			if (this.customizers != null) {
+				for (LinkedInTemplateCustomizer customizer : this.customizers) {
+					connectionFactory.addTemplateCustomizer(customizer);
+				}
+			}
+			connectionFactory.setBindingCache(this.bindingCache.getIfAvailable());
+			connectionFactory.setTokenValidator(this.tokenValidator.getIfAvailable());
+			return connectionFactory;
 		}
 
 	}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.autoconfigure;
+
+import org.springframework.social.connect.Connection;
+import org.springframework.social.connect.ConnectionFactory;
+import org.springframework.social.connect.ConnectionRepository;
+import org.springframework.social.connect.web.ConnectInterceptor;
+import org.springframework.social.connect.web.DisconnectInterceptor;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Keeps a {@link LinkedInBindingCache} in step with the connect controller: a new or renewed connection
+ * retires the binding of the token it replaces, and disconnecting evicts the bindings of the
+ * current user's LinkedIn connections.
+ *
+ * @author agent
+ */
+public class LinkedInBindingCacheInterceptor implements ConnectInterceptor<LinkedIn>, DisconnectInterceptor<LinkedIn> {
+
+	private final LinkedInBindingCache bindingCache;
+
+	private final ConnectionRepository repository;
+
+	public LinkedInBindingCacheInterceptor(LinkedInBindingCache bindingCache, ConnectionRepository repository) {
+		this.bindingCache = bindingCache;
+		this.repository = repository;
+	}
+
+	public void preConnect(ConnectionFactory<LinkedIn> connectionFactory, MultiValueMap<String, String> parameters,
+			WebRequest request) {
+	}
+
+	public void postConnect(Connection<LinkedIn> connection, WebRequest request) {
+		this.bindingCache.associate(connection.getKey().getProviderUserId(), connection.createData().getAccessToken());
+	}
+
+	public void preDisconnect(ConnectionFactory<LinkedIn> connectionFactory, WebRequest request) {
+		for (Connection<LinkedIn> connection : this.repository.findConnections(LinkedIn.class)) {
+			this.bindingCache.evictUser(connection.getKey().getProviderUserId());
+			this.bindingCache.evict(connection.createData().getAccessToken());
+		}
+	}
+
+	public void postDisconnect(ConnectionFactory<LinkedIn> connectionFactory, WebRequest request) {
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.autoconfigure;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.social.linkedin.api.impl.RequestRateLimiter;
+import org.springframework.social.linkedin.config.support.LinkedInClientCustomizer;
+import org.springframework.social.linkedin.connect.LinkedInConnectionFactory;
+import org.springframework.social.linkedin.connect.LinkedInTokenValidator;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} of the LinkedIn API client from the
+ * <code>spring.social.linkedin.client.*</code> properties.
+ * <p>
+ * Every API binding is customized by one {@link LinkedInClientCustomizer}, the same one the XML namespace
+ * registers, and so sends its requests through one shared request factory, pooled when Apache HttpClient
+ * is on the classpath, with the configured timeouts. A customizer defined by the application, in XML or
+ * otherwise, takes the place of this one. A rate limit, when set, is one budget shared by all bindings.
+ * Token validation, when enabled, replaces the profile fetch used to test connections.
+ * </p>
+ * @author agent
+ */
+@Configuration
+@ConditionalOnClass(LinkedInConnectionFactory.class)
+@EnableConfigurationProperties(LinkedInProperties.class)
+@AutoConfigureBefore(LinkedInAutoConfiguration.class)
+public class LinkedInClientAutoConfiguration {
+
+	private final LinkedInProperties.Client client;
+
+	public LinkedInClientAutoConfiguration(LinkedInProperties properties) {
+		this.client = properties.getClient();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public LinkedInClientCustomizer linkedInClientCustomizer(ObjectProvider<RequestRateLimiter> rateLimiter) {
+		LinkedInClientCustomizer customizer = new LinkedInClientCustomizer();
+		if (this.client.getConnectTimeout() != null) {
+			customizer.setConnectTimeout(toMillis(this.client.getConnectTimeout()));
+		}
+		if (this.client.getReadTimeout() != null) {
+			customizer.setReadTimeout(toMillis(this.client.getReadTimeout()));
+		}
+		customizer.setMaxConnections(this.client.getPool().getMaxConnections());
+		customizer.setMaxConnectionsPerRoute(this.client.getPool().getMaxConnectionsPerRoute());
+		customizer.setRateLimiter(rateLimiter.getIfUnique());
+		return customizer;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "spring.social.linkedin.client.rate-limit", name = "permits-per-second")
+	public RequestRateLimiter linkedInRequestRateLimiter() {
+		return new RequestRateLimiter(this.client.getRateLimit().getPermitsPerSecond());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "spring.social.linkedin.client.token-validation", name = "enabled")
+	public LinkedInTokenValidator linkedInTokenValidator() {
+		LinkedInProperties.TokenValidation properties = this.client.getTokenValidation();
+		LinkedInTokenValidator validator = new LinkedInTokenValidator();
+		validator.setValidTimeToLive(properties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+		validator.setMaxCacheSize(properties.getMaxCacheSize());
+		validator.setConcurrency(properties.getConcurrency());
+		return validator;
+	}
+
+	private static int toMillis(Duration duration) {
+		return (int) Math.min(Integer.MAX_VALUE, duration.toMillis());
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.autoconfigure;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
+import org.springframework.social.linkedin.connect.LinkedInTemplateCustomizer;
+import org.springframework.social.linkedin.metrics.LinkedInMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} that instruments every LinkedIn API binding with
+ * {@link LinkedInMetrics} when Micrometer is on the classpath.
+ * <p>
+ * The registry is looked up when a binding is created rather than at startup, so the order in which
+ * the meter registry is configured does not matter; bindings created while no registry exists are left as is.
+ * The binding cache, when there is one, is monitored as well.
+ * Set <code>spring.social.linkedin.metrics.enabled=false</code> to turn instrumentation off.
+ * </p>
+ * @author agent
+ */
+@Configuration
+@ConditionalOnClass({ MeterRegistry.class, LinkedInMetrics.class })
+@ConditionalOnProperty(prefix = "spring.social.linkedin.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureBefore(LinkedInAutoConfiguration.class)
+public class LinkedInMetricsAutoConfiguration {
+
+	@Bean
+	public LinkedInTemplateCustomizer linkedInMetricsCustomizer(final ObjectProvider<MeterRegistry> registry) {
+		return new LinkedInTemplateCustomizer() {
+			public void customize(LinkedInTemplate template) {
+				MeterRegistry meterRegistry = registry.getIfUnique();
+				if (meterRegistry != null) {
+					LinkedInMetrics.instrument(template, meterRegistry);
+				}
+			}
+		};
+	}
+
+	@Bean
+	public MeterBinder linkedInBindingCacheMetrics(final ObjectProvider<LinkedInBindingCache> bindingCache) {
+		return new MeterBinder() {
+			public void bindTo(MeterRegistry registry) {
+				LinkedInBindingCache cache = bindingCache.getIfAvailable();
+				if (cache != null) {
+					LinkedInMetrics.monitor(cache, registry);
+				}
+			}
+		};
+	}
+
+}
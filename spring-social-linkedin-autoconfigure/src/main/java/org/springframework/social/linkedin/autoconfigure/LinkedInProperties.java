@@ -16,6 +16,8 @@
 
 package org.springframework.social.linkedin.autoconfigure;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.social.autoconfigure.SocialProperties;
 
@@ -28,4 +30,238 @@ import org.springframework.social.autoconfigure.SocialProperties;
 @ConfigurationProperties(prefix = "spring.social.linkedin")
 public class LinkedInProperties extends SocialProperties {
 
+	private final Client client = new Client();
+
+	public Client getClient() {
+		return this.client;
+	}
+
+	/**
+	 * Tuning of the LinkedIn API client.
+	 */
+	public static class Client {
+
+		/**
+		 * Connect timeout of API requests. When not set, the transport's default applies.
+		 */
+		private Duration connectTimeout;
+
+		/**
+		 * Read timeout of API requests. When not set, the transport's default applies.
+		 */
+		private Duration readTimeout;
+
+		private final Pool pool = new Pool();
+
+		private final RateLimit rateLimit = new RateLimit();
+
+		private final BindingCache bindingCache = new BindingCache();
+
+		private final TokenValidation tokenValidation = new TokenValidation();
+
+		public Duration getConnectTimeout() {
+			return this.connectTimeout;
+		}
+
+		public void setConnectTimeout(Duration connectTimeout) {
+			this.connectTimeout = connectTimeout;
+		}
+
+		public Duration getReadTimeout() {
+			return this.readTimeout;
+		}
+
+		public void setReadTimeout(Duration readTimeout) {
+			this.readTimeout = readTimeout;
+		}
+
+		public Pool getPool() {
+			return this.pool;
+		}
+
+		public RateLimit getRateLimit() {
+			return this.rateLimit;
+		}
+
+		public BindingCache getBindingCache() {
+			return this.bindingCache;
+		}
+
+		public TokenValidation getTokenValidation() {
+			return this.tokenValidation;
+		}
+
+	}
+
+	/**
+	 * Connection pool shared by all API bindings, used when Apache HttpClient is on the classpath.
+	 */
+	public static class Pool {
+
+		/**
+		 * Maximum number of pooled connections.
+		 */
+		private int maxConnections = 50;
+
+		/**
+		 * Maximum number of pooled connections to one host.
+		 */
+		private int maxConnectionsPerRoute = 50;
+
+		public int getMaxConnections() {
+			return this.maxConnections;
+		}
+
+		public void setMaxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public int getMaxConnectionsPerRoute() {
+			return this.maxConnectionsPerRoute;
+		}
+
+		public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		}
+
+	}
+
+	/**
+	 * Request budget shared by all API bindings.
+	 */
+	public static class RateLimit {
+
+		/**
+		 * Maximum number of API requests per second. When not set, requests are not throttled.
+		 */
+		private Double permitsPerSecond;
+
+		public Double getPermitsPerSecond() {
+			return this.permitsPerSecond;
+		}
+
+		public void setPermitsPerSecond(Double permitsPerSecond) {
+			this.permitsPerSecond = permitsPerSecond;
+		}
+
+	}
+
+	/**
+	 * Cache of API bindings shared by the requests of a connected member.
+	 */
+	public static class BindingCache {
+
+		/**
+		 * Whether to reuse API bindings across requests.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * Maximum number of bindings held.
+		 */
+		private int maxSize = 1000;
+
+		/**
+		 * How long a binding is reused after it was created.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(30);
+
+		/**
+		 * How long a binding may go unused before it is evicted. Bindings are kept until they expire if not set.
+		 */
+		private Duration maxIdleTime;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public Duration getMaxIdleTime() {
+			return this.maxIdleTime;
+		}
+
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+		}
+
+	}
+
+	/**
+	 * Lightweight validation of access tokens when connections are tested.
+	 */
+	public static class TokenValidation {
+
+		/**
+		 * Whether to test connections by fetching only the member id, caching valid outcomes.
+		 */
+		private boolean enabled;
+
+		/**
+		 * How long a token found valid is trusted.
+		 */
+		private Duration timeToLive = Duration.ofHours(1);
+
+		/**
+		 * Maximum number of valid tokens remembered.
+		 */
+		private int maxCacheSize = 100000;
+
+		/**
+		 * Maximum number of concurrent requests of a batch validation.
+		 */
+		private int concurrency = 8;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public int getMaxCacheSize() {
+			return this.maxCacheSize;
+		}
+
+		public void setMaxCacheSize(int maxCacheSize) {
+			this.maxCacheSize = maxCacheSize;
+		}
+
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+	}
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Transport that sends nothing and answers every request with the same small JSON document,
+ * so request construction can be measured without network or parsing noise.
+ *
+ * @author agent
+ */
+class NoOpRequestFactory implements ClientHttpRequestFactory {
+
+	/** Satisfies every template: an empty page, and empty nested results for the searches. */
+	static final byte[] BODY = "{\"_total\":0,\"values\":[],\"people\":{\"_total\":0},\"jobs\":{\"_total\":0}}".getBytes(StandardCharsets.UTF_8);
+
+	private static final HttpHeaders RESPONSE_HEADERS = new HttpHeaders();
+
+	static {
+		RESPONSE_HEADERS.setContentType(MediaType.APPLICATION_JSON);
+		RESPONSE_HEADERS.setContentLength(BODY.length);
+	}
+
+	public ClientHttpRequest createRequest(final URI uri, final HttpMethod httpMethod) {
+		return new ClientHttpRequest() {
+
+			private final HttpHeaders headers = new HttpHeaders();
+
+			public HttpMethod getMethod() {
+				return httpMethod;
+			}
+
+			public String getMethodValue() {
+				return httpMethod.name();
+			}
+
+			public URI getURI() {
+				return uri;
+			}
+
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+
+			public OutputStream getBody() {
+				return StreamUtils.nonClosing(new OutputStream() {
+					@Override
+					public void write(int b) {
+					}
+
+					@Override
+					public void write(byte[] b, int off, int len) {
+					}
+				});
+			}
+
+			public ClientHttpResponse execute() {
+				return new ClientHttpResponse() {
+
+					public HttpStatus getStatusCode() {
+						return HttpStatus.OK;
+					}
+
+					public int getRawStatusCode() {
+						return 200;
+					}
+
+					public String getStatusText() {
+						return "OK";
+					}
+
+					public HttpHeaders getHeaders() {
+						return RESPONSE_HEADERS;
+					}
+
+					public InputStream getBody() {
+						return new ByteArrayInputStream(BODY);
+					}
+
+					public void close() {
+					}
+
+				};
+			}
+
+		};
+	}
+
+}
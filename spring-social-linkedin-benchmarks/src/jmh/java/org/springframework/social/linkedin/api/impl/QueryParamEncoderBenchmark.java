@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link QueryParamEncoder} with the ByteArrayOutputStream based encoder it replaced,
+ * on keyword strings typical of people and job searches.
+ * Run with <code>gradle :spring-social-linkedin-benchmarks:jmh</code>; the gc profiler reports bytes allocated per operation.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryParamEncoderBenchmark {
+
+	@Param({ "software-engineer", "java developer london", "C++ & .NET", "Z\u00fcrich M\u00fcnchen Gen\u00e8ve" })
+	public String keywords;
+
+	@Benchmark
+	public String legacy() {
+		return LegacyEncoder.encode(keywords);
+	}
+
+	@Benchmark
+	public String utf8() {
+		return QueryParamEncoder.encode(keywords);
+	}
+
+	@Benchmark
+	public StringBuilder utf8IntoBuffer() {
+		StringBuilder buffer = new StringBuilder(64);
+		QueryParamEncoder.encode(keywords, buffer);
+		return buffer;
+	}
+
+	/**
+	 * The encoder previously found in AbstractTemplate, kept as the baseline.
+	 */
+	static final class LegacyEncoder {
+
+		static String encode(String param) {
+			byte[] source = param.getBytes();
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(source.length);
+			for (int i = 0; i < source.length; i++) {
+				int b = source[i];
+				if (b < 0) {
+					b += 256;
+				}
+				if (isAllowed(b)) {
+					bos.write(b);
+				}
+				else {
+					bos.write('%');
+					bos.write(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)));
+					bos.write(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+				}
+			}
+			return bos.toString();
+		}
+
+		private static boolean isAllowed(int c) {
+			if ('=' == c || '+' == c || '&' == c) {
+				return false;
+			}
+			return isPchar(c) || '/' == c || '?' == c;
+		}
+
+		private static boolean isPchar(int c) {
+			return isUnreserved(c) || isSubDelimiter(c) || ':' == c || '@' == c;
+		}
+
+		private static boolean isUnreserved(int c) {
+			return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || '-' == c || '.' == c || '_' == c || '~' == c;
+		}
+
+		private static boolean isSubDelimiter(int c) {
+			return '!' == c || '$' == c || '&' == c || '\'' == c || '(' == c || ')' == c || '*' == c || '+' == c ||
+					',' == c || ';' == c || '=' == c;
+		}
+
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.social.linkedin.api.JobSearchParameters;
+import org.springframework.social.linkedin.api.Jobs;
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+import org.springframework.social.linkedin.api.LinkedInProfiles;
+import org.springframework.social.linkedin.api.NetworkUpdateParameters;
+import org.springframework.social.linkedin.api.SearchParameters;
+import org.springframework.social.linkedin.api.SearchParameters.FacetType;
+import org.springframework.social.linkedin.api.UpdateTypeInput;
+import org.springframework.social.linkedin.api.impl.json.LinkedInObjectMappers;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the cost of building requests: URI template expansion and parameter encoding in the templates,
+ * and the URI and header decoration done by the LinkedInTemplate interceptors.
+ * Every call goes through RestTemplate to a {@link NoOpRequestFactory}, so <code>exchange</code> is the
+ * baseline to subtract from the template benchmarks, and <code>decoratedExchange</code> minus <code>exchange</code>
+ * is the interceptor cost. Run with <code>gradle :spring-social-linkedin-benchmarks:jmh</code>;
+ * the gc profiler reports bytes allocated per operation.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestConstructionBenchmark {
+
+	private static final URI PROFILE_URI = URI.create(LinkedInTemplate.BASE_URL + "~" + ProfileTemplate.PROFILE_FIELDS);
+
+	private Expander expander;
+
+	private RestTemplate restTemplate;
+
+	private LinkedInTemplate linkedIn;
+
+	private NetworkUpdateTemplate networkUpdateTemplate;
+
+	private ProfileTemplate profileTemplate;
+
+	private JobTemplate jobTemplate;
+
+	private NetworkUpdateParameters networkUpdateParameters;
+
+	private SearchParameters searchParameters;
+
+	private JobSearchParameters jobSearchParameters;
+
+	@Setup
+	public void setup() {
+		NoOpRequestFactory transport = new NoOpRequestFactory();
+		ObjectMapper objectMapper = LinkedInObjectMappers.shared();
+		restTemplate = new RestTemplate(transport);
+		for (HttpMessageConverter<?> converter : restTemplate.getMessageConverters()) {
+			if (converter instanceof MappingJackson2HttpMessageConverter) {
+				((MappingJackson2HttpMessageConverter) converter).setObjectMapper(objectMapper);
+			}
+		}
+		expander = new Expander();
+		networkUpdateTemplate = new NetworkUpdateTemplate(restTemplate);
+		profileTemplate = new ProfileTemplate(restTemplate, objectMapper);
+		jobTemplate = new JobTemplate(restTemplate, objectMapper);
+		linkedIn = new LinkedInTemplate("ACCESS_TOKEN");
+		linkedIn.getRestTemplate().setRequestFactory(transport);
+
+		networkUpdateParameters = new NetworkUpdateParameters(null, false, 0, 50, null, new Date(1321282506000L), false, false,
+				Arrays.asList(UpdateTypeInput.CONN, UpdateTypeInput.SHAR, UpdateTypeInput.PICT, UpdateTypeInput.JGRP));
+		searchParameters = new SearchParameters();
+		searchParameters.setKeywords("java developer");
+		searchParameters.setCountryCode("gb");
+		searchParameters.setCount(25);
+		searchParameters.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_FIRST_DEGREE);
+		searchParameters.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_SECOND_DEGREE);
+		searchParameters.addFacet(FacetType.LANGUAGE, SearchParameters.LANGUAGE_ENGLISH);
+		searchParameters.addFacet(FacetType.CURRENT_COMPANY, "1337");
+		jobSearchParameters = new JobSearchParameters();
+		jobSearchParameters.setKeywords("C++ & .NET developer");
+		jobSearchParameters.setCompanyName("Z\u00fcrich Insurance");
+		jobSearchParameters.setCountryCode("ch");
+		jobSearchParameters.setCount(20);
+	}
+
+	@Benchmark
+	public URI expand() {
+		return expander.expand(JobTemplate.SUGGESTED_URL, new Object[] { 0, 20 }, false);
+	}
+
+	@Benchmark
+	public URI expandEncoded() {
+		return expander.expand(JobTemplate.SEARCH_URL, new Object[] { "java developer", "Z\u00fcrich", null, "ch", null, null, 0, 20, null }, true);
+	}
+
+	@Benchmark
+	public JsonNode exchange() {
+		return restTemplate.getForObject(PROFILE_URI, JsonNode.class);
+	}
+
+	@Benchmark
+	public JsonNode decoratedExchange() {
+		return linkedIn.restOperations().getForObject(PROFILE_URI, JsonNode.class);
+	}
+
+	@Benchmark
+	public List<LinkedInNetworkUpdate> networkUpdates() {
+		return networkUpdateTemplate.getNetworkUpdates(networkUpdateParameters);
+	}
+
+	@Benchmark
+	public LinkedInProfiles peopleSearchWithFacets() {
+		return profileTemplate.search(searchParameters);
+	}
+
+	@Benchmark
+	public Jobs jobSearch() {
+		return jobTemplate.searchJobs(jobSearchParameters);
+	}
+
+	/**
+	 * Exposes the expansion every template inherits.
+	 */
+	static final class Expander extends AbstractTemplate {
+
+		@Override
+		public URI expand(String url, Object[] variables, boolean encode) {
+			return super.expand(url, variables, encode);
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.social.linkedin.api.Companies;
+import org.springframework.social.linkedin.api.Group.GroupPosts;
+import org.springframework.social.linkedin.api.Jobs;
+import org.springframework.social.linkedin.api.LinkedInConnections;
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdates;
+import org.springframework.social.linkedin.api.LinkedInProfileFull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Deserializes realistic responses through {@link LinkedInModule} the way the templates do:
+ * straight into the response type, or into a tree first for searches, whose results are nested.
+ * Payloads are the API test fixtures with their result lists repeated <code>scale</code> times;
+ * the network update payload holds one update of every {@link org.springframework.social.linkedin.api.UpdateType} per repetition.
+ * Run with <code>gradle :spring-social-linkedin-benchmarks:jmh</code>; the gc profiler reports the allocation rate.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DeserializationBenchmark {
+
+	@Param({ "1", "10", "50" })
+	public int scale;
+
+	private ObjectMapper objectMapper;
+
+	private ObjectReader companiesReader;
+
+	private ObjectReader jobsReader;
+
+	private byte[] networkUpdates;
+
+	private byte[] profileFull;
+
+	private byte[] connections;
+
+	private byte[] companySearch;
+
+	private byte[] jobSearch;
+
+	private byte[] groupPosts;
+
+	@Setup
+	public void setup() throws IOException {
+		objectMapper = Fixtures.objectMapper();
+		companiesReader = objectMapper.readerFor(Companies.class);
+		jobsReader = objectMapper.readerFor(Jobs.class);
+		networkUpdates = Fixtures.mixedNetworkUpdates(scale);
+		profileFull = objectMapper.writeValueAsBytes(Fixtures.read("profile_full.json"));
+		connections = Fixtures.scaled("connections.json", null, scale);
+		companySearch = Fixtures.scaled("company_search.json", "companies", scale);
+		jobSearch = Fixtures.scaled("job_search.json", "jobs", scale);
+		groupPosts = Fixtures.scaled("group_posts.json", null, scale);
+	}
+
+	@Benchmark
+	public LinkedInNetworkUpdates networkUpdates() throws IOException {
+		return objectMapper.readValue(networkUpdates, LinkedInNetworkUpdates.class);
+	}
+
+	@Benchmark
+	public LinkedInProfileFull profileFull() throws IOException {
+		return objectMapper.readValue(profileFull, LinkedInProfileFull.class);
+	}
+
+	@Benchmark
+	public LinkedInConnections connections() throws IOException {
+		return objectMapper.readValue(connections, LinkedInConnections.class);
+	}
+
+	@Benchmark
+	public Companies companySearch() throws IOException {
+		JsonNode node = objectMapper.readTree(companySearch);
+		return companiesReader.readValue(node.path("companies"));
+	}
+
+	@Benchmark
+	public Jobs jobSearch() throws IOException {
+		JsonNode node = objectMapper.readTree(jobSearch);
+		return jobsReader.readValue(node.path("jobs"));
+	}
+
+	@Benchmark
+	public GroupPosts groupPosts() throws IOException {
+		return objectMapper.readValue(groupPosts, GroupPosts.class);
+	}
+
+}
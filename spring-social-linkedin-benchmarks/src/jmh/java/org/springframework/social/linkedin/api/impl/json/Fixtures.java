@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.social.linkedin.api.UpdateType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds benchmark payloads from the JSON fixtures of the API tests, scaled up by repeating their <code>values</code> arrays.
+ * @author agent
+ */
+final class Fixtures {
+
+	private static final String FIXTURE_ROOT = "/org/springframework/social/linkedin/api/impl/";
+
+	private static final ObjectMapper FIXTURE_MAPPER = objectMapper();
+
+	private Fixtures() {
+	}
+
+	/**
+	 * An ObjectMapper configured the way LinkedInTemplate configures its own.
+	 */
+	static ObjectMapper objectMapper() {
+		return LinkedInObjectMappers.create();
+	}
+
+	static JsonNode read(String name) {
+		InputStream in = Fixtures.class.getResourceAsStream(FIXTURE_ROOT + name);
+		if (in == null) {
+			throw new IllegalStateException("Fixture " + name + " not found on the classpath");
+		}
+		try {
+			try {
+				return FIXTURE_MAPPER.readTree(in);
+			}
+			finally {
+				in.close();
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not read fixture " + name, e);
+		}
+	}
+
+	/**
+	 * Reads a fixture and repeats the <code>values</code> array of the container at the given path.
+	 * @param name the fixture file name
+	 * @param container the field holding the paged collection, or null when it is the root
+	 * @param factor how many times to repeat the values
+	 */
+	static byte[] scaled(String name, String container, int factor) {
+		JsonNode root = read(name);
+		ObjectNode collection = (ObjectNode) (container != null ? root.get(container) : root);
+		ArrayNode values = (ArrayNode) collection.get("values");
+		List<JsonNode> original = new ArrayList<JsonNode>();
+		for (JsonNode value : values) {
+			original.add(value);
+		}
+		values.removeAll();
+		for (int i = 0; i < factor; i++) {
+			for (JsonNode value : original) {
+				values.add(value.deepCopy());
+			}
+		}
+		collection.put("_total", values.size());
+		if (collection.has("_count")) {
+			collection.put("_count", values.size());
+		}
+		return toBytes(root);
+	}
+
+	/**
+	 * Builds a network update page of <code>count</code> updates of the given type.
+	 * Types missing from <code>updates.json</code> are derived from a similar update found there.
+	 */
+	static byte[] networkUpdates(UpdateType type, int count) {
+		ObjectNode update = networkUpdateTemplates().get(type);
+		ObjectNode root = FIXTURE_MAPPER.createObjectNode();
+		root.put("_total", count);
+		ArrayNode values = root.putArray("values");
+		for (int i = 0; i < count; i++) {
+			ObjectNode copy = update.deepCopy();
+			copy.put("updateKey", type + "-" + i);
+			values.add(copy);
+		}
+		return toBytes(root);
+	}
+
+	/**
+	 * Builds a network update page holding <code>perType</code> updates of every type.
+	 */
+	static byte[] mixedNetworkUpdates(int perType) {
+		Map<UpdateType, ObjectNode> updates = networkUpdateTemplates();
+		ObjectNode root = FIXTURE_MAPPER.createObjectNode();
+		root.put("_total", perType * updates.size());
+		ArrayNode values = root.putArray("values");
+		for (int i = 0; i < perType; i++) {
+			for (ObjectNode update : updates.values()) {
+				values.add(update.deepCopy());
+			}
+		}
+		return toBytes(root);
+	}
+
+	private static Map<UpdateType, ObjectNode> networkUpdateTemplates() {
+		Map<UpdateType, ObjectNode> templates = new EnumMap<UpdateType, ObjectNode>(UpdateType.class);
+		for (JsonNode value : read("updates.json").get("values")) {
+			UpdateType type = UpdateType.valueOf(value.get("updateType").asText());
+			if (!templates.containsKey(type)) {
+				templates.put(type, (ObjectNode) value);
+			}
+		}
+		ObjectNode picture = templates.get(UpdateType.PICU);
+		for (UpdateType type : UpdateType.values()) {
+			if (templates.containsKey(type)) {
+				continue;
+			}
+			ObjectNode update = (type == UpdateType.SVPR ? templates.get(UpdateType.PREC) : picture).deepCopy();
+			update.put("updateType", type.name());
+			ObjectNode content = (ObjectNode) update.get("updateContent");
+			ObjectNode person = (ObjectNode) content.get("person");
+			if (type == UpdateType.STAT) {
+				person.put("currentStatus", "Profiling JSON deserialization");
+			}
+			else if (type == UpdateType.CMPY) {
+				content.putObject("company").put("id", 1337).put("name", "LinkedIn");
+				ObjectNode jobUpdate = content.putObject("companyJobUpdate");
+				jobUpdate.putObject("action").put("code", "created");
+				jobUpdate.putObject("job").put("id", 2746782).putObject("position").put("title", "Software Engineer");
+			}
+			else if (type == UpdateType.MSFC) {
+				content.remove("person");
+				ObjectNode companyPersonUpdate = content.putObject("companyPersonUpdate");
+				companyPersonUpdate.set("person", person);
+				companyPersonUpdate.putObject("action").put("code", "joined");
+				content.putObject("company").put("id", 1337).put("name", "LinkedIn");
+			}
+			templates.put(type, update);
+		}
+		return templates;
+	}
+
+	private static byte[] toBytes(JsonNode node) {
+		try {
+			return FIXTURE_MAPPER.writeValueAsBytes(node);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdates;
+import org.springframework.social.linkedin.api.UpdateType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Deserializes pages of network updates of a single {@link UpdateType}, one run per type,
+ * to show which update content mappings dominate the cost of {@link DeserializationBenchmark#networkUpdates()}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NetworkUpdateDeserializationBenchmark {
+
+	@Param
+	public UpdateType updateType;
+
+	@Param({ "20" })
+	public int count;
+
+	private ObjectMapper objectMapper;
+
+	private byte[] updates;
+
+	@Setup
+	public void setup() {
+		objectMapper = Fixtures.objectMapper();
+		updates = Fixtures.networkUpdates(updateType, count);
+	}
+
+	@Benchmark
+	public LinkedInNetworkUpdates networkUpdates() throws IOException {
+		return objectMapper.readValue(updates, LinkedInNetworkUpdates.class);
+	}
+
+}
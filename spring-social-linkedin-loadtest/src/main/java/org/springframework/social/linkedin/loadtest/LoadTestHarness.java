@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.social.linkedin.api.JobSearchParameters;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Drives {@link LinkedInTemplate}s for a number of concurrent members against a {@link StubLinkedInServer}.
+ * <p>
+ * Each member has its own template and thread, and repeatedly works through a mix of calls touching every endpoint
+ * the stub serves. All templates share one transport, as they would in an application, so the connection count
+ * reported by the server shows how well connections are reused. Allocation is measured on the member threads only.
+ * </p>
+ * <p>
+ * Run <code>gradle :spring-social-linkedin-loadtest:run -Pargs="members seconds latencyMillis throttleRate errorRate"</code>,
+ * or call {@link #run(int, long, TimeUnit)} from code.
+ * </p>
+ * @author agent
+ */
+public class LoadTestHarness {
+
+	private final StubLinkedInServer server;
+
+	private final ClientHttpRequestFactory requestFactory;
+
+	private final List<Call> calls = new ArrayList<Call>();
+
+	/**
+	 * Creates a harness using the JDK HTTP client with its default keep-alive behaviour.
+	 */
+	public LoadTestHarness(StubLinkedInServer server) {
+		this(server, new SimpleClientHttpRequestFactory());
+	}
+
+	public LoadTestHarness(StubLinkedInServer server, ClientHttpRequestFactory requestFactory) {
+		Assert.notNull(server, "StubLinkedInServer must not be null");
+		this.server = server;
+		this.requestFactory = new RedirectingRequestFactory(requestFactory, server.getBaseUri());
+		addDefaultCalls();
+	}
+
+	/**
+	 * Runs the members for the given time.
+	 * @param members the number of concurrent members
+	 * @param duration how long to run
+	 * @param unit the unit of the duration
+	 * @return the report
+	 */
+	public LoadTestReport run(int members, long duration, TimeUnit unit) throws InterruptedException {
+		return run(members, System.nanoTime() + unit.toNanos(duration), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Runs the members until each has made the given number of calls.
+	 * @param members the number of concurrent members
+	 * @param callsPerMember the number of calls each member makes
+	 * @return the report
+	 */
+	public LoadTestReport run(int members, int callsPerMember) throws InterruptedException {
+		return run(members, Long.MAX_VALUE, callsPerMember);
+	}
+
+	private LoadTestReport run(int members, final long deadline, final int callsPerMember) throws InterruptedException {
+		Assert.isTrue(members > 0, "At least one member is required");
+		server.resetCounters();
+		final CountDownLatch ready = new CountDownLatch(members);
+		final CountDownLatch go = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(members);
+		List<Future<MemberResult>> futures = new ArrayList<Future<MemberResult>>();
+		try {
+			for (int i = 0; i < members; i++) {
+				final LinkedInTemplate template = new LinkedInTemplate("member-token-" + i);
+				template.getRestTemplate().setRequestFactory(requestFactory);
+				final int offset = i;
+				futures.add(executor.submit(new Callable<MemberResult>() {
+					public MemberResult call() throws Exception {
+						ready.countDown();
+						go.await();
+						return runMember(template, offset, deadline, callsPerMember);
+					}
+				}));
+			}
+			ready.await();
+			long start = System.nanoTime();
+			go.countDown();
+			List<MemberResult> results = new ArrayList<MemberResult>();
+			for (Future<MemberResult> future : futures) {
+				try {
+					results.add(future.get());
+				}
+				catch (ExecutionException e) {
+					throw new IllegalStateException("Member failed", e.getCause());
+				}
+			}
+			long elapsed = System.nanoTime() - start;
+			return report(members, elapsed, results);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private MemberResult runMember(LinkedIn linkedIn, int offset, long deadline, int maxCalls) {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		long allocatedBefore = allocatedBytes(threads);
+		MemberResult result = new MemberResult();
+		for (int i = offset; result.count < maxCalls && System.nanoTime() < deadline; i++) {
+			Call call = calls.get(i % calls.size());
+			long start = System.nanoTime();
+			try {
+				call.call(linkedIn);
+			}
+			catch (RuntimeException e) {
+				result.error(e.getClass().getSimpleName());
+			}
+			result.latency(System.nanoTime() - start);
+		}
+		long allocatedAfter = allocatedBytes(threads);
+		result.allocatedBytes = allocatedBefore >= 0 && allocatedAfter >= 0 ? allocatedAfter - allocatedBefore : -1;
+		return result;
+	}
+
+	private LoadTestReport report(int members, long elapsed, List<MemberResult> results) {
+		int calls = 0;
+		for (MemberResult result : results) {
+			calls += result.count;
+		}
+		long[] latencies = new long[calls];
+		Map<String, Long> errors = new HashMap<String, Long>();
+		long allocated = 0;
+		int position = 0;
+		for (MemberResult result : results) {
+			System.arraycopy(result.latencies, 0, latencies, position, result.count);
+			position += result.count;
+			for (Map.Entry<String, Long> error : result.errors.entrySet()) {
+				Long total = errors.get(error.getKey());
+				errors.put(error.getKey(), total != null ? total + error.getValue() : error.getValue());
+			}
+			allocated = allocated >= 0 && result.allocatedBytes >= 0 ? allocated + result.allocatedBytes : -1;
+		}
+		return new LoadTestReport(members, elapsed, latencies, errors, server.getRequestCount(), server.getConnectionCount(), allocated);
+	}
+
+	private static long allocatedBytes(ThreadMXBean threads) {
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+			if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+				return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+
+	private void addDefaultCalls() {
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.profileOperations().getUserProfile();
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.connectionOperations().getConnections(0, 50);
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.networkUpdateOperations().getNetworkUpdates(0, 20);
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.profileOperations().getUserProfileFull();
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.companyOperations().getCompany(1337);
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.companyOperations().search("linkedin");
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				JobSearchParameters parameters = new JobSearchParameters();
+				parameters.setKeywords("java developer");
+				parameters.setCount(20);
+				linkedIn.jobOperations().searchJobs(parameters);
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.groupOperations().getGroupDetails(46964);
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.groupOperations().getPosts(46964);
+			}
+		});
+		calls.add(new Call() {
+			public void call(LinkedIn linkedIn) {
+				linkedIn.communicationOperations().sendMessage("Load test", "Hello from the load test", "~");
+			}
+		});
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int members = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		long seconds = args.length > 1 ? Long.parseLong(args[1]) : 30;
+		long latency = args.length > 2 ? Long.parseLong(args[2]) : 20;
+		double throttleRate = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+		double errorRate = args.length > 4 ? Double.parseDouble(args[4]) : 0;
+		StubLinkedInServer server = new StubLinkedInServer(Math.max(8, members));
+		try {
+			server.setLatency(latency, latency / 2);
+			server.setThrottleRate(throttleRate);
+			server.setErrorRate(errorRate);
+			LoadTestHarness harness = new LoadTestHarness(server);
+			// warm up before measuring
+			harness.run(members, Math.max(1, seconds / 5), TimeUnit.SECONDS);
+			System.out.println(harness.run(members, seconds, TimeUnit.SECONDS));
+			System.out.println("args: " + Arrays.toString(new Object[] { members, seconds, latency, throttleRate, errorRate }));
+		}
+		finally {
+			server.close();
+		}
+	}
+
+	/**
+	 * One API call in the member workload.
+	 */
+	interface Call {
+
+		void call(LinkedIn linkedIn);
+
+	}
+
+	private static final class MemberResult {
+
+		private long[] latencies = new long[1024];
+
+		private int count;
+
+		private final Map<String, Long> errors = new HashMap<String, Long>();
+
+		private long allocatedBytes;
+
+		void latency(long nanos) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = nanos;
+		}
+
+		void error(String type) {
+			Long total = errors.get(type);
+			errors.put(type, total != null ? total + 1 : 1L);
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.loadtest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a {@link LoadTestHarness} run.
+ * @author agent
+ */
+public class LoadTestReport {
+
+	private final int members;
+
+	private final long elapsedNanos;
+
+	private final long[] latencies;
+
+	private final Map<String, Long> errors;
+
+	private final long serverRequests;
+
+	private final int connections;
+
+	private final long allocatedBytes;
+
+	LoadTestReport(int members, long elapsedNanos, long[] latencies, Map<String, Long> errors, long serverRequests, int connections, long allocatedBytes) {
+		this.members = members;
+		this.elapsedNanos = elapsedNanos;
+		this.latencies = latencies;
+		Arrays.sort(this.latencies);
+		this.errors = Collections.unmodifiableMap(new TreeMap<String, Long>(errors));
+		this.serverRequests = serverRequests;
+		this.connections = connections;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	public int getMembers() {
+		return members;
+	}
+
+	/**
+	 * @return the number of calls made, failed or not
+	 */
+	public int getCalls() {
+		return latencies.length;
+	}
+
+	/**
+	 * @return the number of failed calls, by exception type
+	 */
+	public Map<String, Long> getErrors() {
+		return errors;
+	}
+
+	public double getThroughput() {
+		return elapsedNanos > 0 ? latencies.length * 1e9 / elapsedNanos : 0;
+	}
+
+	/**
+	 * @param percentile between 0 and 100
+	 * @return the call latency at the percentile, in milliseconds
+	 */
+	public double getLatencyMillis(double percentile) {
+		if (latencies.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+		return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1e6;
+	}
+
+	/**
+	 * @return the number of HTTP requests the stub server received
+	 */
+	public long getServerRequests() {
+		return serverRequests;
+	}
+
+	/**
+	 * @return the number of distinct client connections the stub server saw
+	 */
+	public int getConnections() {
+		return connections;
+	}
+
+	/**
+	 * @return the average number of requests sent over each connection
+	 */
+	public double getRequestsPerConnection() {
+		return connections > 0 ? (double) serverRequests / connections : 0;
+	}
+
+	/**
+	 * @return the bytes allocated by the member threads per call, or -1 where the JVM cannot tell
+	 */
+	public long getAllocatedBytesPerCall() {
+		return allocatedBytes >= 0 && latencies.length > 0 ? allocatedBytes / latencies.length : -1;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("members=%d calls=%d throughput=%.1f/s latency p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n" +
+				"connections=%d requests/connection=%.1f allocated/call=%d bytes errors=%s",
+				members, getCalls(), getThroughput(), getLatencyMillis(50), getLatencyMillis(90), getLatencyMillis(99),
+				getLatencyMillis(99.9), getLatencyMillis(100), connections, getRequestsPerConnection(), getAllocatedBytesPerCall(), errors);
+	}
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.social.linkedin.metrics.OperationNames;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the LinkedIn v1 API, serving the API test fixtures for the people, connections,
+ * network update, company, job, group and mailbox endpoints.
+ * <p>
+ * Requests are routed by {@link OperationNames operation name}. Reads get the matching fixture, writes an empty
+ * <code>201</code> and anything unknown a LinkedIn style <code>404</code>. Latency, throttling (<code>403</code> with
+ * a throttle message) and server errors (<code>500</code>) can be injected, and the server counts the requests and
+ * the distinct client connections it sees, from which connection reuse follows.
+ * </p>
+ * @author agent
+ */
+public class StubLinkedInServer implements Closeable {
+
+	private static final String FIXTURE_ROOT = "/org/springframework/social/linkedin/api/impl/";
+
+	private static final Map<String, String> FIXTURES = new HashMap<String, String>();
+
+	static {
+		FIXTURES.put("profile.get", "profile.json");
+		FIXTURES.put("profile.search", "search.json");
+		FIXTURES.put("connections.list", "connections.json");
+		FIXTURES.put("connections.stats", "statistics.json");
+		FIXTURES.put("networkUpdates.list", "updates.json");
+		FIXTURES.put("shares.current", "current.json");
+		FIXTURES.put("company.get", "company.json");
+		FIXTURES.put("company.search", "company_search.json");
+		FIXTURES.put("company.products.list", "products.json");
+		FIXTURES.put("company.following.list", "following.json");
+		FIXTURES.put("company.suggestions.list", "suggestions_to_follow.json");
+		FIXTURES.put("job.get", "job.json");
+		FIXTURES.put("job.search", "job_search.json");
+		FIXTURES.put("job.bookmarks.list", "job_bookmarks.json");
+		FIXTURES.put("job.suggestions.list", "job_suggestions.json");
+		FIXTURES.put("group.get", "group.json");
+		FIXTURES.put("group.posts.list", "group_posts.json");
+		FIXTURES.put("group.comments.list", "group_post_comments.json");
+		FIXTURES.put("group.memberships.list", "group_memberships.json");
+		FIXTURES.put("group.suggestions.list", "group_suggestions.json");
+	}
+
+	private final Map<String, byte[]> responses = new HashMap<String, byte[]>();
+
+	private final byte[] profileFull;
+
+	private final byte[] notFound;
+
+	private final byte[] throttled;
+
+	private final byte[] serverError = "{\"errorCode\":0,\"message\":\"Internal API server error\",\"status\":500}".getBytes();
+
+	private final HttpServer server;
+
+	private final ExecutorService executor;
+
+	private final AtomicLong requests = new AtomicLong();
+
+	private final Set<String> connections = ConcurrentHashMap.newKeySet();
+
+	private volatile long latencyMillis;
+
+	private volatile long latencyJitterMillis;
+
+	private volatile double throttleRate;
+
+	private volatile double errorRate;
+
+	/**
+	 * Starts a server on an ephemeral loopback port.
+	 * @param threads the number of request handling threads
+	 */
+	public StubLinkedInServer(int threads) throws IOException {
+		Assert.isTrue(threads > 0, "At least one thread is required");
+		for (Map.Entry<String, String> fixture : FIXTURES.entrySet()) {
+			responses.put(fixture.getKey(), fixture(fixture.getValue()));
+		}
+		profileFull = fixture("profile_full.json");
+		notFound = fixture("error_not_found.json");
+		throttled = fixture("error_throttle.json");
+		executor = Executors.newFixedThreadPool(threads);
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+		server.createContext("/", new StubHandler());
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/**
+	 * @return the base URI requests to <code>https://api.linkedin.com</code> should be sent to instead
+	 */
+	public URI getBaseUri() {
+		return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+	}
+
+	/**
+	 * Delays every response by a fixed time plus a uniformly distributed jitter.
+	 */
+	public void setLatency(long millis, long jitterMillis) {
+		this.latencyMillis = millis;
+		this.latencyJitterMillis = jitterMillis;
+	}
+
+	/**
+	 * @param throttleRate the fraction of requests answered as throttled, between 0 and 1
+	 */
+	public void setThrottleRate(double throttleRate) {
+		this.throttleRate = throttleRate;
+	}
+
+	/**
+	 * @param errorRate the fraction of requests answered with a server error, between 0 and 1
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	/**
+	 * @return the number of distinct client connections seen, by remote address and port
+	 */
+	public int getConnectionCount() {
+		return connections.size();
+	}
+
+	public void resetCounters() {
+		requests.set(0);
+		connections.clear();
+	}
+
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private static byte[] fixture(String name) throws IOException {
+		InputStream in = StubLinkedInServer.class.getResourceAsStream(FIXTURE_ROOT + name);
+		if (in == null) {
+			throw new IOException("Fixture " + name + " not found on the classpath");
+		}
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			StreamUtils.copy(in, out);
+			return out.toByteArray();
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	private final class StubHandler implements HttpHandler {
+
+		public void handle(HttpExchange exchange) throws IOException {
+			try {
+				requests.incrementAndGet();
+				InetSocketAddress remote = exchange.getRemoteAddress();
+				connections.add(remote.getHostString() + ":" + remote.getPort());
+				StreamUtils.drain(exchange.getRequestBody());
+				delay();
+				respond(exchange);
+			}
+			finally {
+				exchange.close();
+			}
+		}
+
+		private void delay() {
+			long delay = latencyMillis;
+			if (latencyJitterMillis > 0) {
+				delay += ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1);
+			}
+			if (delay > 0) {
+				try {
+					TimeUnit.MILLISECONDS.sleep(delay);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void respond(HttpExchange exchange) throws IOException {
+			double dice = ThreadLocalRandom.current().nextDouble();
+			if (dice < throttleRate) {
+				send(exchange, 403, throttled);
+				return;
+			}
+			if (dice < throttleRate + errorRate) {
+				send(exchange, 500, serverError);
+				return;
+			}
+			HttpMethod method = HttpMethod.resolve(exchange.getRequestMethod());
+			URI uri = exchange.getRequestURI();
+			String operation = OperationNames.resolve(method, uri);
+			if (method != HttpMethod.GET) {
+				send(exchange, OperationNames.OTHER.equals(operation) ? 404 : 201, OperationNames.OTHER.equals(operation) ? notFound : null);
+				return;
+			}
+			byte[] body = responses.get(operation);
+			if (body == null) {
+				send(exchange, 404, notFound);
+			}
+			else if ("profile.get".equals(operation) && uri.getRawPath().contains("positions")) {
+				send(exchange, 200, profileFull);
+			}
+			else {
+				send(exchange, 200, body);
+			}
+		}
+
+		private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+			if (body == null) {
+				exchange.sendResponseHeaders(status, -1);
+				return;
+			}
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, body.length);
+			OutputStream out = exchange.getResponseBody();
+			out.write(body);
+			out.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.loadtest;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LoadTestHarnessTest {
+
+	private StubLinkedInServer server;
+
+	@Before
+	public void setup() throws Exception {
+		server = new StubLinkedInServer(4);
+	}
+
+	@After
+	public void tearDown() {
+		server.close();
+	}
+
+	@Test
+	public void run() throws Exception {
+		LoadTestReport report = new LoadTestHarness(server).run(4, 25);
+		assertEquals(100, report.getCalls());
+		assertTrue(report.getErrors().toString(), report.getErrors().isEmpty());
+		assertEquals(report.getCalls(), report.getServerRequests());
+		assertTrue(report.getConnections() > 0);
+		assertTrue(report.getRequestsPerConnection() > 1);
+		assertTrue(report.getLatencyMillis(99) >= report.getLatencyMillis(50));
+		assertTrue(report.getThroughput() > 0);
+	}
+
+	@Test
+	public void injectedFailures() throws Exception {
+		server.setThrottleRate(0.5);
+		server.setErrorRate(0.5);
+		LoadTestReport report = new LoadTestHarness(server).run(2, 50);
+		long failures = 0;
+		for (Long count : report.getErrors().values()) {
+			failures += count;
+		}
+		assertEquals(report.getCalls(), failures);
+		assertTrue(report.getErrors().containsKey("RateLimitExceededException"));
+		assertTrue(report.getErrors().containsKey("UncategorizedApiException"));
+	}
+
+	@Test
+	public void latency() throws Exception {
+		server.setLatency(20, 0);
+		LoadTestReport report = new LoadTestHarness(server).run(1, 100, TimeUnit.MILLISECONDS);
+		assertTrue(report.getCalls() > 0);
+		assertTrue(report.getLatencyMillis(0) >= 20);
+	}
+
+}
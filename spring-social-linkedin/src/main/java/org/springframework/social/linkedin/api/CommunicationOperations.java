@@ -16,6 +16,7 @@
 package org.springframework.social.linkedin.api;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Operations related to sending messages and sending connect invitations to other
@@ -67,5 +68,31 @@ public interface CommunicationOperations {
 	 * @param lastName Last Name of recipient
 	 */
 	void connectTo(String subject, String body, String email, String firstName, String lastName);
+	
+	/**
+	 * Send a sequence of messages and invitations on the calling thread.
+	 * Messages addressed to more than {@link MailboxMessage#MAX_RECIPIENTS} recipients are split into chunks.
+	 * A failure is recorded in the result for that chunk and does not abort the batch;
+	 * a message without recipients is reported as failed without being sent.
+	 * 
+	 * @param messages The messages to send, consumed lazily
+	 * @return One result per chunk, ordered by message index and chunk
+	 */
+	List<MailboxMessageResult> sendMessages(Iterable<MailboxMessage> messages);
+	
+	/**
+	 * Send a sequence of messages and invitations with at most maxConcurrency requests in flight.
+	 * Messages addressed to more than {@link MailboxMessage#MAX_RECIPIENTS} recipients are split into chunks.
+	 * A failure is recorded in the result for that chunk and does not abort the batch;
+	 * a message without recipients is reported as failed without being sent.
+	 * If the calling thread is interrupted, dispatching stops and only the chunks already dispatched are reported;
+	 * a batch can be resumed by resubmitting the messages that have no successful result.
+	 * 
+	 * @param messages The messages to send, consumed lazily
+	 * @param executor Executor used to send the chunks
+	 * @param maxConcurrency Maximum number of chunks sent concurrently
+	 * @return One result per dispatched chunk, ordered by message index and chunk
+	 */
+	List<MailboxMessageResult> sendMessages(Iterable<MailboxMessage> messages, Executor executor, int maxConcurrency);
 
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api;
+
+/**
+ * Company Field
+ * 
+ * @author agent
+ */
+public enum CompanyField {
+	ID,
+	NAME,
+	UNIVERSAL_NAME,
+	EMAIL_DOMAINS,
+	COMPANY_TYPE,
+	TICKER,
+	WEBSITE_URL,
+	INDUSTRY,
+	STATUS,
+	LOGO_URL,
+	SQUARE_LOGO_URL,
+	BLOG_RSS_URL,
+	TWITTER_ID,
+	EMPLOYEE_COUNT_RANGE,
+	SPECIALTIES,
+	LOCATIONS,
+	DESCRIPTION,
+	STOCK_EXCHANGE,
+	FOUNDED_YEAR,
+	END_YEAR,
+	NUM_FOLLOWERS
+	;
+	
+	public String toString() {
+		return this.name().toLowerCase().replace('_', '-');
+	}
+
+}
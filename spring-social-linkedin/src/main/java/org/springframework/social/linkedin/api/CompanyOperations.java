@@ -16,6 +16,7 @@
 package org.springframework.social.linkedin.api;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Operations related to Companies on LinkedIn
@@ -31,6 +32,14 @@ public interface CompanyOperations {
 	 */
 	Company getCompany(int id);
 	
+	/**
+	 * Retrieve selected Company Details based on unique integer id
+	 * @param id the company ID
+	 * @param fields the fields to retrieve; fields not selected are left unset
+	 * @return company
+	 */
+	Company getCompany(int id, Set<CompanyField> fields);
+	
 	/**
 	 * Retrieve Company Details based on unique name id
 	 * @param name the company name
@@ -38,6 +47,14 @@ public interface CompanyOperations {
 	 */
 	Company getCompanyByUniversalName(String name);
 	
+	/**
+	 * Retrieve selected Company Details based on unique name id
+	 * @param name the company name
+	 * @param fields the fields to retrieve; fields not selected are left unset
+	 * @return company
+	 */
+	Company getCompanyByUniversalName(String name, Set<CompanyField> fields);
+	
 	/**
 	 * Retrive List of Company Details based on email domain
 	 * 
@@ -54,6 +71,15 @@ public interface CompanyOperations {
 	 */
 	Companies search(String keywords);
 	
+	/**
+	 * Search of Companies based on space separated list of keywords, retrieving only selected fields
+	 * 
+	 * @param keywords keywords to search with
+	 * @param fields the fields to retrieve for each company
+	 * @return Search Result with count, start, total and list of companies
+	 */
+	Companies search(String keywords, Set<CompanyField> fields);
+	
 	/**
 	 * Retrieve list of Companies that user is following
 	 * @return List of Companies
@@ -86,5 +112,15 @@ public interface CompanyOperations {
 	 * @return the products for the specified company.
 	 */
 	Products getProducts(int companyId, int start, int count);
+	
+	/**
+	 * Get selected fields of the products for a company.
+	 * @param companyId the ID of the company to get products for.
+	 * @param start The starting point in the result set. Used with count for pagination.
+	 * @param count The number of products to return. Used with start for pagination.
+	 * @param fields the fields to retrieve for each product
+	 * @return the products for the specified company.
+	 */
+	Products getProducts(int companyId, int start, int count, Set<ProductField> fields);
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api;
+
+/**
+ * Group Field
+ * 
+ * @author agent
+ */
+public enum GroupField {
+	ID,
+	NAME,
+	SHORT_DESCRIPTION,
+	DESCRIPTION,
+	RELATION_TO_VIEWER,
+	POSTS,
+	COUNTS_BY_CATEGORY,
+	IS_OPEN_TO_NON_MEMBERS,
+	CATEGORY,
+	WEBSITE_URL,
+	LOCALE,
+	LOCATION,
+	ALLOW_MEMBER_INVITES,
+	SITE_GROUP_URL,
+	SMALL_LOGO_URL,
+	LARGE_LOGO_URL
+	;
+	
+	public String toString() {
+		switch (this) {
+		case RELATION_TO_VIEWER:
+			return "relation-to-viewer:(membership-state,available-actions)";
+		case LOCATION:
+			return "location:(country,postal-code)";
+		default:
+			return this.name().toLowerCase().replace('_', '-');
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.social.linkedin.api;
 
 import java.net.URI;
+import java.util.Set;
 
 import org.springframework.social.linkedin.api.Group.GroupPosts;
 
@@ -33,6 +34,14 @@ public interface GroupOperations {
 	 */
 	Group getGroupDetails( Integer id );
 	
+	/**
+	 * Get selected Details for a Group
+	 * @param id Id of Group
+	 * @param fields the fields to retrieve; fields not selected are left unset
+	 * @return Group
+	 */
+	Group getGroupDetails(Integer id, Set<GroupField> fields);
+	
 	/**
 	 * Get List of Groups a User is a member of
 	 * 
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api;
+
+/**
+ * Job Field
+ * 
+ * @author agent
+ */
+public enum JobField {
+	ID,
+	CUSTOMER_JOB_CODE,
+	ACTIVE,
+	POSTING_DATE,
+	EXPIRATION_DATE,
+	POSTING_TIMESTAMP,
+	EXPIRATION_TIMESTAMP,
+	COMPANY,
+	POSITION,
+	SKILLS_AND_EXPERIENCE,
+	DESCRIPTION_SNIPPET,
+	DESCRIPTION,
+	SALARY,
+	JOB_POSTER,
+	REFERRAL_BONUS,
+	SITE_JOB_URL,
+	LOCATION_DESCRIPTION
+	;
+	
+	public String toString() {
+		switch (this) {
+		case COMPANY:
+			return "company:(id,name)";
+		case POSITION:
+			return "position:(title,location,job-functions,industries,job-type,experience-level)";
+		case JOB_POSTER:
+			return "job-poster:(id,first-name,last-name,headline)";
+		default:
+			return this.name().toLowerCase().replace('_', '-');
+		}
+	}
+
+}
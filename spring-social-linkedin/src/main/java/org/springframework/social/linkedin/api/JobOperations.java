@@ -15,6 +15,7 @@
  */
 package org.springframework.social.linkedin.api;
 
+import java.util.Set;
 
 /**
  * Operations on Linkedin Jobs API
@@ -30,6 +31,14 @@ public interface JobOperations {
 	 */
 	Jobs searchJobs(JobSearchParameters parameters);
 	
+	/**
+	 * Search form Jobs, retrieving only selected fields
+	 * @param parameters Various parameters that control behaviour of search
+	 * @param fields the fields to retrieve for each job
+	 * @return Search Result
+	 */
+	Jobs searchJobs(JobSearchParameters parameters, Set<JobField> fields);
+	
 	/**
 	 * Retreive and Job by ID
 	 * 
@@ -38,6 +47,15 @@ public interface JobOperations {
 	 */
 	Job getJob(int id);
 	
+	/**
+	 * Retreive selected fields of a Job by ID
+	 * 
+	 * @param id Numerical id of job
+	 * @param fields the fields to retrieve; fields not selected are left unset
+	 * @return Job
+	 */
+	Job getJob(int id, Set<JobField> fields);
+	
 	/**
 	 * Bookmark Job
 	 * 
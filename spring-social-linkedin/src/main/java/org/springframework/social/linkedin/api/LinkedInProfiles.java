@@ -30,6 +30,11 @@ public class LinkedInProfiles extends SearchResult {
 		super(count, start, total);
 	}
 
+	public LinkedInProfiles(int count, int start, int total, List<LinkedInProfile> people) {
+		super(count, start, total);
+		this.people = people;
+	}
+
 	private List<LinkedInProfile> people;
 	
 	public List<LinkedInProfile> getPeople() {
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single message or connect invitation submitted to
+ * {@link CommunicationOperations#sendMessages(Iterable)}.
+ *
+ * @author agent
+ */
+public class MailboxMessage implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Maximum number of recipients LinkedIn accepts in a single mailbox item.
+	 * Messages with more recipients are sent in several chunks.
+	 */
+	public static final int MAX_RECIPIENTS = 10;
+
+	private final String subject;
+
+	private final String body;
+
+	private final List<String> recipientIds;
+
+	private final ConnectionAuthorization connectionAuthorization;
+
+	private final String email;
+
+	private final String firstName;
+
+	private final String lastName;
+
+	private final boolean invitation;
+
+	private MailboxMessage(String subject, String body, List<String> recipientIds, ConnectionAuthorization connectionAuthorization,
+			String email, String firstName, String lastName, boolean invitation) {
+		this.subject = subject;
+		this.body = body;
+		this.recipientIds = recipientIds;
+		this.connectionAuthorization = connectionAuthorization;
+		this.email = email;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.invitation = invitation;
+	}
+
+	/**
+	 * Textual message to a list of recipientIds
+	 * @param subject The subject of message
+	 * @param body The body or text of message (does not support html)
+	 * @param recipientIds List of ids
+	 * @return the message
+	 */
+	public static MailboxMessage message(String subject, String body, List<String> recipientIds) {
+		return new MailboxMessage(subject, body, Collections.unmodifiableList(recipientIds), null, null, null, null, false);
+	}
+
+	/**
+	 * Textual message to recipientId(s)
+	 * @param subject The subject of message
+	 * @param body The body or text of message (does not support html)
+	 * @param recipientIds One of more ids
+	 * @return the message
+	 */
+	public static MailboxMessage message(String subject, String body, String... recipientIds) {
+		return message(subject, body, Arrays.asList(recipientIds));
+	}
+
+	/**
+	 * Connect invitation to a LinkedIn member
+	 * @param subject The subject of message
+	 * @param body The body or text of message (does not support html)
+	 * @param recipientId Id of recipient
+	 * @param connectionAuthorization authorization required to create the connection
+	 * @return the invitation
+	 */
+	public static MailboxMessage invitation(String subject, String body, String recipientId, ConnectionAuthorization connectionAuthorization) {
+		return new MailboxMessage(subject, body, Collections.singletonList(recipientId), connectionAuthorization, null, null, null, true);
+	}
+
+	/**
+	 * Connect invitation to an email address (for users not on LinkedIn)
+	 * @param subject The subject of message
+	 * @param body The body or text of message (does not support html)
+	 * @param email Email address of recipient
+	 * @param firstName First Name of recipient
+	 * @param lastName Last Name of recipient
+	 * @return the invitation
+	 */
+	public static MailboxMessage emailInvitation(String subject, String body, String email, String firstName, String lastName) {
+		return new MailboxMessage(subject, body, Collections.<String>emptyList(), null, email, firstName, lastName, true);
+	}
+
+	public String getSubject() {
+		return subject;
+	}
+
+	public String getBody() {
+		return body;
+	}
+
+	/**
+	 * @return ids of the recipients; empty for email invitations
+	 */
+	public List<String> getRecipientIds() {
+		return recipientIds;
+	}
+
+	public ConnectionAuthorization getConnectionAuthorization() {
+		return connectionAuthorization;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	/**
+	 * @return true if this is a connect invitation rather than a plain message
+	 */
+	public boolean isInvitation() {
+		return invitation;
+	}
+
+}
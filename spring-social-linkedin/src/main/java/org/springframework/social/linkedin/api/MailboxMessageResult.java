@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api;
+
+import java.util.List;
+
+/**
+ * Outcome of sending one chunk of a {@link MailboxMessage} in a bulk send.
+ * A message addressed to more than {@link MailboxMessage#MAX_RECIPIENTS} recipients
+ * produces one result per chunk.
+ *
+ * @author agent
+ */
+public class MailboxMessageResult {
+
+	private final int index;
+
+	private final int chunk;
+
+	private final MailboxMessage message;
+
+	private final List<String> recipientIds;
+
+	private final RuntimeException exception;
+
+	public MailboxMessageResult(int index, int chunk, MailboxMessage message, List<String> recipientIds, RuntimeException exception) {
+		this.index = index;
+		this.chunk = chunk;
+		this.message = message;
+		this.recipientIds = recipientIds;
+		this.exception = exception;
+	}
+
+	/**
+	 * @return position of the message in the submitted sequence, starting at 0
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return position of this recipient chunk within the message, starting at 0
+	 */
+	public int getChunk() {
+		return chunk;
+	}
+
+	public MailboxMessage getMessage() {
+		return message;
+	}
+
+	/**
+	 * @return the recipients this chunk was addressed to
+	 */
+	public List<String> getRecipientIds() {
+		return recipientIds;
+	}
+
+	/**
+	 * @return the exception raised while sending, or null if the chunk was sent
+	 */
+	public RuntimeException getException() {
+		return exception;
+	}
+
+	public boolean isSuccess() {
+		return exception == null;
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api;
+
+/**
+ * Company Product Field
+ * 
+ * @author agent
+ */
+public enum ProductField {
+	ID,
+	NAME,
+	TYPE,
+	CREATION_TIMESTAMP,
+	LOGO_URL,
+	DESCRIPTION,
+	FEATURES,
+	VIDEO,
+	PRODUCT_DEAL,
+	SALES_PERSONS,
+	NUM_RECOMMENDATIONS,
+	RECOMMENDATIONS,
+	PRODUCT_CATEGORY,
+	WEBSITE_URL,
+	DISCLAIMER
+	;
+	
+	public String toString() {
+		switch (this) {
+		case VIDEO:
+			return "video:(title,url)";
+		case PRODUCT_DEAL:
+			return "product-deal:(title,url,text)";
+		case RECOMMENDATIONS:
+			return "recommendations:(recommender,id,product-id,text,reply,timestamp,likes:(timestamp,person))";
+		default:
+			return this.name().toLowerCase().replace('_', '-');
+		}
+	}
+
+}
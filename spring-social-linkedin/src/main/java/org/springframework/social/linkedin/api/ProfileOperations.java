@@ -15,6 +15,8 @@
  */
 package org.springframework.social.linkedin.api;
 
+import java.util.Set;
+
 /**
  * Operations on Profile API
  * 
@@ -42,6 +44,14 @@ public interface ProfileOperations {
 	 * @return the user's profile data.
 	 */
 	LinkedInProfile getUserProfile();
+
+	/**
+	 * Retrieves selected details of the current user's profile.
+	 * 
+	 * @param fields the fields to retrieve; fields not selected are left unset
+	 * @return the user's profile data.
+	 */
+	LinkedInProfile getUserProfile(Set<ProfileField> fields);
 	
 	/**
 	 * Retrieves a profile by id.
@@ -20,12 +20,19 @@ import static org.springframework.social.linkedin.api.impl.LinkedInTemplate.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import org.springframework.social.linkedin.api.CommunicationOperations;
 import org.springframework.social.linkedin.api.ConnectionAuthorization;
+import org.springframework.social.linkedin.api.MailboxMessage;
+import org.springframework.social.linkedin.api.MailboxMessageResult;
+import org.springframework.util.Assert;
 import org.springframework.web.client.RestOperations;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -44,13 +51,7 @@ class CommunicationTemplate implements CommunicationOperations {
 	}
 	
 	public void sendMessage(String subject, String body, List<String> recipientIds) {
-		Map<String, Object> mailboxItem = new HashMap<String,Object>();
-		
-		mailboxItem.put("recipients", new Recipients(recipientIds));
-		mailboxItem.put("subject", subject);
-		mailboxItem.put("body", body);
-		
-		restOperations.postForLocation(MESSAGING_URL, mailboxItem);
+		postMailboxItem(subject, body, new Recipients(recipientIds), null);
 	}
 	
 	public void sendMessage(String subject, String body, String... recipientIds) {
@@ -58,29 +59,135 @@ class CommunicationTemplate implements CommunicationOperations {
 	}
 	
 	public void connectTo(String subject, String body, String recipientId, ConnectionAuthorization connectionAuthorization) {
-		Map<String, Object> mailboxItem = new HashMap<String,Object>();
-		
-		mailboxItem.put("recipients", new Recipients(Arrays.asList(recipientId)));
-		mailboxItem.put("subject", subject);
-		mailboxItem.put("body", body);
 		String[] nameValue = connectionAuthorization.getValue().split(":");
-		mailboxItem.put("item-content", new ItemContent(nameValue[0], nameValue[1]));
-		
-		restOperations.postForLocation(MESSAGING_URL, mailboxItem);
+		postMailboxItem(subject, body, new Recipients(recipientId), new ItemContent(nameValue[0], nameValue[1]));
 	}
 	
 	public void connectTo(String subject, String body, String email, String firstName, String lastName) {
-		Map<String, Object> mailboxItem = new HashMap<String,Object>();
+		postMailboxItem(subject, body, new Recipients(email, firstName, lastName), EMAIL_INVITATION_CONTENT);
+	}
+	
+	public List<MailboxMessageResult> sendMessages(Iterable<MailboxMessage> messages) {
+		return sendMessages(messages, CALLER_RUNS, 1);
+	}
+	
+	public List<MailboxMessageResult> sendMessages(Iterable<MailboxMessage> messages, Executor executor, int maxConcurrency) {
+		Assert.notNull(messages, "Messages cannot be null");
+		Assert.notNull(executor, "Executor cannot be null");
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than 0");
+		
+		final Semaphore permits = new Semaphore(maxConcurrency);
+		final List<MailboxMessageResult> results = Collections.synchronizedList(new ArrayList<MailboxMessageResult>());
+		try {
+			int index = 0;
+			for (MailboxMessage message : messages) {
+				List<String> recipientIds = message.getRecipientIds();
+				if (!message.isInvitation() && recipientIds.isEmpty()) {
+					// LinkedIn would answer with an error anyway; fail the message without a request
+					results.add(new MailboxMessageResult(index++, 0, message, recipientIds, new IllegalArgumentException("Message has no recipients")));
+					continue;
+				}
+				int chunks = message.isInvitation() ? 1 : (recipientIds.size() + MailboxMessage.MAX_RECIPIENTS - 1) / MailboxMessage.MAX_RECIPIENTS;
+				for (int chunk = 0; chunk < chunks; chunk++) {
+					List<String> chunkRecipients = message.isInvitation() ? recipientIds : 
+						recipientIds.subList(chunk * MailboxMessage.MAX_RECIPIENTS, Math.min(recipientIds.size(), (chunk + 1) * MailboxMessage.MAX_RECIPIENTS));
+					permits.acquire();
+					SendTask task = new SendTask(index, chunk, message, chunkRecipients, results, permits);
+					try {
+						executor.execute(task);
+					}
+					catch (RejectedExecutionException e) {
+						permits.release();
+						results.add(new MailboxMessageResult(index, chunk, message, chunkRecipients, e));
+					}
+				}
+				index++;
+			}
+			permits.acquire(maxConcurrency);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		
+		List<MailboxMessageResult> sorted;
+		synchronized (results) {
+			sorted = new ArrayList<MailboxMessageResult>(results);
+		}
+		Collections.sort(sorted, RESULT_ORDER);
+		return sorted;
+	}
+	
+	private void send(MailboxMessage message, List<String> recipientIds) {
+		if (!message.isInvitation()) {
+			sendMessage(message.getSubject(), message.getBody(), recipientIds);
+		}
+		else if (message.getConnectionAuthorization() != null) {
+			connectTo(message.getSubject(), message.getBody(), recipientIds.get(0), message.getConnectionAuthorization());
+		}
+		else {
+			connectTo(message.getSubject(), message.getBody(), message.getEmail(), message.getFirstName(), message.getLastName());
+		}
+	}
+	
+	private void postMailboxItem(String subject, String body, Recipients recipients, ItemContent itemContent) {
+		Map<String, Object> mailboxItem = new HashMap<String,Object>(8);
 		
-		mailboxItem.put("recipients", new Recipients(email, firstName, lastName));
+		mailboxItem.put("recipients", recipients);
 		mailboxItem.put("subject", subject);
 		mailboxItem.put("body", body);
-		mailboxItem.put("item-content", new ItemContent());
+		if (itemContent != null) {
+			mailboxItem.put("item-content", itemContent);
+		}
 		
 		restOperations.postForLocation(MESSAGING_URL, mailboxItem);
 	}
 	
+	private final class SendTask implements Runnable {
+		private final int index;
+		private final int chunk;
+		private final MailboxMessage message;
+		private final List<String> recipientIds;
+		private final List<MailboxMessageResult> results;
+		private final Semaphore permits;
+		
+		private SendTask(int index, int chunk, MailboxMessage message, List<String> recipientIds, List<MailboxMessageResult> results, Semaphore permits) {
+			this.index = index;
+			this.chunk = chunk;
+			this.message = message;
+			this.recipientIds = recipientIds;
+			this.results = results;
+			this.permits = permits;
+		}
+		
+		public void run() {
+			RuntimeException failure = null;
+			try {
+				send(message, recipientIds);
+			}
+			catch (RuntimeException e) {
+				failure = e;
+			}
+			finally {
+				results.add(new MailboxMessageResult(index, chunk, message, recipientIds, failure));
+				permits.release();
+			}
+		}
+	}
+	
+	private static final Executor CALLER_RUNS = new Executor() {
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+	
+	private static final Comparator<MailboxMessageResult> RESULT_ORDER = new Comparator<MailboxMessageResult>() {
+		public int compare(MailboxMessageResult r1, MailboxMessageResult r2) {
+			int c = Integer.compare(r1.getIndex(), r2.getIndex());
+			return c != 0 ? c : Integer.compare(r1.getChunk(), r2.getChunk());
+		}
+	};
 	
+	private static final ItemContent EMAIL_INVITATION_CONTENT = new ItemContent();
 	
 	public static final String MESSAGING_URL = BASE_URL + "~/mailbox";
 	
@@ -153,7 +260,7 @@ class CommunicationTemplate implements CommunicationOperations {
 		private final List<Recipient> values;
 		
 		private Recipients(List<String> recipientIds) {
-			values = new ArrayList<Recipient>();
+			values = new ArrayList<Recipient>(recipientIds.size());
 			for (String r : recipientIds) {
 				values.add(new Recipient(PEOPLE + r));
 			}
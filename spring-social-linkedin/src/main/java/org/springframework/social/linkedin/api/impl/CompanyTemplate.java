@@ -17,10 +17,13 @@ package org.springframework.social.linkedin.api.impl;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.social.linkedin.api.Companies;
 import org.springframework.social.linkedin.api.Company;
+import org.springframework.social.linkedin.api.CompanyField;
 import org.springframework.social.linkedin.api.CompanyOperations;
+import org.springframework.social.linkedin.api.ProductField;
 import org.springframework.social.linkedin.api.Products;
 import org.springframework.web.client.RestOperations;
 
@@ -48,13 +51,22 @@ class CompanyTemplate extends AbstractTemplate implements CompanyOperations {
 		return restOperations.getForObject(COMPANY_URL, Company.class, "/" + id, "");
 	}
 	
+	public Company getCompany(int id, Set<CompanyField> fields) {
+		return restOperations.getForObject(expand(COMPANY_SELECT_TEMPLATE, new Object[] {"/" + id, FieldSelectors.selector(fields), ""}, false), Company.class);
+	}
+	
 	public Company getCompanyByUniversalName(String name) {
 		return restOperations.getForObject(COMPANY_URL, Company.class, "/universal-name=" + name, "");
 	}
 	
+	public Company getCompanyByUniversalName(String name, Set<CompanyField> fields) {
+		Object[] params = new Object[] {"/universal-name=" + QueryParamEncoder.encode(name), FieldSelectors.selector(fields), ""};
+		return restOperations.getForObject(expand(COMPANY_SELECT_TEMPLATE, params, false), Company.class);
+	}
+	
 	public List<Company> getCompaniesByEmailDomain(String domain) {
 		String[] params = new String[] { "", "email-domain=" + domain};
-		JsonNode node = restOperations.getForObject(expand(COMPANY_URL, params, false), JsonNode.class);
+		JsonNode node = restOperations.getForObject(expand(COMPANY_TEMPLATE, params, false), JsonNode.class);
 		
 		try {
 			return objectMapper.reader(new TypeReference<List<Company>>(){}).readValue(node.path("values"));
@@ -65,7 +77,15 @@ class CompanyTemplate extends AbstractTemplate implements CompanyOperations {
 	}
 	
 	public Companies search(String keywords) {
-		JsonNode node = restOperations.getForObject(COMPANY_SEARCH_URL, JsonNode.class, keywords);
+		return readCompanies(restOperations.getForObject(COMPANY_SEARCH_URL, JsonNode.class, keywords));
+	}
+	
+	public Companies search(String keywords, Set<CompanyField> fields) {
+		Object[] params = new Object[] {FieldSelectors.selector(fields), QueryParamEncoder.encode(keywords)};
+		return readCompanies(restOperations.getForObject(expand(COMPANY_SEARCH_SELECT_TEMPLATE, params, false), JsonNode.class));
+	}
+	
+	private Companies readCompanies(JsonNode node) {
 		try {
 			return objectMapper.reader(new TypeReference<Companies>(){}).readValue(node.path("companies"));
 		}
@@ -106,6 +126,11 @@ class CompanyTemplate extends AbstractTemplate implements CompanyOperations {
 		return restOperations.getForObject(PRODUCTS_URL, Products.class, companyId, start, count);
 	}
 	
+	public Products getProducts(int companyId, int start, int count, Set<ProductField> fields) {
+		Object[] params = new Object[] {companyId, FieldSelectors.selector(fields), start, count};
+		return restOperations.getForObject(expand(PRODUCTS_SELECT_TEMPLATE, params, false), Products.class);
+	}
+	
 	public static final String BASE_URL = "https://api.linkedin.com/v1/";
 	public static final String COMPANY_FIELDS = "(id,name,universal-name,email-domains,company-type,ticker,website-url,industry,status,logo-url,square-logo-url,blog-rss-url,twitter-id,employee-count-range,specialties,locations,description,stock-exchange,founded-year,end-year,num-followers)";
 	public static final String COMPANY_URL = BASE_URL + "companies{id}:" + COMPANY_FIELDS + "?{filter}";
@@ -117,4 +142,9 @@ class CompanyTemplate extends AbstractTemplate implements CompanyOperations {
 	public static final String PRODUCT_FIELDS="(id,name,type,creation-timestamp,logo-url,description,features,video:(title,url),product-deal:(title,url,text),sales-persons,num-recommendations,recommendations:(recommender,id,product-id,text,reply,timestamp,likes:(timestamp,person)),product-category,website-url,disclaimer)";
 	public static final String PRODUCTS_URL = BASE_URL + "companies/{id}/products:" + PRODUCT_FIELDS +"?start={start}&count={count}";
 	
+	private static final CompiledUriTemplate COMPANY_TEMPLATE = CompiledUriTemplate.compile(COMPANY_URL);
+	private static final CompiledUriTemplate COMPANY_SELECT_TEMPLATE = CompiledUriTemplate.compile(BASE_URL + "companies{id}:{fields}?{filter}");
+	private static final CompiledUriTemplate COMPANY_SEARCH_SELECT_TEMPLATE = CompiledUriTemplate.compile(BASE_URL + "company-search:(companies:{fields})?keywords={keywords}");
+	private static final CompiledUriTemplate PRODUCTS_SELECT_TEMPLATE = CompiledUriTemplate.compile(BASE_URL + "companies/{id}/products:{fields}?start={start}&count={count}");
+	
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * URI template parsed once into literal and variable segments.
+ * <p>
+ * Supports plain <code>{name}</code> variables, which expand to their value, and
+ * <code>{&amp;name}</code> optional query parameters, which expand to <code>name=value</code>
+ * (preceded by '&amp;' unless the URI so far ends with '?' or '&amp;') or to nothing when the value is null or empty.
+ * Variables are bound by position.
+ * </p>
+ * @author agent
+ */
+final class CompiledUriTemplate {
+
+	private static final ConcurrentMap<String, CompiledUriTemplate> CACHE = new ConcurrentHashMap<String, CompiledUriTemplate>();
+
+	private final String template;
+
+	/** literals[i] precedes variable i; the last element is the tail. */
+	private final String[] literals;
+
+	/** Query parameter name for {&amp;name} variables, null for plain variables. */
+	private final String[] queryNames;
+
+	private final int literalLength;
+
+	private CompiledUriTemplate(String template, String[] literals, String[] queryNames) {
+		this.template = template;
+		this.literals = literals;
+		this.queryNames = queryNames;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Returns the compiled form of a template, parsing it on first use only.
+	 */
+	static CompiledUriTemplate compile(String template) {
+		CompiledUriTemplate compiled = CACHE.get(template);
+		if (compiled == null) {
+			compiled = parse(template);
+			CompiledUriTemplate existing = CACHE.putIfAbsent(template, compiled);
+			if (existing != null) {
+				compiled = existing;
+			}
+		}
+		return compiled;
+	}
+
+	int getVariableCount() {
+		return queryNames.length;
+	}
+
+	URI expand(Object[] variables, boolean encode) {
+		String uri = expandToString(variables, encode);
+		try {
+			return new URI(uri);
+		}
+		catch (URISyntaxException ex) {
+			throw new IllegalArgumentException("Could not create URI from [" + uri + "]: " + ex, ex);
+		}
+	}
+
+	String expandToString(Object[] variables, boolean encode) {
+		if (variables.length < queryNames.length) {
+			throw new IllegalArgumentException("Not enough variable values available to expand [" + template + "]");
+		}
+		StringBuilder buffer = new StringBuilder(literalLength + 16 * queryNames.length);
+		for (int i = 0; i < queryNames.length; i++) {
+			buffer.append(literals[i]);
+			Object variable = variables[i];
+			if (variable == null) {
+				continue;
+			}
+			String value = variable.toString();
+			String name = queryNames[i];
+			if (name != null) {
+				if (value.length() == 0) {
+					continue;
+				}
+				int last = buffer.length() - 1;
+				if (last >= 0 && buffer.charAt(last) != '?' && buffer.charAt(last) != '&') {
+					buffer.append('&');
+				}
+				buffer.append(name).append('=');
+			}
+			if (encode) {
+				QueryParamEncoder.encode(value, buffer);
+			}
+			else {
+				buffer.append(value);
+			}
+		}
+		buffer.append(literals[literals.length - 1]);
+		return buffer.toString();
+	}
+
+	@Override
+	public String toString() {
+		return template;
+	}
+
+	/*
+	 * Variables are brace-delimited names containing no '/' (the same rule the
+	 * regular expression \{([^/]+?)\} applied before templates were compiled).
+	 */
+	private static CompiledUriTemplate parse(String template) {
+		List<String> literals = new ArrayList<String>();
+		List<String> queryNames = new ArrayList<String>();
+		int literalStart = 0;
+		int open = template.indexOf('{');
+		while (open >= 0) {
+			int close = template.indexOf('}', open + 1);
+			if (close < 0) {
+				break;
+			}
+			String name = template.substring(open + 1, close);
+			if (name.length() == 0 || name.indexOf('/') >= 0) {
+				open = template.indexOf('{', open + 1);
+				continue;
+			}
+			literals.add(template.substring(literalStart, open));
+			queryNames.add(name.charAt(0) == '&' ? name.substring(1) : null);
+			literalStart = close + 1;
+			open = template.indexOf('{', literalStart);
+		}
+		literals.add(template.substring(literalStart));
+		return new CompiledUriTemplate(template, literals.toArray(new String[literals.size()]), queryNames.toArray(new String[queryNames.size()]));
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Builds LinkedIn field selectors such as <code>(id,name,logo-url)</code> from sets of field enums,
+ * caching the selector for each distinct set.
+ * Fields are always listed in declaration order, so equal sets share one selector.
+ *
+ * @author agent
+ */
+final class FieldSelectors {
+
+	private static final ConcurrentMap<Set<?>, String> CACHE = new ConcurrentHashMap<Set<?>, String>();
+
+	private FieldSelectors() {
+	}
+
+	static <E extends Enum<E>> String selector(Set<E> fields) {
+		Assert.notEmpty(fields, "At least one field must be selected");
+		String selector = CACHE.get(fields);
+		if (selector == null) {
+			EnumSet<E> ordered = EnumSet.copyOf(fields);
+			StringBuilder b = new StringBuilder(ordered.size() * 16);
+			b.append('(');
+			for (E field : ordered) {
+				if (b.length() > 1) {
+					b.append(',');
+				}
+				b.append(field);
+			}
+			b.append(')');
+			selector = b.toString();
+			CACHE.putIfAbsent(ordered, selector);
+		}
+		return selector;
+	}
+
+}
@@ -19,9 +19,11 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.social.linkedin.api.Group;
 import org.springframework.social.linkedin.api.Group.GroupPosts;
+import org.springframework.social.linkedin.api.GroupField;
 import org.springframework.social.linkedin.api.GroupMemberships;
 import org.springframework.social.linkedin.api.GroupOperations;
 import org.springframework.social.linkedin.api.GroupSuggestions;
@@ -40,12 +42,16 @@ class GroupTemplate extends AbstractTemplate implements GroupOperations {
 		return restOperations.getForObject(GROUP_DETAILS_URL, Group.class, id);
 	}
 	
+	public Group getGroupDetails(Integer id, Set<GroupField> fields) {
+		return restOperations.getForObject(expand(GROUP_DETAILS_SELECT_TEMPLATE, new Object[] {id, FieldSelectors.selector(fields)}, false), Group.class);
+	}
+	
 	public GroupMemberships getGroupMemberships() {
 		return restOperations.getForObject(GROUP_MEMBERSHIPS_URL, GroupMemberships.class);
 	}
 	
 	public GroupMemberships getGroupMemberships(int start, int count) {
-		return restOperations.getForObject(GROUP_MEMBERSHIPS_URL + "?start=" + start + "&count=" + count, 
+		return restOperations.getForObject(expand(GROUP_MEMBERSHIPS_PAGE_TEMPLATE, new Object[] {start, count}, false), 
 				GroupMemberships.class);
 	}
 	
@@ -54,7 +60,7 @@ class GroupTemplate extends AbstractTemplate implements GroupOperations {
 	}
 	
 	public GroupSuggestions getGroupSuggestions(int start, int count) {
-		return restOperations.getForObject(GROUP_SUGGESTIONS_URL + "?start=" + start + "&count=" + count, 
+		return restOperations.getForObject(expand(GROUP_SUGGESTIONS_PAGE_TEMPLATE, new Object[] {start, count}, false), 
 				GroupSuggestions.class);
 	}
 	
@@ -63,8 +69,8 @@ class GroupTemplate extends AbstractTemplate implements GroupOperations {
 	}
 	
 	public GroupPosts getPosts(Integer groupId, int start, int count) {
-		return restOperations.getForObject(GROUP_POSTS_URL + "&start=" + start + "&count=" + count, 
-				GroupPosts.class, groupId);
+		return restOperations.getForObject(expand(GROUP_POSTS_PAGE_TEMPLATE, new Object[] {groupId, start, count}, false), 
+				GroupPosts.class);
 	}
 	
 	public PostComments getPostComments(String postId) {
@@ -72,8 +78,8 @@ class GroupTemplate extends AbstractTemplate implements GroupOperations {
 	}
 	
 	public PostComments getPostComments(String postId, int start, int count) {
-		return restOperations.getForObject(GROUP_POST_COMMENTS_URL + "?start=" + start + "&count=" + count, 
-				PostComments.class, postId);
+		return restOperations.getForObject(expand(GROUP_POST_COMMENTS_PAGE_TEMPLATE, new Object[] {postId, start, count}, true), 
+				PostComments.class);
 	}
 	
 	public void joinGroup(Integer groupId) {
@@ -159,5 +165,12 @@ class GroupTemplate extends AbstractTemplate implements GroupOperations {
 	public static final String GROUP_POST_DELETE_URL = GROUP_POSTS_BASE_URL + "{post-id}";
 	public static final String GROUP_POST_ADD_COMMENT_URL = GROUP_POSTS_BASE_URL + "{post-id}/comments";
 	public static final String GROUP_POST_DELETE_COMMENT_URL = BASE_URL + "comments/{comment-id}";
+	
+	private static final CompiledUriTemplate GROUP_DETAILS_SELECT_TEMPLATE = CompiledUriTemplate.compile(GROUP_BASE_URL + "{group-id}:{fields}");
+	private static final String PAGE_PARAMETERS = "{&start}{&count}";
+	private static final CompiledUriTemplate GROUP_MEMBERSHIPS_PAGE_TEMPLATE = CompiledUriTemplate.compile(GROUP_MEMBERSHIPS_URL + "?" + PAGE_PARAMETERS);
+	private static final CompiledUriTemplate GROUP_SUGGESTIONS_PAGE_TEMPLATE = CompiledUriTemplate.compile(GROUP_SUGGESTIONS_URL + "?" + PAGE_PARAMETERS);
+	private static final CompiledUriTemplate GROUP_POSTS_PAGE_TEMPLATE = CompiledUriTemplate.compile(GROUP_POSTS_URL + PAGE_PARAMETERS);
+	private static final CompiledUriTemplate GROUP_POST_COMMENTS_PAGE_TEMPLATE = CompiledUriTemplate.compile(GROUP_POST_COMMENTS_URL + "?" + PAGE_PARAMETERS);
 
 }
@@ -17,9 +17,11 @@ package org.springframework.social.linkedin.api.impl;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.social.linkedin.api.Job;
 import org.springframework.social.linkedin.api.JobBookmarks;
+import org.springframework.social.linkedin.api.JobField;
 import org.springframework.social.linkedin.api.JobOperations;
 import org.springframework.social.linkedin.api.JobSearchParameters;
 import org.springframework.social.linkedin.api.Jobs;
@@ -46,6 +48,18 @@ class JobTemplate extends AbstractTemplate implements JobOperations {
 	}
 	
 	public Jobs searchJobs(JobSearchParameters parameters) {
+		return searchJobs(SEARCH_TEMPLATE, parameters, null);
+	}
+	
+	public Jobs searchJobs(JobSearchParameters parameters, Set<JobField> fields) {
+		return searchJobs(SEARCH_SELECT_TEMPLATE, parameters, FieldSelectors.selector(fields));
+	}
+	
+	/*
+	 * The selector, when present, is the first template variable. It is expanded with
+	 * the other parameters but contains only characters the encoder leaves as is.
+	 */
+	private Jobs searchJobs(CompiledUriTemplate template, JobSearchParameters parameters, String selector) {
 		Object[] params = new Object[] {
 				parameters.getKeywords(),
 				parameters.getCompanyName(),
@@ -57,8 +71,14 @@ class JobTemplate extends AbstractTemplate implements JobOperations {
 				parameters.getCount(),
 				parameters.getSort()
 		};
+		if (selector != null) {
+			Object[] selectParams = new Object[params.length + 1];
+			selectParams[0] = selector;
+			System.arraycopy(params, 0, selectParams, 1, params.length);
+			params = selectParams;
+		}
 		
-		JsonNode node = restOperations.getForObject(expand(SEARCH_URL, params, true), JsonNode.class);
+		JsonNode node = restOperations.getForObject(expand(template, params, true), JsonNode.class);
 		
 		try {
 			return objectMapper.reader(new TypeReference<Jobs>(){}).readValue(node.path("jobs"));
@@ -72,6 +92,10 @@ class JobTemplate extends AbstractTemplate implements JobOperations {
 		return restOperations.getForObject(JOB_URL, Job.class, id);
 	}
 	
+	public Job getJob(int id, Set<JobField> fields) {
+		return restOperations.getForObject(expand(JOB_SELECT_TEMPLATE, new Object[] {id, FieldSelectors.selector(fields)}, false), Job.class);
+	}
+	
 	public void bookmarkJob(int id) {
 		Map<String, Map<String,Integer>> jobDetails = new HashMap<String,Map<String,Integer>>();
 		Map<String,Integer>idDetails = new HashMap<String,Integer>();
@@ -85,7 +109,7 @@ class JobTemplate extends AbstractTemplate implements JobOperations {
 	}
 	
 	public Jobs getSuggestions(int start, int count) {
-		JsonNode node =  restOperations.getForObject(expand(SUGGESTED_URL, new Object[] {start,count}, false), JsonNode.class);
+		JsonNode node =  restOperations.getForObject(expand(SUGGESTED_TEMPLATE, new Object[] {start,count}, false), JsonNode.class);
 		
 		try {
 			return objectMapper.reader(new TypeReference<Jobs>(){}).readValue(node.path("jobs"));
@@ -96,7 +120,7 @@ class JobTemplate extends AbstractTemplate implements JobOperations {
 	}
 	
 	public JobBookmarks getBookmarks(int start, int count) {
-		return restOperations.getForObject(expand(BOOKMARKS_URL, new Object[] {start,count}, false), JobBookmarks.class);		
+		return restOperations.getForObject(expand(BOOKMARKS_TEMPLATE, new Object[] {start,count}, false), JobBookmarks.class);		
 	}
 	
 	public static final String BASE_URL = "https://api.linkedin.com/v1/";
@@ -108,5 +132,11 @@ class JobTemplate extends AbstractTemplate implements JobOperations {
 	public static final String BOOKMARKS_URL = BOOKMARK_URL + "?{&start}{&count}";
 	public static final String UNBOOKMARK_URL = BASE_URL + "people/~/job-bookmarks/{job-id}";
 	public static final String SUGGESTED_URL = BASE_URL + "people/~/suggestions/job-suggestions:" + SEARCH_FIELDS + "?{&start}{&count}";
+	
+	private static final CompiledUriTemplate SEARCH_TEMPLATE = CompiledUriTemplate.compile(SEARCH_URL);
+	private static final CompiledUriTemplate SEARCH_SELECT_TEMPLATE = CompiledUriTemplate.compile(BASE_URL + "job-search:(jobs:{fields})" + SEARCH_URL.substring(SEARCH_URL.indexOf('?')));
+	private static final CompiledUriTemplate JOB_SELECT_TEMPLATE = CompiledUriTemplate.compile(BASE_URL + "jobs/{id}:{fields}");
+	private static final CompiledUriTemplate BOOKMARKS_TEMPLATE = CompiledUriTemplate.compile(BOOKMARKS_URL);
+	private static final CompiledUriTemplate SUGGESTED_TEMPLATE = CompiledUriTemplate.compile(SUGGESTED_URL);
 
 }
@@ -16,8 +16,11 @@
 package org.springframework.social.linkedin.api.impl;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
@@ -34,7 +37,7 @@ import org.springframework.social.linkedin.api.JobOperations;
 import org.springframework.social.linkedin.api.LinkedIn;
 import org.springframework.social.linkedin.api.NetworkUpdateOperations;
 import org.springframework.social.linkedin.api.ProfileOperations;
-import org.springframework.social.linkedin.api.impl.json.LinkedInModule;
+import org.springframework.social.linkedin.api.impl.json.LinkedInObjectMappers;
 import org.springframework.social.oauth2.AbstractOAuth2ApiBinding;
 import org.springframework.social.support.HttpRequestDecorator;
 import org.springframework.util.Assert;
@@ -42,10 +45,7 @@ import org.springframework.util.ClassUtils;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * This is the central class for interacting with LinkedIn.
@@ -68,7 +68,6 @@ public class LinkedInTemplate extends AbstractOAuth2ApiBinding implements Linked
 		registerOAuth2Interceptor(accessToken);
 		registerLinkedInJsonModule();
 		registerJsonFormatInterceptor();
-		initSubApis();
 	}
 
 	private void registerOAuth2Interceptor(String accessToken) {
@@ -78,37 +77,55 @@ public class LinkedInTemplate extends AbstractOAuth2ApiBinding implements Linked
 	}
 	
 	public ConnectionOperations connectionOperations() {
-		return connectionOperations;
+		return subApi(CONNECTIONS, ConnectionOperations.class);
 	}
 	
 	public NetworkUpdateOperations networkUpdateOperations() {
-		return networkUpdateOperations;
+		return subApi(NETWORK_UPDATES, NetworkUpdateOperations.class);
 	}
 	
 	public ProfileOperations profileOperations() {
-		return profileOperations;
+		return subApi(PROFILES, ProfileOperations.class);
 	}
 	
 	public CompanyOperations companyOperations() {
-		return companyOperations;
+		return subApi(COMPANIES, CompanyOperations.class);
 	}
 	
 	public CommunicationOperations communicationOperations() {
-		return communicationOperations;
+		return subApi(COMMUNICATIONS, CommunicationOperations.class);
 	}
 	
 	public JobOperations jobOperations() {
-		return jobOperations;
+		return subApi(JOBS, JobOperations.class);
 	}
 	
 	public GroupOperations groupOperations() {
-		return groupOperations;
+		return subApi(GROUPS, GroupOperations.class);
 	}
 	
 	public RestOperations restOperations() {
 		return getRestTemplate();
 	}
 	
+	/**
+	 * Throttles every request made through this template with the given limiter.
+	 * The same limiter may be shared by several templates to enforce a global budget.
+	 * @param rateLimiter the limiter to apply, or null to remove throttling
+	 */
+	public void setRequestRateLimiter(RequestRateLimiter rateLimiter) {
+		List<ClientHttpRequestInterceptor> interceptors = getRestTemplate().getInterceptors();
+		for (Iterator<ClientHttpRequestInterceptor> it = interceptors.iterator(); it.hasNext();) {
+			if (it.next() instanceof RateLimitingInterceptor) {
+				it.remove();
+			}
+		}
+		if (rateLimiter != null) {
+			interceptors.add(0, new RateLimitingInterceptor(rateLimiter));
+		}
+		getRestTemplate().setInterceptors(interceptors);
+	}
+	
 	@Override
 	protected void configureRestTemplate(RestTemplate restTemplate) {
 		restTemplate.setErrorHandler(new LinkedInErrorHandler());
@@ -116,16 +133,47 @@ public class LinkedInTemplate extends AbstractOAuth2ApiBinding implements Linked
 	
 	// private helpers
 	
+	private <T> T subApi(int index, Class<T> type) {
+		Object operations = subApis.get(index);
+		if (operations == null) {
+			synchronized (subApis) {
+				operations = subApis.get(index);
+				if (operations == null) {
+					operations = createSubApi(index);
+					subApis.set(index, operations);
+				}
+			}
+		}
+		return type.cast(operations);
+	}
+	
+	private Object createSubApi(int index) {
+		switch (index) {
+		case CONNECTIONS:
+			return new ConnectionTemplate(getRestTemplate());
+		case NETWORK_UPDATES:
+			return new NetworkUpdateTemplate(getRestTemplate());
+		case PROFILES:
+			return new ProfileTemplate(getRestTemplate(), objectMapper);
+		case COMPANIES:
+			return new CompanyTemplate(getRestTemplate(), objectMapper);
+		case COMMUNICATIONS:
+			return new CommunicationTemplate(getRestTemplate());
+		case JOBS:
+			return new JobTemplate(getRestTemplate(), objectMapper);
+		case GROUPS:
+			return new GroupTemplate(getRestTemplate());
+		default:
+			throw new IllegalArgumentException("No sub-API " + index);
+		}
+	}
+	
 	private void registerLinkedInJsonModule() {
 		List<HttpMessageConverter<?>> converters = getRestTemplate().getMessageConverters();
 		for (HttpMessageConverter<?> converter : converters) {
 			if(converter instanceof MappingJackson2HttpMessageConverter) {
 				MappingJackson2HttpMessageConverter jsonConverter = (MappingJackson2HttpMessageConverter) converter;
-				objectMapper = new ObjectMapper();				
-				objectMapper.registerModule(new LinkedInModule());
-				objectMapper.configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, true);
-				objectMapper.configure(Feature.ALLOW_NUMERIC_LEADING_ZEROS, true);
-				objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+				objectMapper = LinkedInObjectMappers.shared();
 				jsonConverter.setObjectMapper(objectMapper);
 			}
 		}
@@ -151,29 +199,22 @@ public class LinkedInTemplate extends AbstractOAuth2ApiBinding implements Linked
 		}
 	}
 	
-	private void initSubApis() {
-		connectionOperations = new ConnectionTemplate(getRestTemplate());
-		networkUpdateOperations = new NetworkUpdateTemplate(getRestTemplate());
-		profileOperations = new ProfileTemplate(getRestTemplate(), objectMapper);
-		companyOperations = new CompanyTemplate(getRestTemplate(), objectMapper);
-		communicationOperations = new CommunicationTemplate(getRestTemplate());
-		jobOperations = new JobTemplate(getRestTemplate(), objectMapper);
-		groupOperations = new GroupTemplate(getRestTemplate());
-	}
+	private static final int CONNECTIONS = 0;
 	
-	private NetworkUpdateOperations networkUpdateOperations;
+	private static final int NETWORK_UPDATES = 1;
 	
-	private ProfileOperations profileOperations;
+	private static final int PROFILES = 2;
 	
-	private ConnectionOperations connectionOperations;
+	private static final int COMPANIES = 3;
 	
-	private CompanyOperations companyOperations;
+	private static final int COMMUNICATIONS = 4;
 	
-	private CommunicationOperations communicationOperations;
+	private static final int JOBS = 5;
 	
-	private JobOperations jobOperations;
+	private static final int GROUPS = 6;
 	
-	private GroupOperations groupOperations;
+	// sub-APIs are created on first use; most bindings only ever use one or two of them
+	private final AtomicReferenceArray<Object> subApis = new AtomicReferenceArray<Object>(GROUPS + 1);
 	
 	private ObjectMapper objectMapper;
 	
@@ -212,5 +253,25 @@ public class LinkedInTemplate extends AbstractOAuth2ApiBinding implements Linked
 		}
 
 	}
+	
+	private static final class RateLimitingInterceptor implements ClientHttpRequestInterceptor {
+		private final RequestRateLimiter rateLimiter;
+		
+		public RateLimitingInterceptor(RequestRateLimiter rateLimiter) {
+			this.rateLimiter = rateLimiter;
+		}
+		
+		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+			try {
+				rateLimiter.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for request rate limit");
+			}
+			return execution.execute(request, body);
+		}
+		
+	}
 
 }
@@ -138,7 +138,7 @@ class NetworkUpdateTemplate extends AbstractTemplate implements NetworkUpdateOpe
 	}
 
 	private <T> T  getNetworkUpdates(NetworkUpdateParameters parameters, Class<T> responseType) {
-		return restOperations.getForObject(expand(UPDATES_URL, parameters), responseType);
+		return restOperations.getForObject(expand(UPDATES_TEMPLATE, parameters), responseType);
 	}
 
 	/*
@@ -150,13 +150,13 @@ class NetworkUpdateTemplate extends AbstractTemplate implements NetworkUpdateOpe
 	 *
 	 * Also don't want to escape & or = chars
 	 */
-	private URI expand(String url, NetworkUpdateParameters parameters) {
+	private URI expand(CompiledUriTemplate template, NetworkUpdateParameters parameters) {
 		String type = null;
 		if (parameters.getUpdateAll()) {
 			type = UPDATE_TYPE_ALL_STRING;
 		}
 		else if (parameters.getUpdateTypes() != null && parameters.getUpdateTypes().size() > 0) {
-			StringBuffer b = new StringBuffer();
+			StringBuilder b = new StringBuilder(parameters.getUpdateTypes().size() * 10);
 			for (UpdateTypeInput t : parameters.getUpdateTypes() ) {
 				b.append("&type=").append(t);
 			}
@@ -174,11 +174,13 @@ class NetworkUpdateTemplate extends AbstractTemplate implements NetworkUpdateOpe
 				parameters.getShowHidden() ? "true" : null
 		};
 
-		return expand(url, variables, false);
+		return expand(template, variables, false);
 	}
 
 	static final String UPDATES_URL = BASE_URL + "{id}/network/updates?{&count}{&start}{&scope}{type}{&before}{&after}{&show-hidden-members}&format=json";
 
+	private static final CompiledUriTemplate UPDATES_TEMPLATE = CompiledUriTemplate.compile(UPDATES_URL);
+
 	static final String UPDATE_COMMENTS_URL = BASE_URL + "~/network/updates/key={key}/update-comments?format=json";
 
 	static final String UPDATE_LIKES_URL = BASE_URL + "~/network/updates/key={key}/likes?format=json";
@@ -20,6 +20,7 @@ import static org.springframework.social.linkedin.api.impl.LinkedInTemplate.*;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.util.Set;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -88,6 +89,10 @@ class ProfileTemplate extends AbstractTemplate implements ProfileOperations {
 		return getUserProfile(PROFILE_FIELDS, LinkedInProfile.class);
 	}
 	
+	public LinkedInProfile getUserProfile(Set<ProfileField> fields) {
+		return getUserProfile(":" + FieldSelectors.selector(fields) + "?format=json", LinkedInProfile.class);
+	}
+
 	public LinkedInProfileFull getUserProfileFull() {
 		return getUserProfile(FULL_PROFILE_FIELDS, LinkedInProfileFull.class);
 	}
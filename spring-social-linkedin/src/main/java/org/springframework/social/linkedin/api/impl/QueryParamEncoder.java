@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+/**
+ * Percent-encodes query parameter values as UTF-8, independently of the platform default charset.
+ * <p>
+ * Characters allowed in a query (pchar, '/' and '?') are copied as is, except '=', '+' and '&amp;',
+ * which would otherwise be read as parameter delimiters. Everything else is written as the
+ * percent-encoded bytes of its UTF-8 representation. Encoding works directly from the chars
+ * of the value into the caller's buffer.
+ * </p>
+ * @author agent
+ */
+final class QueryParamEncoder {
+
+	private static final boolean[] ALLOWED = new boolean[128];
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			ALLOWED[c] = true;
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			ALLOWED[c] = true;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			ALLOWED[c] = true;
+		}
+		// unreserved, sub-delimiters and the remaining pchar and query characters
+		for (char c : "-._~!$'()*,;:@/?".toCharArray()) {
+			ALLOWED[c] = true;
+		}
+	}
+
+	private QueryParamEncoder() {
+	}
+
+	/**
+	 * Encodes a value, returning the same instance when nothing needs escaping.
+	 */
+	static String encode(String value) {
+		int first = firstToEscape(value);
+		if (first < 0) {
+			return value;
+		}
+		StringBuilder buffer = new StringBuilder(first + (value.length() - first) * 3);
+		buffer.append(value, 0, first);
+		encode(value, first, buffer);
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends the encoded form of a value to the buffer.
+	 */
+	static void encode(String value, StringBuilder buffer) {
+		int first = firstToEscape(value);
+		if (first < 0) {
+			buffer.append(value);
+			return;
+		}
+		buffer.append(value, 0, first);
+		encode(value, first, buffer);
+	}
+
+	static boolean isAllowed(char c) {
+		return c < 128 && ALLOWED[c];
+	}
+
+	private static int firstToEscape(String value) {
+		for (int i = 0, length = value.length(); i < length; i++) {
+			if (!isAllowed(value.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void encode(String value, int from, StringBuilder buffer) {
+		for (int i = from, length = value.length(); i < length; i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				if (ALLOWED[c]) {
+					buffer.append(c);
+				}
+				else {
+					appendByte(c, buffer);
+				}
+			}
+			else if (c < 0x800) {
+				appendByte(0xC0 | (c >> 6), buffer);
+				appendByte(0x80 | (c & 0x3F), buffer);
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				appendByte(0xF0 | (codePoint >> 18), buffer);
+				appendByte(0x80 | ((codePoint >> 12) & 0x3F), buffer);
+				appendByte(0x80 | ((codePoint >> 6) & 0x3F), buffer);
+				appendByte(0x80 | (codePoint & 0x3F), buffer);
+			}
+			else if (Character.isSurrogate(c)) {
+				// unpaired surrogate, replaced the same way String.getBytes("UTF-8") does
+				buffer.append('?');
+			}
+			else {
+				appendByte(0xE0 | (c >> 12), buffer);
+				appendByte(0x80 | ((c >> 6) & 0x3F), buffer);
+				appendByte(0x80 | (c & 0x3F), buffer);
+			}
+		}
+	}
+
+	private static void appendByte(int b, StringBuilder buffer) {
+		buffer.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+	}
+
+}
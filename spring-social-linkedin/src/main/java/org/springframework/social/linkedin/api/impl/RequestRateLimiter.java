@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Spaces requests evenly so that no more than a fixed number are issued per second.
+ * One instance may be shared by any number of {@link LinkedInTemplate}s to enforce
+ * a budget across all of them.
+ *
+ * @author agent
+ */
+public class RequestRateLimiter {
+
+	private final long intervalNanos;
+
+	private long nextFreeNanos;
+
+	/**
+	 * @param permitsPerSecond maximum number of requests per second
+	 */
+	public RequestRateLimiter(double permitsPerSecond) {
+		Assert.isTrue(permitsPerSecond > 0, "Permits per second must be greater than 0");
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.nextFreeNanos = System.nanoTime();
+	}
+
+	/**
+	 * Blocks until a request may be issued.
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		long waitNanos = reserve();
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	/**
+	 * Takes a permit only if one is available immediately.
+	 * @return true if a request may be issued now
+	 */
+	public synchronized boolean tryAcquire() {
+		long now = System.nanoTime();
+		if (nextFreeNanos - now > 0) {
+			return false;
+		}
+		nextFreeNanos = now + intervalNanos;
+		return true;
+	}
+
+	public double getPermitsPerSecond() {
+		return (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos;
+	}
+
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		long start = nextFreeNanos - now > 0 ? nextFreeNanos : now;
+		nextFreeNanos = start + intervalNanos;
+		return start - now;
+	}
+
+}
@@ -32,7 +32,7 @@ class CodeDeserializer extends JsonDeserializer<String> {
 	@Override
 	public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
 		if (jp.hasCurrentToken() && jp.getCurrentToken().equals(JsonToken.START_OBJECT)) {
-			ObjectMapper mapper = new ObjectMapper();
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			JsonNode node = mapper.reader(JsonNode.class).readValue(jp);
 			return node.has(VALUE) ? node.get(VALUE).textValue() : null;
 		}
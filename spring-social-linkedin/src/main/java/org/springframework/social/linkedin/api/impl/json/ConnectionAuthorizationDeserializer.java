@@ -31,8 +31,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 final class ConnectionAuthorizationDeserializer extends JsonDeserializer<ConnectionAuthorization>  {
 
 	public ConnectionAuthorization deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new LinkedInModule());
+		ObjectMapper mapper = LinkedInObjectMappers.shared();
 		if(jp.hasCurrentToken() && jp.getCurrentToken().equals(JsonToken.START_OBJECT)) {
 			JsonNode dataNode = jp.readValueAs(JsonNode.class).get("headers").get("values").get(0);
 			if (dataNode != null) {
@@ -23,20 +23,14 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 class DeserializationUtils {
 	
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-	static {
-		OBJECT_MAPPER.registerModule(new LinkedInModule());
-	}
-
 	public static <T> T deserializeFromDataNode(JsonParser jp, DeserializationContext ctxt, String propertyName, TypeReference<T> typeReference) throws IOException, JsonProcessingException {
 		if (jp.hasCurrentToken() && jp.getCurrentToken().equals(JsonToken.START_OBJECT)) {
 			JsonNode dataNode = jp.readValueAs(JsonNode.class);
 			if (dataNode.has(propertyName)) {
-				return OBJECT_MAPPER.reader(typeReference).<T>readValue(dataNode.get(propertyName));
+				return LinkedInObjectMappers.shared().reader(typeReference).<T>readValue(dataNode.get(propertyName));
 			}
 			return null;
 		}
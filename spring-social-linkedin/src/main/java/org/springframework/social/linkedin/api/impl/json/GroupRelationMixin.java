@@ -44,8 +44,7 @@ abstract class GroupRelationMixin extends LinkedInObjectMixin {
 	
 	private static final class AvailableActionDeserializer extends JsonDeserializer<List<GroupAvailableAction>>  {
 		public List<GroupAvailableAction> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			List<GroupAvailableAction> actions = new ArrayList<GroupAvailableAction>();
 			if(jp.hasCurrentToken()) {
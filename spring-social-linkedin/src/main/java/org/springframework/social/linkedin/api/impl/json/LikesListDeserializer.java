@@ -33,8 +33,7 @@ class LikesListDeserializer extends JsonDeserializer<List<LinkedInProfile>> {
 
 	@Override
 	public List<LinkedInProfile> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new LinkedInModule());
+		ObjectMapper mapper = LinkedInObjectMappers.shared();
 		jp.setCodec(mapper);
 		if(jp.hasCurrentToken()) {
 			JsonNode dataNode = jp.readValueAs(JsonNode.class).get("values");
@@ -15,6 +15,11 @@
  */
 package org.springframework.social.linkedin.api.impl.json;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.social.linkedin.api.CodeAndName;
 import org.springframework.social.linkedin.api.Comment;
 import org.springframework.social.linkedin.api.Comments;
@@ -88,77 +93,101 @@ public class LinkedInModule extends SimpleModule {
 
 	private static final long serialVersionUID = 1L;
 
+	private static final Map<Class<?>, Class<?>> MIXINS;
+
+	static {
+		Map<Class<?>, Class<?>> mixins = new LinkedHashMap<Class<?>, Class<?>>();
+		mixins.put(LinkedInConnections.class, LinkedInConnectionsMixin.class);
+		mixins.put(LinkedInProfile.class, LinkedInProfileMixin.class);
+		mixins.put(LinkedInProfileFull.class, LinkedInProfileFullMixin.class);
+		mixins.put(MemberGroup.class, MemberGroupMixin.class);
+		mixins.put(Recommendation.class, RecommendationMixin.class);
+		mixins.put(PersonActivity.class, PersonActivityMixin.class);
+		mixins.put(Job.class, JobMixin.class);
+		mixins.put(JobPosition.class, JobPositionMixin.class);
+		mixins.put(JobBookmark.class, JobBookmarkMixin.class);
+		mixins.put(JobBookmarks.class, JobBookmarksMixin.class);
+		mixins.put(Company.class, CompanyMixin.class);
+		mixins.put(CompanyLocation.class, CompanyLocationMixin.class);
+		mixins.put(CompanyAddress.class, CompanyAddressMixin.class);
+		mixins.put(CompanyContactInfo.class, CompanyContactInfoMixin.class);
+		mixins.put(CompanyJobUpdate.class, CompanyJobUpdateMixin.class);
+		mixins.put(CodeAndName.class, CodeAndNameMixin.class);
+		mixins.put(UpdateAction.class, UpdateActionMixin.class);
+		mixins.put(CurrentShare.class, CurrentShareMixin.class);
+		mixins.put(Share.class, ShareMixin.class);
+		mixins.put(Share.ShareContent.class, ShareContentMixin.class);
+		mixins.put(Share.ShareSource.class, ShareSourceMixin.class);
+		mixins.put(Comment.class, CommentMixin.class);
+		mixins.put(Comments.class, CommentsMixin.class);
+		mixins.put(Likes.class, LikesMixin.class);
+		mixins.put(Position.class, PositionMixin.class);
+		mixins.put(ImAccount.class, ImAccountMixin.class);
+		mixins.put(TwitterAccount.class, TwitterAccountMixin.class);
+		mixins.put(UrlResource.class, UrlResourceMixin.class);
+		mixins.put(PhoneNumber.class, PhoneNumberMixin.class);
+		mixins.put(Education.class, EducationMixin.class);
+		mixins.put(Location.class, LocationMixin.class);
+		mixins.put(LinkedInDate.class, LinkedInDateMixin.class);
+		mixins.put(Relation.class, RelationMixin.class);
+		mixins.put(NetworkStatistics.class, NetworkStatisticsMixin.class);
+		mixins.put(Companies.class, CompaniesMixin.class);
+		mixins.put(LinkedInProfiles.class, LinkedInProfilesMixin.class);
+		mixins.put(Jobs.class, JobsMixin.class);
+		mixins.put(Product.class, ProductMixin.class);
+		mixins.put(ProductRecommendation.class, ProductRecommendationMixin.class);
+		mixins.put(Products.class, ProductsMixin.class);
+		mixins.put(ConnectionAuthorization.class, ConnectionAuthorizationMixin.class);
+		mixins.put(LinkedInNetworkUpdate.class, LinkedInNetworkUpdateMixin.class);
+		mixins.put(LinkedInNetworkUpdates.class, LinkedInNetworkUpdatesMixin.class);
+		mixins.put(UpdateContent.class, UpdateContentMixin.class);
+		mixins.put(UpdateContentConnection.class, UpdateContentConnectionMixin.class);
+		mixins.put(UpdateContentStatus.class, UpdateContentStatusMixin.class);
+		mixins.put(UpdateContentGroup.class, UpdateContentGroupMixin.class);
+		mixins.put(UpdateContentRecommendation.class, UpdateContentRecommendationMixin.class);
+		mixins.put(UpdateContentPersonActivity.class, UpdateContentPersonActivityMixin.class);
+		mixins.put(UpdateContentFollow.class, UpdateContentFollowMixin.class);
+		mixins.put(UpdateContentViral.class, UpdateContentViralMixin.class);
+		mixins.put(UpdateContentShare.class, UpdateContentShareMixin.class);
+		mixins.put(UpdateContentCompany.class, UpdateContentCompanyMixin.class);
+		mixins.put(Group.class, GroupMixin.class);
+		mixins.put(GroupCount.class, GroupCountMixin.class);
+		mixins.put(GroupPosts.class, GroupPostsMixin.class);
+		mixins.put(GroupRelation.class, GroupRelationMixin.class);
+		mixins.put(Post.class, PostMixin.class);
+		mixins.put(PostRelation.class, PostRelationMixin.class);
+		mixins.put(Attachment.class, AttachmentMixin.class);
+		mixins.put(PostComments.class, PostCommentsMixin.class);
+		mixins.put(PostComment.class, PostCommentMixin.class);
+		mixins.put(GroupSuggestions.class, GroupSuggestionsMixin.class);
+		mixins.put(GroupMemberships.class, GroupMembershipsMixin.class);
+		mixins.put(GroupSettings.class, GroupSettingsMixin.class);
+		MIXINS = Collections.unmodifiableMap(mixins);
+	}
+
 	public LinkedInModule() {
 		super("LinkedInModule");
 	}
+
+	/**
+	 * @return the model classes this module registers mixins for
+	 */
+	static Set<Class<?>> getTargetTypes() {
+		return MIXINS.keySet();
+	}
+
+	/**
+	 * @return the mixin classes this module registers
+	 */
+	static Iterable<Class<?>> getMixinTypes() {
+		return MIXINS.values();
+	}
 	
 	@Override
 	public void setupModule(SetupContext context) {
-		context.setMixInAnnotations(LinkedInConnections.class, LinkedInConnectionsMixin.class);
-		context.setMixInAnnotations(LinkedInProfile.class, LinkedInProfileMixin.class);
-		context.setMixInAnnotations(LinkedInProfileFull.class, LinkedInProfileFullMixin.class);
-		context.setMixInAnnotations(MemberGroup.class, MemberGroupMixin.class);
-		context.setMixInAnnotations(Recommendation.class, RecommendationMixin.class);
-		context.setMixInAnnotations(PersonActivity.class, PersonActivityMixin.class);
-		context.setMixInAnnotations(Job.class, JobMixin.class);
-		context.setMixInAnnotations(JobPosition.class, JobPositionMixin.class);
-		context.setMixInAnnotations(JobBookmark.class, JobBookmarkMixin.class);
-		context.setMixInAnnotations(JobBookmarks.class, JobBookmarksMixin.class);
-		context.setMixInAnnotations(Company.class, CompanyMixin.class);
-		context.setMixInAnnotations(CompanyLocation.class, CompanyLocationMixin.class);
-		context.setMixInAnnotations(CompanyAddress.class, CompanyAddressMixin.class);
-		context.setMixInAnnotations(CompanyContactInfo.class, CompanyContactInfoMixin.class);
-		context.setMixInAnnotations(CompanyJobUpdate.class, CompanyJobUpdateMixin.class);
-		context.setMixInAnnotations(CodeAndName.class, CodeAndNameMixin.class);
-		context.setMixInAnnotations(UpdateAction.class, UpdateActionMixin.class);
-		context.setMixInAnnotations(CurrentShare.class, CurrentShareMixin.class);
-		context.setMixInAnnotations(Share.class, ShareMixin.class);
-		context.setMixInAnnotations(Share.ShareContent.class, ShareContentMixin.class);
-		context.setMixInAnnotations(Share.ShareSource.class, ShareSourceMixin.class);
-		context.setMixInAnnotations(Comment.class, CommentMixin.class);
-		context.setMixInAnnotations(Comments.class, CommentsMixin.class);
-		context.setMixInAnnotations(Likes.class, LikesMixin.class);
-		context.setMixInAnnotations(Position.class, PositionMixin.class);
-		context.setMixInAnnotations(ImAccount.class, ImAccountMixin.class);
-		context.setMixInAnnotations(TwitterAccount.class, TwitterAccountMixin.class);
-		context.setMixInAnnotations(UrlResource.class, UrlResourceMixin.class);
-		context.setMixInAnnotations(PhoneNumber.class, PhoneNumberMixin.class);
-		context.setMixInAnnotations(Education.class, EducationMixin.class);
-		context.setMixInAnnotations(Location.class, LocationMixin.class);
-		context.setMixInAnnotations(LinkedInDate.class, LinkedInDateMixin.class);
-		context.setMixInAnnotations(Relation.class, RelationMixin.class);
-		context.setMixInAnnotations(NetworkStatistics.class, NetworkStatisticsMixin.class);
-		context.setMixInAnnotations(Companies.class, CompaniesMixin.class);
-		context.setMixInAnnotations(LinkedInProfiles.class, LinkedInProfilesMixin.class);
-		context.setMixInAnnotations(Jobs.class, JobsMixin.class);
-		context.setMixInAnnotations(Product.class, ProductMixin.class);
-		context.setMixInAnnotations(ProductRecommendation.class, ProductRecommendationMixin.class);
-		context.setMixInAnnotations(Products.class, ProductsMixin.class);
-		context.setMixInAnnotations(ConnectionAuthorization.class, ConnectionAuthorizationMixin.class);		
-		context.setMixInAnnotations(LinkedInNetworkUpdate.class, LinkedInNetworkUpdateMixin.class);
-		context.setMixInAnnotations(LinkedInNetworkUpdates.class, LinkedInNetworkUpdatesMixin.class);
-		context.setMixInAnnotations(UpdateContent.class, UpdateContentMixin.class);
-		context.setMixInAnnotations(UpdateContentConnection.class, UpdateContentConnectionMixin.class);
-		context.setMixInAnnotations(UpdateContentStatus.class, UpdateContentStatusMixin.class);
-		context.setMixInAnnotations(UpdateContentGroup.class, UpdateContentGroupMixin.class);
-		context.setMixInAnnotations(UpdateContentRecommendation.class, UpdateContentRecommendationMixin.class);
-		context.setMixInAnnotations(UpdateContentPersonActivity.class, UpdateContentPersonActivityMixin.class);
-		context.setMixInAnnotations(UpdateContentFollow.class, UpdateContentFollowMixin.class);
-		context.setMixInAnnotations(UpdateContentViral.class, UpdateContentViralMixin.class);
-		context.setMixInAnnotations(UpdateContentShare.class, UpdateContentShareMixin.class);
-		context.setMixInAnnotations(UpdateContentCompany.class, UpdateContentCompanyMixin.class);
-		context.setMixInAnnotations(Group.class, GroupMixin.class);
-		context.setMixInAnnotations(GroupCount.class, GroupCountMixin.class);
-		context.setMixInAnnotations(GroupPosts.class, GroupPostsMixin.class);
-		context.setMixInAnnotations(GroupRelation.class, GroupRelationMixin.class);
-		context.setMixInAnnotations(Post.class, PostMixin.class);
-		context.setMixInAnnotations(PostRelation.class, PostRelationMixin.class);
-		context.setMixInAnnotations(Attachment.class, AttachmentMixin.class);
-		context.setMixInAnnotations(PostComments.class, PostCommentsMixin.class);
-		context.setMixInAnnotations(PostComment.class, PostCommentMixin.class);
-		context.setMixInAnnotations(GroupSuggestions.class, GroupSuggestionsMixin.class);
-		context.setMixInAnnotations(GroupMemberships.class, GroupMembershipsMixin.class);
-		context.setMixInAnnotations(GroupSettings.class, GroupSettingsMixin.class);
+		for (Map.Entry<Class<?>, Class<?>> mixin : MIXINS.entrySet()) {
+			context.setMixInAnnotations(mixin.getKey(), mixin.getValue());
+		}
 	}
 
 }
@@ -45,8 +45,7 @@ class LinkedInNetworkUpdateListDeserializer extends JsonDeserializer<LinkedInNet
 
 	@Override
 	public LinkedInNetworkUpdate deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new LinkedInModule());
+		ObjectMapper mapper = LinkedInObjectMappers.shared();
 		jp.setCodec(mapper);
 		
 		JsonNode dataNode = jp.readValueAs(JsonNode.class);
@@ -67,8 +67,7 @@ abstract class LinkedInNetworkUpdateMixin extends LinkedInObjectMixin {
 	private static class UpdatedFieldsListDeserializer extends JsonDeserializer<List<String>> {
 		@Override
 		public List<String> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			if(jp.hasCurrentToken()) {
 				JsonNode dataNode = jp.readValueAs(JsonNode.class).get("values");
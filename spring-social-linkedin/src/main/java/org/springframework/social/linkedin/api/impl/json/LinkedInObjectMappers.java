@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Provides the {@link ObjectMapper} shared by every LinkedInTemplate and by the module's nested deserializers.
+ * <p>
+ * Jackson introspects each model class and its mixin the first time the type is read, and caches the result
+ * in the mapper. Sharing one mapper means that work happens once per application instead of once per template,
+ * and {@link #warmUp()} moves it to startup so the first requests are not slowed down by it.
+ * The shared mapper must not be reconfigured; use {@link #create()} for a private copy.
+ * </p>
+ * @author agent
+ */
+public final class LinkedInObjectMappers {
+
+	private LinkedInObjectMappers() {
+	}
+
+	/**
+	 * @return the shared mapper, created on first use
+	 */
+	public static ObjectMapper shared() {
+		return SharedMapperHolder.MAPPER;
+	}
+
+	/**
+	 * @return a new mapper configured like the shared one
+	 */
+	public static ObjectMapper create() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new LinkedInModule());
+		objectMapper.configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, true);
+		objectMapper.configure(Feature.ALLOW_NUMERIC_LEADING_ZEROS, true);
+		objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		return objectMapper;
+	}
+
+	/**
+	 * Creates the shared mapper and builds its deserializers for every LinkedIn model class.
+	 * Call once during application startup; later calls return immediately.
+	 */
+	public static void warmUp() {
+		SharedMapperHolder.warmUp();
+	}
+
+	private static final class SharedMapperHolder {
+
+		static final ObjectMapper MAPPER = create();
+
+		private static volatile boolean warm;
+
+		static synchronized void warmUp() {
+			if (warm) {
+				return;
+			}
+			for (Class<?> type : LinkedInModule.getTargetTypes()) {
+				// readers fetch their root deserializer eagerly, leaving it in the mapper's cache
+				MAPPER.readerFor(type);
+			}
+			warm = true;
+		}
+
+	}
+
+}
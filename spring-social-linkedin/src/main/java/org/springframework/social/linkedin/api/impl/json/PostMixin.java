@@ -68,8 +68,7 @@ abstract class PostMixin extends LinkedInObjectMixin {
 	
 	private static final class LikesListDeserializer extends JsonDeserializer<List<LinkedInProfile>>  {
 		public List<LinkedInProfile> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			List<LinkedInProfile> likes = new ArrayList<LinkedInProfile>();
 			if(jp.hasCurrentToken()) {
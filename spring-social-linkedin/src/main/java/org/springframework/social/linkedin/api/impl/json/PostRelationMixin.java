@@ -44,8 +44,7 @@ abstract class PostRelationMixin extends LinkedInObjectMixin {
 	
 	private static final class AvailableActionDeserializer extends JsonDeserializer<List<PostAvailableAction>>  {
 		public List<PostAvailableAction> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			List<PostAvailableAction> actions = new ArrayList<PostAvailableAction>();
 			if(jp.hasCurrentToken()) {
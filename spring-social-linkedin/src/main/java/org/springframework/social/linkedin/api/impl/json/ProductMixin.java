@@ -53,8 +53,7 @@ abstract class ProductMixin extends LinkedInObjectMixin {
 	
 	private static final class ProductRecommendationListDeserializer extends JsonDeserializer<List<ProductRecommendation>>  {
 		public List<ProductRecommendation> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			if(jp.hasCurrentToken()) {
 				JsonNode dataNode = jp.readValueAs(JsonNode.class).get("values");
@@ -31,8 +31,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class RecommendationsListDeserializer extends JsonDeserializer<List<Recommendation>>  {
 	
 	public List<Recommendation> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new LinkedInModule());
+		ObjectMapper mapper = LinkedInObjectMappers.shared();
 		jp.setCodec(mapper);
 		if(jp.hasCurrentToken()) {
 			JsonNode dataNode = jp.readValueAs(JsonNode.class).get("values");
@@ -73,8 +73,7 @@ abstract class UpdateActionMixin extends LinkedInObjectMixin {
 	
 	private static class CommentsListDeserializer extends JsonDeserializer<List<Comment>>  {
 		public List<Comment> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			if(jp.hasCurrentToken()) {
 				JsonNode dataNode = jp.readValueAs(JsonNode.class).get("values");
@@ -89,8 +88,7 @@ abstract class UpdateActionMixin extends LinkedInObjectMixin {
 	private static class UpdateContentDeserializer extends JsonDeserializer<UpdateContent> {
 		@Override
 		public UpdateContent deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			
 			JsonNode content = jp.readValueAs(JsonNode.class);
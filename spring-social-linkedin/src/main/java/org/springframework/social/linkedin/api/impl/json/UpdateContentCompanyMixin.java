@@ -61,8 +61,7 @@ abstract class UpdateContentCompanyMixin extends LinkedInObjectMixin {
 	private static final class CompanyStatusUpdateDeserializer extends JsonDeserializer<Share> {
 		@Override
 		public Share deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			
 			JsonNode node = (JsonNode) jp.readValueAs(JsonNode.class);
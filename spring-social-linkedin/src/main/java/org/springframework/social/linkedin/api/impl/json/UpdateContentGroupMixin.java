@@ -55,8 +55,7 @@ abstract class UpdateContentGroupMixin extends LinkedInObjectMixin {
 		@SuppressWarnings("unchecked")
 		@Override
 		public List<MemberGroup> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.registerModule(new LinkedInModule());
+			ObjectMapper mapper = LinkedInObjectMappers.shared();
 			jp.setCodec(mapper);
 			if(jp.hasCurrentToken()) {
 				JsonNode dataNode = jp.readValueAs(JsonNode.class).get("values");
@@ -15,6 +15,11 @@
  */
 package org.springframework.social.linkedin.config.support;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.social.UserIdSource;
@@ -22,35 +27,167 @@ import org.springframework.social.config.xml.ApiHelper;
 import org.springframework.social.connect.Connection;
 import org.springframework.social.connect.UsersConnectionRepository;
 import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.util.Assert;
 
 /**
  * Support class for JavaConfig and XML configuration support.
  * Creates an API binding instance for the current user's connection.
+ * <p>
+ * Primary connections can be memoized per user id for a short time, so repeated API access within a request,
+ * or across the requests of an active user, does not query the connection repository each time.
+ * Memoization is off unless a time to live is set; when it is on, call {@link #invalidate(String)} when a user's
+ * connections change (for example from a connect and disconnect interceptor), and {@link #warmUp(Collection)}
+ * to load the connections of many users ahead of a batch job.
+ * </p>
  * @author Craig Walls
  */
 public class LinkedInApiHelper implements ApiHelper<LinkedIn> {
 
+	/** Default time to live of a memoized connection, in seconds; connections are not memoized by default. */
+	public static final int DEFAULT_CACHE_TIME_TO_LIVE = 0;
+
+	/** Default maximum number of memoized connections. */
+	public static final int DEFAULT_MAX_CACHE_SIZE = 10000;
+
 	private final UsersConnectionRepository usersConnectionRepository;
 
 	private final UserIdSource userIdSource;
 
+	private final Map<String, CachedConnection> connections = new LinkedHashMap<String, CachedConnection>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedConnection> eldest) {
+			return size() > maxCacheSize;
+		}
+	};
+
+	private volatile long timeToLiveNanos = TimeUnit.SECONDS.toNanos(DEFAULT_CACHE_TIME_TO_LIVE);
+
+	private volatile int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+
+	// bumped on every invalidation, so that a lookup started before it does not memoize what it found
+	private long version;
+
 	private LinkedInApiHelper(UsersConnectionRepository usersConnectionRepository, UserIdSource userIdSource) {
 		this.usersConnectionRepository = usersConnectionRepository;
 		this.userIdSource = userIdSource;		
 	}
 
+	/**
+	 * Sets how long a user's primary connection is reused before it is looked up again.
+	 * @param seconds the time to live in seconds; 0 turns memoization off
+	 */
+	public void setCacheTimeToLive(int seconds) {
+		Assert.isTrue(seconds >= 0, "Time to live must not be negative");
+		this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(seconds);
+		if (seconds == 0) {
+			invalidateAll();
+		}
+	}
+
+	/**
+	 * Sets the maximum number of users whose connections are memoized; the least recently used are evicted first.
+	 */
+	public void setMaxCacheSize(int maxCacheSize) {
+		Assert.isTrue(maxCacheSize > 0, "Maximum cache size must be greater than 0");
+		this.maxCacheSize = maxCacheSize;
+	}
+
 	public LinkedIn getApi() {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Getting API binding instance for LinkedIn");
 		}
 		
-		Connection<LinkedIn> connection = usersConnectionRepository.createConnectionRepository(userIdSource.getUserId()).findPrimaryConnection(LinkedIn.class);
+		Connection<LinkedIn> connection = getPrimaryConnection(userIdSource.getUserId());
 		if (logger.isDebugEnabled() && connection == null) {
 			logger.debug("No current connection; Returning default LinkedInTemplate instance.");
 		}
 		return connection != null ? connection.getApi() : null;
 	}
 
+	/**
+	 * Forgets the memoized connection of a user, for example after the user connected, reconnected or disconnected.
+	 */
+	public void invalidate(String userId) {
+		synchronized (connections) {
+			connections.remove(userId);
+			version++;
+		}
+	}
+
+	public void invalidateAll() {
+		synchronized (connections) {
+			connections.clear();
+			version++;
+		}
+	}
+
+	/**
+	 * Looks up and memoizes the primary connections of the given users, so that a background job
+	 * processing them does not wait on the connection repository for each one.
+	 * @param userIds the local user ids
+	 * @return the number of users that have a LinkedIn connection
+	 */
+	public int warmUp(Collection<String> userIds) {
+		int connected = 0;
+		for (String userId : userIds) {
+			if (getPrimaryConnection(userId) != null) {
+				connected++;
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Warmed up LinkedIn connections of " + userIds.size() + " users; " + connected + " connected.");
+		}
+		return connected;
+	}
+
+	private Connection<LinkedIn> getPrimaryConnection(String userId) {
+		long timeToLive = this.timeToLiveNanos;
+		if (timeToLive == 0) {
+			return findPrimaryConnection(userId);
+		}
+		long now = System.nanoTime();
+		long lookupVersion;
+		synchronized (connections) {
+			CachedConnection cached = connections.get(userId);
+			if (cached != null && now - cached.expiresAt < 0 && !cached.connection.hasExpired()) {
+				return cached.connection;
+			}
+			lookupVersion = version;
+		}
+		Connection<LinkedIn> connection = findPrimaryConnection(userId);
+		synchronized (connections) {
+			if (lookupVersion != version) {
+				// invalidated while looking up; what was found may already be stale
+				return connection;
+			}
+			// users without a connection are not memoized, so that connecting takes effect immediately
+			if (connection != null) {
+				connections.put(userId, new CachedConnection(connection, now + timeToLive));
+			}
+			else {
+				connections.remove(userId);
+			}
+		}
+		return connection;
+	}
+
+	private Connection<LinkedIn> findPrimaryConnection(String userId) {
+		return usersConnectionRepository.createConnectionRepository(userId).findPrimaryConnection(LinkedIn.class);
+	}
+
+	private static final class CachedConnection {
+
+		final Connection<LinkedIn> connection;
+
+		final long expiresAt;
+
+		CachedConnection(Connection<LinkedIn> connection, long expiresAt) {
+			this.connection = connection;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
 	private final static Log logger = LogFactory.getLog(LinkedInApiHelper.class);
 
 }
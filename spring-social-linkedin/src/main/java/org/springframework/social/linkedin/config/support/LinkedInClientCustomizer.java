@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.config.support;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.social.linkedin.api.impl.RequestRateLimiter;
+import org.springframework.social.linkedin.connect.LinkedInTemplateCustomizer;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Support class for XML configuration and Spring Boot auto-configuration support.
+ * Holds the client infrastructure shared by every LinkedIn API binding of an application: one request factory,
+ * pooled when Apache HttpClient is on the classpath, with the configured timeouts, and an optional rate limit
+ * that all bindings draw from.
+ * <p>
+ * The request factory is created when the first binding is customized; set every property before then.
+ * </p>
+ * @author agent
+ */
+public class LinkedInClientCustomizer implements LinkedInTemplateCustomizer, DisposableBean {
+
+	/** Default maximum number of pooled connections, in total and per route. */
+	public static final int DEFAULT_MAX_CONNECTIONS = 50;
+
+	private static final boolean httpClientPresent = ClassUtils.isPresent("org.apache.http.client.HttpClient", LinkedInClientCustomizer.class.getClassLoader());
+
+	private int connectTimeout = -1;
+
+	private int readTimeout = -1;
+
+	private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+	private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS;
+
+	private RequestRateLimiter rateLimiter;
+
+	private volatile ClientHttpRequestFactory requestFactory;
+
+	/**
+	 * @param connectTimeout the connect timeout in milliseconds; 0 waits indefinitely
+	 */
+	public void setConnectTimeout(int connectTimeout) {
+		Assert.isTrue(connectTimeout >= 0, "Connect timeout must not be negative");
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * @param readTimeout the read timeout in milliseconds; 0 waits indefinitely
+	 */
+	public void setReadTimeout(int readTimeout) {
+		Assert.isTrue(readTimeout >= 0, "Read timeout must not be negative");
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * Sets the maximum number of pooled connections; ignored without Apache HttpClient.
+	 */
+	public void setMaxConnections(int maxConnections) {
+		Assert.isTrue(maxConnections > 0, "Maximum connections must be greater than 0");
+		this.maxConnections = maxConnections;
+	}
+
+	/**
+	 * Sets the maximum number of pooled connections to one host; ignored without Apache HttpClient.
+	 */
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		Assert.isTrue(maxConnectionsPerRoute > 0, "Maximum connections per route must be greater than 0");
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+
+	/**
+	 * Limits the requests sent by all bindings together to the given rate.
+	 */
+	public void setPermitsPerSecond(double permitsPerSecond) {
+		this.rateLimiter = new RequestRateLimiter(permitsPerSecond);
+	}
+
+	/**
+	 * Limits the requests sent by all bindings together with the given limiter, which may also be used elsewhere.
+	 * @param rateLimiter the limiter, or null for no limit
+	 */
+	public void setRateLimiter(RequestRateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+	}
+
+	public RequestRateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	public void customize(LinkedInTemplate template) {
+		template.setRequestFactory(getRequestFactory());
+		if (rateLimiter != null) {
+			template.setRequestRateLimiter(rateLimiter);
+		}
+	}
+
+	/**
+	 * @return the request factory shared by every binding, created on first use
+	 */
+	public ClientHttpRequestFactory getRequestFactory() {
+		ClientHttpRequestFactory requestFactory = this.requestFactory;
+		if (requestFactory == null) {
+			synchronized (this) {
+				requestFactory = this.requestFactory;
+				if (requestFactory == null) {
+					requestFactory = httpClientPresent ? PooledRequestFactoryCreator.create(this) : createSimpleRequestFactory();
+					this.requestFactory = requestFactory;
+				}
+			}
+		}
+		return requestFactory;
+	}
+
+	public void destroy() throws Exception {
+		if (requestFactory instanceof DisposableBean) {
+			((DisposableBean) requestFactory).destroy();
+		}
+	}
+
+	private ClientHttpRequestFactory createSimpleRequestFactory() {
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setConnectTimeout(connectTimeout);
+		requestFactory.setReadTimeout(readTimeout);
+		return requestFactory;
+	}
+
+	/**
+	 * Keeps the HttpClient types out of the outer class, so that it loads without Apache HttpClient.
+	 */
+	private static final class PooledRequestFactoryCreator {
+
+		static ClientHttpRequestFactory create(LinkedInClientCustomizer settings) {
+			HttpClient httpClient = HttpClients.custom().useSystemProperties()
+					.setMaxConnTotal(settings.maxConnections)
+					.setMaxConnPerRoute(settings.maxConnectionsPerRoute)
+					.build();
+			HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+			if (settings.connectTimeout >= 0) {
+				requestFactory.setConnectTimeout(settings.connectTimeout);
+			}
+			if (settings.readTimeout >= 0) {
+				requestFactory.setReadTimeout(settings.readTimeout);
+			}
+			return requestFactory;
+		}
+
+	}
+
+}
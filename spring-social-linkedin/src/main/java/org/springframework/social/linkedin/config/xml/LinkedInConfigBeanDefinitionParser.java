@@ -15,18 +15,50 @@
  */
 package org.springframework.social.linkedin.config.xml;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.ManagedList;
 import org.springframework.social.config.xml.AbstractProviderConfigBeanDefinitionParser;
+import org.springframework.social.linkedin.api.LinkedIn;
 import org.springframework.social.linkedin.config.support.LinkedInApiHelper;
+import org.springframework.social.linkedin.config.support.LinkedInClientCustomizer;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
 import org.springframework.social.linkedin.connect.LinkedInConnectionFactory;
 import org.springframework.social.linkedin.security.LinkedInAuthenticationService;
 import org.springframework.social.security.provider.SocialAuthenticationService;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Implementation of {@link AbstractConnectionFactoryBeanDefinitionParser} that creates a {@link FacebookConnectionFactory}.
+ * <p>
+ * The optional client attributes register a {@link LinkedInClientCustomizer}, and the binding cache attributes a
+ * {@link LinkedInBindingCache}, shared by the connection factory and the authentication service. The connection
+ * cache attributes tune the {@link LinkedInApiHelper} and make it available as {@value #API_HELPER_BEAN_NAME},
+ * so that a connect and disconnect interceptor can invalidate the connections it memoizes.
+ * </p>
  * @author Craig Walls
  */
 class LinkedInConfigBeanDefinitionParser extends AbstractProviderConfigBeanDefinitionParser {
 
+	static final String CLIENT_CUSTOMIZER_BEAN_NAME = "linkedInClientCustomizer";
+
+	static final String BINDING_CACHE_BEAN_NAME = "linkedInBindingCache";
+
+	static final String API_HELPER_BEAN_NAME = "linkedInApiHelper";
+
+	private static final String[][] CLIENT_ATTRIBUTES = {
+		{ "connect-timeout", "connectTimeout" },
+		{ "read-timeout", "readTimeout" },
+		{ "max-connections", "maxConnections" },
+		{ "max-connections-per-route", "maxConnectionsPerRoute" },
+		{ "requests-per-second", "permitsPerSecond" } };
+
 	public LinkedInConfigBeanDefinitionParser() {
 		super(LinkedInConnectionFactory.class, LinkedInApiHelper.class);
 	}
@@ -36,4 +68,93 @@ class LinkedInConfigBeanDefinitionParser extends AbstractProviderConfigBeanDefin
 		return LinkedInAuthenticationService.class;
 	}
 
+	@Override
+	protected BeanDefinition registerBeanDefinitions(BeanDefinitionRegistry registry, Map<String, Object> allAttributes) {
+		if (hasClientAttributes(allAttributes)) {
+			registry.registerBeanDefinition(CLIENT_CUSTOMIZER_BEAN_NAME, getClientCustomizerBeanDefinition(allAttributes));
+		}
+		if (hasBindingCacheAttributes(allAttributes)) {
+			registry.registerBeanDefinition(BINDING_CACHE_BEAN_NAME, getBindingCacheBeanDefinition(allAttributes));
+		}
+		BeanDefinition apiBinding = super.registerBeanDefinitions(registry, allAttributes);
+		if (hasConnectionCacheAttributes(allAttributes)) {
+			// the superclass registers the helper under a generated name that is not part of its contract
+			String helperName = "__" + ClassUtils.getShortNameAsProperty(LinkedIn.class) + "ApiHelper";
+			Assert.state(registry.containsBeanDefinition(helperName), "No LinkedInApiHelper bean named " + helperName);
+			registry.registerAlias(helperName, API_HELPER_BEAN_NAME);
+		}
+		return apiBinding;
+	}
+
+	@Override
+	protected BeanDefinition getConnectionFactoryBeanDefinition(String appId, String appSecret, Map<String, Object> allAttributes) {
+		return addClientReferences(super.getConnectionFactoryBeanDefinition(appId, appSecret, allAttributes), allAttributes);
+	}
+
+	@Override
+	protected BeanDefinition getAuthenticationServiceBeanDefinition(String appId, String appSecret, Map<String, Object> allAttributes) {
+		return addClientReferences(super.getAuthenticationServiceBeanDefinition(appId, appSecret, allAttributes), allAttributes);
+	}
+
+	@Override
+	protected BeanDefinitionBuilder getApiHelperBeanDefinitionBuilder(Map<String, Object> allAttributes) {
+		BeanDefinitionBuilder builder = super.getApiHelperBeanDefinitionBuilder(allAttributes);
+		if (allAttributes.containsKey("connection-cache-time-to-live")) {
+			builder.addPropertyValue("cacheTimeToLive", allAttributes.get("connection-cache-time-to-live"));
+		}
+		if (allAttributes.containsKey("connection-cache-size")) {
+			builder.addPropertyValue("maxCacheSize", allAttributes.get("connection-cache-size"));
+		}
+		return builder;
+	}
+
+	private BeanDefinition getClientCustomizerBeanDefinition(Map<String, Object> allAttributes) {
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(LinkedInClientCustomizer.class);
+		for (String[] attribute : CLIENT_ATTRIBUTES) {
+			if (allAttributes.containsKey(attribute[0])) {
+				builder.addPropertyValue(attribute[1], allAttributes.get(attribute[0]));
+			}
+		}
+		return builder.getBeanDefinition();
+	}
+
+	private BeanDefinition getBindingCacheBeanDefinition(Map<String, Object> allAttributes) {
+		Object maxSize = allAttributes.get("binding-cache-size");
+		Object timeToLive = allAttributes.get("binding-cache-time-to-live");
+		return BeanDefinitionBuilder.genericBeanDefinition(LinkedInBindingCache.class)
+				.addConstructorArgValue(maxSize != null ? maxSize : LinkedInBindingCache.DEFAULT_MAX_SIZE)
+				.addConstructorArgValue(timeToLive != null ? timeToLive : LinkedInBindingCache.DEFAULT_TIME_TO_LIVE)
+				.addConstructorArgValue(TimeUnit.SECONDS)
+				.getBeanDefinition();
+	}
+
+	private BeanDefinition addClientReferences(BeanDefinition definition, Map<String, Object> allAttributes) {
+		if (hasClientAttributes(allAttributes)) {
+			ManagedList<RuntimeBeanReference> customizers = new ManagedList<RuntimeBeanReference>();
+			customizers.add(new RuntimeBeanReference(CLIENT_CUSTOMIZER_BEAN_NAME));
+			definition.getPropertyValues().add("templateCustomizers", customizers);
+		}
+		if (hasBindingCacheAttributes(allAttributes)) {
+			definition.getPropertyValues().add("bindingCache", new RuntimeBeanReference(BINDING_CACHE_BEAN_NAME));
+		}
+		return definition;
+	}
+
+	private static boolean hasClientAttributes(Map<String, Object> allAttributes) {
+		for (String[] attribute : CLIENT_ATTRIBUTES) {
+			if (allAttributes.containsKey(attribute[0])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasBindingCacheAttributes(Map<String, Object> allAttributes) {
+		return allAttributes.containsKey("binding-cache-size") || allAttributes.containsKey("binding-cache-time-to-live");
+	}
+
+	private static boolean hasConnectionCacheAttributes(Map<String, Object> allAttributes) {
+		return allAttributes.containsKey("connection-cache-size") || allAttributes.containsKey("connection-cache-time-to-live");
+	}
+
 }
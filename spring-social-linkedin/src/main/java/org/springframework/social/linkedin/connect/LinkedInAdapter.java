@@ -15,24 +15,68 @@
  */
 package org.springframework.social.linkedin.connect;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.social.NotAuthorizedException;
 import org.springframework.social.connect.ApiAdapter;
 import org.springframework.social.connect.ConnectionValues;
 import org.springframework.social.connect.UserProfile;
 import org.springframework.social.connect.UserProfileBuilder;
 import org.springframework.social.linkedin.api.LinkedIn;
 import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.ProfileField;
 import org.springframework.web.client.HttpClientErrorException;
 
 /**
  * LinkedIn ApiAdapter implementation.
+ * <p>
+ * {@link #test(LinkedIn)}, {@link #setConnectionValues(LinkedIn, ConnectionValues)} and {@link #fetchUserProfile(LinkedIn)}
+ * are called one after the other while a connection is established. They share a single fetch of the few
+ * profile fields they use, remembered per binding for a few seconds. {@link #test(LinkedIn)} always fetches,
+ * so a token revoked while its binding is cached does not test valid; the other callbacks reuse what it fetched.
+ * </p>
+ * <p>
+ * Applications that test many stored connections can set a {@link LinkedInTokenValidator}, which makes
+ * {@link #test(LinkedIn)} fetch only the member id and trust a valid token for a while.
+ * </p>
  * @author Keith Donald
  */
 public class LinkedInAdapter implements ApiAdapter<LinkedIn> {
 
+	static final Set<ProfileField> PROFILE_FIELDS = Collections.unmodifiableSet(EnumSet.of(ProfileField.ID,
+			ProfileField.FIRST_NAME, ProfileField.LAST_NAME, ProfileField.PUBLIC_PROFILE_URL, ProfileField.PICTURE_URL,
+			ProfileField.EMAIL_ADDRESS));
+
+	private static final long PROFILE_TIME_TO_LIVE = TimeUnit.SECONDS.toNanos(10);
+
+	private final Map<LinkedIn, FetchedProfile> profiles = new WeakHashMap<LinkedIn, FetchedProfile>();
+
+	private volatile LinkedInTokenValidator tokenValidator;
+
+	/**
+	 * Sets the validator {@link #test(LinkedIn)} delegates to; by default the token is tested by the
+	 * profile fetch shared with the other callbacks.
+	 * @param tokenValidator the validator, or null for the default
+	 */
+	public void setTokenValidator(LinkedInTokenValidator tokenValidator) {
+		this.tokenValidator = tokenValidator;
+	}
+
 	public boolean test(LinkedIn linkedin) {
+		LinkedInTokenValidator validator = this.tokenValidator;
+		if (validator != null) {
+			return validator.test(linkedin);
+		}
 		try {
-			linkedin.profileOperations().getUserProfile();
+			fetchProfile(linkedin, System.nanoTime());
 			return true;
+		} catch (NotAuthorizedException e) {
+			return false;
 		} catch (HttpClientErrorException e) {
 			// TODO: Have api throw more specific exception and trigger off of that.
 			return false;
@@ -40,7 +84,7 @@ public class LinkedInAdapter implements ApiAdapter<LinkedIn> {
 	}
 
 	public void setConnectionValues(LinkedIn linkedin, ConnectionValues values) {
-		LinkedInProfile profile = linkedin.profileOperations().getUserProfile();
+		LinkedInProfile profile = getProfile(linkedin);
 		values.setProviderUserId(profile.getId());
 		values.setDisplayName(profile.getFirstName() + " " + profile.getLastName());
 		values.setProfileUrl(profile.getPublicProfileUrl());
@@ -48,7 +92,7 @@ public class LinkedInAdapter implements ApiAdapter<LinkedIn> {
 	}
 
 	public UserProfile fetchUserProfile(LinkedIn linkedin) {
-		LinkedInProfile profile = linkedin.profileOperations().getUserProfile();
+		LinkedInProfile profile = getProfile(linkedin);
 		return new UserProfileBuilder()
 				.setName(profile.getFirstName() + " " + profile.getLastName())
 				.setEmail(profile.getEmailAddress())
@@ -58,5 +102,37 @@ public class LinkedInAdapter implements ApiAdapter<LinkedIn> {
 	public void updateStatus(LinkedIn linkedin, String message) {
 		linkedin.networkUpdateOperations().createNetworkUpdate(message);
 	}
-	
+
+	private LinkedInProfile getProfile(LinkedIn linkedin) {
+		long now = System.nanoTime();
+		synchronized (profiles) {
+			FetchedProfile fetched = profiles.get(linkedin);
+			if (fetched != null && now - fetched.expiresAt < 0) {
+				return fetched.profile;
+			}
+		}
+		return fetchProfile(linkedin, now);
+	}
+
+	private LinkedInProfile fetchProfile(LinkedIn linkedin, long now) {
+		LinkedInProfile profile = linkedin.profileOperations().getUserProfile(PROFILE_FIELDS);
+		synchronized (profiles) {
+			profiles.put(linkedin, new FetchedProfile(profile, now + PROFILE_TIME_TO_LIVE));
+		}
+		return profile;
+	}
+
+	private static final class FetchedProfile {
+
+		final LinkedInProfile profile;
+
+		final long expiresAt;
+
+		FetchedProfile(LinkedInProfile profile, long expiresAt) {
+			this.profile = profile;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
 }
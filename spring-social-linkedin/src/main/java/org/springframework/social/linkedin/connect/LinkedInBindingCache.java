@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.connect;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, expiring cache of {@link LinkedIn} bindings keyed by access token, so that a member's
+ * connection, looked up again on every web request, resolves to the same template instead of a new one.
+ * <p>
+ * Entries expire a fixed time after they are created and the least recently used entry is evicted once
+ * the cache is full. Bindings may be associated with the provider user id that owns them: associating a
+ * new access token with a user evicts the binding of the token it replaces, and {@link #evictUser(String)}
+ * drops a user's binding when the connection is removed.
+ * </p>
+ * <p>
+ * Sized and given a maximum idle time, one cache lets a background worker act for a large member base at
+ * steady memory: bindings of active members are reused, those of idle members are dropped, and the
+ * hit, miss and eviction counts show whether the size fits the workload.
+ * </p>
+ * @author agent
+ * @see LinkedInServiceProvider#setBindingCache(LinkedInBindingCache)
+ */
+public class LinkedInBindingCache {
+
+	/** Default maximum number of bindings held. */
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	/** Default time to live of a binding, in seconds. */
+	public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toSeconds(30);
+
+	private final int maxSize;
+
+	private final long timeToLiveNanos;
+
+	private final Map<String, Entry> bindings;
+
+	private final Map<String, String> tokensByUser = new LinkedHashMap<String, String>();
+
+	private long maxIdleNanos;
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
+	public LinkedInBindingCache() {
+		this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @param maxSize maximum number of bindings held
+	 * @param timeToLive how long a binding is reused after it was created
+	 * @param unit the unit of the time to live
+	 */
+	public LinkedInBindingCache(int maxSize, long timeToLive, TimeUnit unit) {
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than 0");
+		Assert.isTrue(timeToLive > 0, "Time to live must be greater than 0");
+		Assert.notNull(unit, "TimeUnit must not be null");
+		this.maxSize = maxSize;
+		this.timeToLiveNanos = unit.toNanos(timeToLive);
+		this.bindings = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				if (size() > LinkedInBindingCache.this.maxSize) {
+					forgetUser(eldest.getValue().providerUserId, eldest.getKey());
+					evictionCount++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Sets how long a binding may go unused before it is evicted, regardless of its time to live.
+	 * @param maxIdleTime the maximum idle time; 0 keeps bindings until they expire or are pushed out
+	 * @param unit the unit of the idle time
+	 */
+	public synchronized void setMaxIdleTime(long maxIdleTime, TimeUnit unit) {
+		Assert.isTrue(maxIdleTime >= 0, "Maximum idle time must not be negative");
+		Assert.notNull(unit, "TimeUnit must not be null");
+		this.maxIdleNanos = unit.toNanos(maxIdleTime);
+	}
+
+	/**
+	 * @param accessToken the access token the binding was created for
+	 * @return the cached binding, or null if there is none or it has expired
+	 */
+	public synchronized LinkedIn get(String accessToken) {
+		Entry entry = bindings.get(accessToken);
+		if (entry == null) {
+			missCount++;
+			return null;
+		}
+		long now = nanoTime();
+		if (isStale(entry, now)) {
+			remove(accessToken);
+			evictionCount++;
+			missCount++;
+			return null;
+		}
+		entry.lastAccess = now;
+		hitCount++;
+		return entry.binding;
+	}
+
+	/**
+	 * Caches a binding unless one was cached for the same token in the meantime.
+	 * @return the binding now cached for the token
+	 */
+	public synchronized LinkedIn putIfAbsent(String accessToken, LinkedIn binding) {
+		Assert.notNull(accessToken, "Access token must not be null");
+		Assert.notNull(binding, "Binding must not be null");
+		long now = nanoTime();
+		Entry entry = bindings.get(accessToken);
+		if (entry != null && !isStale(entry, now)) {
+			entry.lastAccess = now;
+			return entry.binding;
+		}
+		bindings.put(accessToken, new Entry(binding, now, now + timeToLiveNanos, entry != null ? entry.providerUserId : null));
+		return binding;
+	}
+
+	/**
+	 * Records that an access token belongs to a provider user, evicting the binding of any other token
+	 * previously recorded for that user, as happens when a connection is updated with a refreshed token.
+	 */
+	public synchronized void associate(String providerUserId, String accessToken) {
+		Assert.notNull(providerUserId, "Provider user id must not be null");
+		Assert.notNull(accessToken, "Access token must not be null");
+		Entry entry = bindings.get(accessToken);
+		// only users with a cached binding are tracked, so the index never outgrows the cache
+		String previous = entry != null ? tokensByUser.put(providerUserId, accessToken) : tokensByUser.remove(providerUserId);
+		if (previous != null && !previous.equals(accessToken) && bindings.remove(previous) != null) {
+			evictionCount++;
+		}
+		if (entry != null) {
+			entry.providerUserId = providerUserId;
+		}
+	}
+
+	/**
+	 * Evicts the binding of an access token.
+	 */
+	public synchronized void evict(String accessToken) {
+		remove(accessToken);
+	}
+
+	/**
+	 * Evicts the binding associated with a provider user, as when the user's connection is removed.
+	 */
+	public synchronized void evictUser(String providerUserId) {
+		String accessToken = tokensByUser.remove(providerUserId);
+		if (accessToken != null) {
+			bindings.remove(accessToken);
+		}
+	}
+
+	public synchronized void clear() {
+		bindings.clear();
+		tokensByUser.clear();
+	}
+
+	/**
+	 * @return the number of bindings held, including expired ones not yet evicted
+	 */
+	public synchronized int size() {
+		return bindings.size();
+	}
+
+	/**
+	 * @return the number of lookups that found a live binding
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that found no binding, or an expired or idle one
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of bindings dropped because the cache was full, they expired or went idle,
+	 * or their user's token was replaced; explicit evictions are not counted
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Evicts every expired or idle binding.
+	 * A worker holding a large cache may call this periodically, so that bindings of members it no longer
+	 * acts for are released without waiting to be pushed out.
+	 */
+	public synchronized void evictExpired() {
+		long now = nanoTime();
+		for (Iterator<Map.Entry<String, Entry>> it = bindings.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<String, Entry> entry = it.next();
+			if (isStale(entry.getValue(), now)) {
+				forgetUser(entry.getValue().providerUserId, entry.getKey());
+				it.remove();
+				evictionCount++;
+			}
+		}
+	}
+
+	long nanoTime() {
+		return System.nanoTime();
+	}
+
+	private boolean isStale(Entry entry, long now) {
+		return entry.isExpired(now) || (maxIdleNanos > 0 && now - entry.lastAccess >= maxIdleNanos);
+	}
+
+	private void remove(String accessToken) {
+		Entry entry = bindings.remove(accessToken);
+		if (entry != null) {
+			forgetUser(entry.providerUserId, accessToken);
+		}
+	}
+
+	private void forgetUser(String providerUserId, String accessToken) {
+		if (providerUserId != null && accessToken.equals(tokensByUser.get(providerUserId))) {
+			tokensByUser.remove(providerUserId);
+		}
+	}
+
+	private static final class Entry {
+
+		final LinkedIn binding;
+
+		final long expiresAt;
+
+		long lastAccess;
+
+		String providerUserId;
+
+		Entry(LinkedIn binding, long lastAccess, long expiresAt, String providerUserId) {
+			this.binding = binding;
+			this.lastAccess = lastAccess;
+			this.expiresAt = expiresAt;
+			this.providerUserId = providerUserId;
+		}
+
+		boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.social.linkedin.connect;
 
+import java.util.List;
+
 import org.springframework.social.connect.support.OAuth2ConnectionFactory;
 import org.springframework.social.linkedin.api.LinkedIn;
 
@@ -28,4 +30,42 @@ public class LinkedInConnectionFactory extends OAuth2ConnectionFactory<LinkedIn>
 		super("linkedin", new LinkedInServiceProvider(consumerKey, consumerSecret), new LinkedInAdapter());
 	}
 
+	/**
+	 * Adds a customizer applied to the template of every connection this factory creates.
+	 * @param customizer the customizer to add
+	 * @see LinkedInServiceProvider#addTemplateCustomizer(LinkedInTemplateCustomizer)
+	 */
+	public void addTemplateCustomizer(LinkedInTemplateCustomizer customizer) {
+		((LinkedInServiceProvider) getServiceProvider()).addTemplateCustomizer(customizer);
+	}
+
+	/**
+	 * Adds customizers applied to the template of every connection this factory creates, in order.
+	 * Intended for XML configuration; code should call {@link #addTemplateCustomizer(LinkedInTemplateCustomizer)}.
+	 * @param customizers the customizers to add
+	 */
+	public void setTemplateCustomizers(List<LinkedInTemplateCustomizer> customizers) {
+		for (LinkedInTemplateCustomizer customizer : customizers) {
+			addTemplateCustomizer(customizer);
+		}
+	}
+
+	/**
+	 * Sets the cache of API bindings shared by connections with the same access token.
+	 * @param bindingCache the cache to use, or null to create a binding for every connection
+	 * @see LinkedInServiceProvider#setBindingCache(LinkedInBindingCache)
+	 */
+	public void setBindingCache(LinkedInBindingCache bindingCache) {
+		((LinkedInServiceProvider) getServiceProvider()).setBindingCache(bindingCache);
+	}
+
+	/**
+	 * Sets the validator used to test the connections this factory creates.
+	 * @param tokenValidator the validator, or null to test connections by fetching the user profile
+	 * @see LinkedInAdapter#setTokenValidator(LinkedInTokenValidator)
+	 */
+	public void setTokenValidator(LinkedInTokenValidator tokenValidator) {
+		((LinkedInAdapter) getApiAdapter()).setTokenValidator(tokenValidator);
+	}
+
 }
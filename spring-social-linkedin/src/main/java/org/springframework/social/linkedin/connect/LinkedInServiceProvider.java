@@ -15,10 +15,14 @@
  */
 package org.springframework.social.linkedin.connect;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.springframework.social.linkedin.api.LinkedIn;
 import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
 import org.springframework.social.oauth2.AbstractOAuth2ServiceProvider;
 import org.springframework.social.oauth2.OAuth2Template;
+import org.springframework.util.Assert;
 
 /**
  * LinkedIn ServiceProvider implementation.
@@ -26,10 +30,36 @@ import org.springframework.social.oauth2.OAuth2Template;
  */
 public class LinkedInServiceProvider extends AbstractOAuth2ServiceProvider<LinkedIn> {
 
+	private final List<LinkedInTemplateCustomizer> customizers = new CopyOnWriteArrayList<LinkedInTemplateCustomizer>();
+
+	private volatile LinkedInBindingCache bindingCache;
+
 	public LinkedInServiceProvider(String clientId, String clientSecret) {
 		super(getOAuth2Template(clientId, clientSecret));
 	}
 
+	/**
+	 * Adds a customizer applied, in registration order, to every template returned by {@link #getApi(String)}.
+	 * @param customizer the customizer to add
+	 */
+	public void addTemplateCustomizer(LinkedInTemplateCustomizer customizer) {
+		Assert.notNull(customizer, "LinkedInTemplateCustomizer must not be null");
+		customizers.add(customizer);
+	}
+
+	/**
+	 * Sets the cache {@link #getApi(String)} consults before creating a template, so that connections
+	 * restored again and again for the same access token share one binding. Null, the default, disables caching.
+	 * @param bindingCache the cache to use
+	 */
+	public void setBindingCache(LinkedInBindingCache bindingCache) {
+		this.bindingCache = bindingCache;
+	}
+
+	public LinkedInBindingCache getBindingCache() {
+		return bindingCache;
+	}
+
 	private static OAuth2Template getOAuth2Template(String clientId, String clientSecret) {
 		OAuth2Template oAuth2Template = new OAuth2Template(clientId, clientSecret,
 			"https://www.linkedin.com/uas/oauth2/authorization",
@@ -39,7 +69,36 @@ public class LinkedInServiceProvider extends AbstractOAuth2ServiceProvider<Linke
 	}
 
 	public LinkedIn getApi(String accessToken) {
-		return new LinkedInTemplate(accessToken);
+		LinkedInBindingCache cache = this.bindingCache;
+		if (cache == null) {
+			return createApi(accessToken);
+		}
+		LinkedIn binding = cache.get(accessToken);
+		return binding != null ? binding : cache.putIfAbsent(accessToken, createApi(accessToken));
+	}
+
+	/**
+	 * Returns the binding for a member's current access token, for workers acting on behalf of many members
+	 * outside of a web request. With a binding cache set, the member's binding is reused until the token
+	 * changes, at which point the binding of the replaced token is evicted.
+	 * @param providerUserId the member's LinkedIn id
+	 * @param accessToken the member's current access token
+	 */
+	public LinkedIn getApi(String providerUserId, String accessToken) {
+		LinkedIn binding = getApi(accessToken);
+		LinkedInBindingCache cache = this.bindingCache;
+		if (cache != null) {
+			cache.associate(providerUserId, accessToken);
+		}
+		return binding;
+	}
+
+	private LinkedIn createApi(String accessToken) {
+		LinkedInTemplate template = new LinkedInTemplate(accessToken);
+		for (LinkedInTemplateCustomizer customizer : customizers) {
+			customizer.customize(template);
+		}
+		return template;
 	}
 	
 }
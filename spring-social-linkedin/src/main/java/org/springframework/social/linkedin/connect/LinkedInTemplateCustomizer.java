@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.connect;
+
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+
+/**
+ * Callback applied by {@link LinkedInServiceProvider} to every {@link LinkedInTemplate} it creates,
+ * for example to install instrumentation or a shared rate limiter.
+ * @author agent
+ */
+public interface LinkedInTemplateCustomizer {
+
+	/**
+	 * @param template a newly created template
+	 */
+	void customize(LinkedInTemplate template);
+
+}
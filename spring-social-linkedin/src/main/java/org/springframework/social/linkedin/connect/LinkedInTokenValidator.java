@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.connect;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.social.NotAuthorizedException;
+import org.springframework.social.connect.Connection;
+import org.springframework.social.connect.ConnectionKey;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.ProfileField;
+import org.springframework.util.Assert;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Checks that access tokens are still accepted by LinkedIn with the cheapest request there is,
+ * a fetch of the current member's id (<code>~:(id)</code>).
+ * <p>
+ * A token is invalid when LinkedIn rejects it as unauthorized. Positive outcomes are remembered for a
+ * configurable time, per access token for connections and per binding otherwise, so that repeated sweeps over
+ * stored connections only ask LinkedIn about tokens not recently found valid. {@link #validateAll(Iterable, StatusListener)}
+ * checks many connections with a bounded number of concurrent requests, reporting each status as it completes.
+ * </p>
+ * @author agent
+ * @see LinkedInAdapter#setTokenValidator(LinkedInTokenValidator)
+ */
+public class LinkedInTokenValidator {
+
+	/** Default time a token found valid is trusted, in seconds. */
+	public static final long DEFAULT_VALID_TIME_TO_LIVE = TimeUnit.HOURS.toSeconds(1);
+
+	/** Default maximum number of valid tokens remembered. */
+	public static final int DEFAULT_MAX_CACHE_SIZE = 100000;
+
+	/** Default number of concurrent requests made by a sweep. */
+	public static final int DEFAULT_CONCURRENCY = 8;
+
+	private static final Set<ProfileField> ID_ONLY = EnumSet.of(ProfileField.ID);
+
+	private static final Log logger = LogFactory.getLog(LinkedInTokenValidator.class);
+
+	/**
+	 * Outcome of validating a connection.
+	 */
+	public enum Status {
+
+		/** LinkedIn accepted the token. */
+		VALID,
+
+		/** LinkedIn rejected the token. */
+		INVALID,
+
+		/** The check failed for another reason, such as throttling or a server error. */
+		UNKNOWN
+
+	}
+
+	private final Map<String, Long> validTokens = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+			return size() > maxCacheSize;
+		}
+	};
+
+	private final Map<LinkedIn, Long> validBindings = new WeakHashMap<LinkedIn, Long>();
+
+	private volatile long validTimeToLiveNanos = TimeUnit.SECONDS.toNanos(DEFAULT_VALID_TIME_TO_LIVE);
+
+	private volatile int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+
+	private volatile int concurrency = DEFAULT_CONCURRENCY;
+
+	/**
+	 * Sets how long a token found valid is trusted without asking LinkedIn again; 0 disables caching.
+	 */
+	public void setValidTimeToLive(long validTimeToLive, TimeUnit unit) {
+		Assert.isTrue(validTimeToLive >= 0, "Time to live must not be negative");
+		this.validTimeToLiveNanos = unit.toNanos(validTimeToLive);
+	}
+
+	public void setMaxCacheSize(int maxCacheSize) {
+		Assert.isTrue(maxCacheSize > 0, "Maximum cache size must be greater than 0");
+		this.maxCacheSize = maxCacheSize;
+	}
+
+	/**
+	 * Sets the maximum number of requests a sweep has in flight at once.
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than 0");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Tests the token of a binding.
+	 * @return false if LinkedIn rejects the token
+	 * @throws org.springframework.social.ApiException if the check fails for any other reason
+	 */
+	public boolean test(LinkedIn linkedin) {
+		long now = System.nanoTime();
+		synchronized (validBindings) {
+			Long expiresAt = validBindings.get(linkedin);
+			if (expiresAt != null && now - expiresAt < 0) {
+				return true;
+			}
+		}
+		boolean valid = fetchId(linkedin);
+		synchronized (validBindings) {
+			if (valid && validTimeToLiveNanos > 0) {
+				validBindings.put(linkedin, now + validTimeToLiveNanos);
+			}
+			else {
+				validBindings.remove(linkedin);
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Tests the token of a connection.
+	 * @return false if LinkedIn rejects the token
+	 * @throws org.springframework.social.ApiException if the check fails for any other reason
+	 */
+	public boolean isValid(Connection<LinkedIn> connection) {
+		String accessToken = connection.createData().getAccessToken();
+		long now = System.nanoTime();
+		synchronized (validTokens) {
+			Long expiresAt = validTokens.get(accessToken);
+			if (expiresAt != null && now - expiresAt < 0) {
+				return true;
+			}
+		}
+		boolean valid = fetchId(connection.getApi());
+		synchronized (validTokens) {
+			if (valid && validTimeToLiveNanos > 0) {
+				validTokens.put(accessToken, now + validTimeToLiveNanos);
+			}
+			else {
+				validTokens.remove(accessToken);
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Tests the tokens of many connections, with at most {@link #setConcurrency(int) concurrency} requests in flight.
+	 * @return the status of every connection, in iteration order
+	 * @throws InterruptedException if interrupted while waiting for the checks to complete
+	 */
+	public Map<ConnectionKey, Status> validateAll(Collection<? extends Connection<LinkedIn>> connections) throws InterruptedException {
+		final Map<ConnectionKey, Status> statuses = new LinkedHashMap<ConnectionKey, Status>();
+		for (Connection<LinkedIn> connection : connections) {
+			statuses.put(connection.getKey(), Status.UNKNOWN);
+		}
+		validateAll(connections, new StatusListener() {
+			public void onStatus(Connection<LinkedIn> connection, Status status) {
+				statuses.put(connection.getKey(), status);
+			}
+		});
+		return statuses;
+	}
+
+	/**
+	 * Tests the tokens of many connections, with at most {@link #setConcurrency(int) concurrency} requests in flight,
+	 * reporting each status as its check completes. Connections are taken from the iterable only as checks finish,
+	 * so a sweep can stream connections from a repository without holding them all in memory.
+	 * @param connections the connections to check
+	 * @param listener notified on the calling thread, in completion order
+	 * @return the number of connections checked
+	 * @throws InterruptedException if interrupted while waiting for the checks to complete; checks already completed
+	 * have been reported, the others are cancelled
+	 */
+	public int validateAll(Iterable<? extends Connection<LinkedIn>> connections, StatusListener listener) throws InterruptedException {
+		Assert.notNull(listener, "StatusListener must not be null");
+		Iterator<? extends Connection<LinkedIn>> it = connections.iterator();
+		if (!it.hasNext()) {
+			return 0;
+		}
+		int concurrency = this.concurrency;
+		final AtomicInteger threads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "linkedin-token-validator-" + threads.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		CompletionService<Checked> completion = new ExecutorCompletionService<Checked>(executor);
+		int inFlight = 0;
+		int checked = 0;
+		try {
+			while (it.hasNext() || inFlight > 0) {
+				if (it.hasNext() && inFlight < concurrency) {
+					final Connection<LinkedIn> connection = it.next();
+					completion.submit(new Callable<Checked>() {
+						public Checked call() {
+							return new Checked(connection, status(connection));
+						}
+					});
+					inFlight++;
+					continue;
+				}
+				Future<Checked> done;
+				try {
+					done = completion.take();
+				}
+				catch (InterruptedException e) {
+					// report what has completed before giving up on the rest
+					for (Future<Checked> completed = completion.poll(); completed != null; completed = completion.poll()) {
+						Checked result = get(completed);
+						listener.onStatus(result.connection, result.status);
+						checked++;
+					}
+					throw e;
+				}
+				inFlight--;
+				Checked result = get(done);
+				listener.onStatus(result.connection, result.status);
+				checked++;
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		return checked;
+	}
+
+	/**
+	 * Forgets that a token was found valid.
+	 */
+	public void invalidate(String accessToken) {
+		synchronized (validTokens) {
+			validTokens.remove(accessToken);
+		}
+	}
+
+	public void clear() {
+		synchronized (validTokens) {
+			validTokens.clear();
+		}
+		synchronized (validBindings) {
+			validBindings.clear();
+		}
+	}
+
+	private Status status(Connection<LinkedIn> connection) {
+		try {
+			return isValid(connection) ? Status.VALID : Status.INVALID;
+		}
+		catch (RuntimeException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Could not validate LinkedIn connection " + connection.getKey(), e);
+			}
+			return Status.UNKNOWN;
+		}
+	}
+
+	private static Checked get(Future<Checked> done) {
+		try {
+			return done.get();
+		}
+		catch (ExecutionException e) {
+			// status() catches everything the check throws
+			throw new IllegalStateException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			// the future is done, so this cannot happen
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Receives the statuses of a {@link LinkedInTokenValidator#validateAll(Iterable, StatusListener) sweep}.
+	 */
+	public interface StatusListener {
+
+		void onStatus(Connection<LinkedIn> connection, Status status);
+
+	}
+
+	private static final class Checked {
+
+		final Connection<LinkedIn> connection;
+
+		final Status status;
+
+		Checked(Connection<LinkedIn> connection, Status status) {
+			this.connection = connection;
+			this.status = status;
+		}
+
+	}
+
+	private static boolean fetchId(LinkedIn linkedin) {
+		try {
+			linkedin.profileOperations().getUserProfile(ID_ONLY);
+			return true;
+		}
+		catch (NotAuthorizedException e) {
+			return false;
+		}
+		catch (HttpClientErrorException e) {
+			return false;
+		}
+	}
+
+}
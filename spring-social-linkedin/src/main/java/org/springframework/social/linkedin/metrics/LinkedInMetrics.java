@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
+import org.springframework.util.Assert;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records Micrometer metrics for every call made through a {@link LinkedInTemplate}.
+ * <p>
+ * Each call is tagged with its {@link OperationNames operation name}, the HTTP method, the status class
+ * (<code>2xx</code>, <code>4xx</code>, ... or <code>IO_ERROR</code>) and the simple name of the exception it
+ * raised (<code>RateLimitExceededException</code>, <code>NotAuthorizedException</code>, ... or <code>none</code>).
+ * The following meters are recorded:
+ * </p>
+ * <ul>
+ * <li><code>linkedin.api.requests</code>: time from sending the request to receiving the response headers</li>
+ * <li><code>linkedin.api.deserialization</code>: time from receiving the response headers to closing the response,
+ * which covers error handling and reading the body into domain objects</li>
+ * <li><code>linkedin.api.request.size</code> and <code>linkedin.api.response.size</code>: body sizes in bytes</li>
+ * </ul>
+ * <p>
+ * The request URI, which carries the access token, is never used as a tag.
+ * </p>
+ * <p>
+ * {@link #monitor(LinkedInBindingCache, MeterRegistry)} reports on a binding cache with
+ * <code>linkedin.binding.cache.size</code>, <code>linkedin.binding.cache.requests</code> tagged with a
+ * <code>result</code> of <code>hit</code> or <code>miss</code>, and <code>linkedin.binding.cache.evictions</code>.
+ * </p>
+ * @author agent
+ */
+public final class LinkedInMetrics {
+
+	public static final String REQUESTS = "linkedin.api.requests";
+
+	public static final String DESERIALIZATION = "linkedin.api.deserialization";
+
+	public static final String REQUEST_SIZE = "linkedin.api.request.size";
+
+	public static final String RESPONSE_SIZE = "linkedin.api.response.size";
+
+	public static final String BINDING_CACHE_SIZE = "linkedin.binding.cache.size";
+
+	public static final String BINDING_CACHE_REQUESTS = "linkedin.binding.cache.requests";
+
+	public static final String BINDING_CACHE_EVICTIONS = "linkedin.binding.cache.evictions";
+
+	private LinkedInMetrics() {
+	}
+
+	/**
+	 * Instruments a template, replacing any instrumentation applied before.
+	 * Timing starts after rate limiting, so time spent waiting for a permit is not counted as latency.
+	 * @param template the template to instrument
+	 * @param registry the registry to record to
+	 */
+	public static void instrument(LinkedInTemplate template, MeterRegistry registry) {
+		Assert.notNull(template, "LinkedInTemplate must not be null");
+		Assert.notNull(registry, "MeterRegistry must not be null");
+		RestTemplate restTemplate = template.getRestTemplate();
+		List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
+		for (Iterator<ClientHttpRequestInterceptor> it = interceptors.iterator(); it.hasNext();) {
+			if (it.next() instanceof MetricsInterceptor) {
+				it.remove();
+			}
+		}
+		interceptors.add(new MetricsInterceptor(registry));
+		restTemplate.setInterceptors(interceptors);
+		ResponseErrorHandler errorHandler = restTemplate.getErrorHandler();
+		if (!(errorHandler instanceof MetricsErrorHandler)) {
+			restTemplate.setErrorHandler(new MetricsErrorHandler(errorHandler));
+		}
+	}
+
+	/**
+	 * Registers meters reading the size and counters of a binding cache.
+	 * The meters hold the cache weakly, so monitoring does not keep a discarded cache alive.
+	 * @param cache the cache to monitor
+	 * @param registry the registry to register with
+	 */
+	public static void monitor(LinkedInBindingCache cache, MeterRegistry registry) {
+		Assert.notNull(cache, "LinkedInBindingCache must not be null");
+		Assert.notNull(registry, "MeterRegistry must not be null");
+		Gauge.builder(BINDING_CACHE_SIZE, cache, new ToDoubleFunction<LinkedInBindingCache>() {
+			public double applyAsDouble(LinkedInBindingCache cache) {
+				return cache.size();
+			}
+		}).description("Number of LinkedIn API bindings held").register(registry);
+		FunctionCounter.builder(BINDING_CACHE_REQUESTS, cache, new ToDoubleFunction<LinkedInBindingCache>() {
+			public double applyAsDouble(LinkedInBindingCache cache) {
+				return cache.getHitCount();
+			}
+		}).tag("result", "hit").description("LinkedIn API binding lookups").register(registry);
+		FunctionCounter.builder(BINDING_CACHE_REQUESTS, cache, new ToDoubleFunction<LinkedInBindingCache>() {
+			public double applyAsDouble(LinkedInBindingCache cache) {
+				return cache.getMissCount();
+			}
+		}).tag("result", "miss").description("LinkedIn API binding lookups").register(registry);
+		FunctionCounter.builder(BINDING_CACHE_EVICTIONS, cache, new ToDoubleFunction<LinkedInBindingCache>() {
+			public double applyAsDouble(LinkedInBindingCache cache) {
+				return cache.getEvictionCount();
+			}
+		}).description("LinkedIn API bindings evicted").register(registry);
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Response that counts the body bytes read and records the call's metrics when closed.
+ * The response of the exchange in progress is also held per thread, as other interceptors may wrap it
+ * before it reaches the error handler.
+ * @author agent
+ */
+class MeteredResponse implements ClientHttpResponse {
+
+	private static final ThreadLocal<MeteredResponse> current = new ThreadLocal<MeteredResponse>();
+
+	private final ClientHttpResponse response;
+
+	private final MetricsInterceptor interceptor;
+
+	private final String operation;
+
+	private final String method;
+
+	private final long requestBytes;
+
+	private final long started;
+
+	private final long received;
+
+	private String exception = MetricsInterceptor.NONE;
+
+	private CountingInputStream body;
+
+	private boolean closed;
+
+	MeteredResponse(ClientHttpResponse response, MetricsInterceptor interceptor, String operation, String method, long requestBytes, long started, long received) {
+		this.response = response;
+		this.interceptor = interceptor;
+		this.operation = operation;
+		this.method = method;
+		this.requestBytes = requestBytes;
+		this.started = started;
+		this.received = received;
+	}
+
+	static MeteredResponse current() {
+		return current.get();
+	}
+
+	void open() {
+		current.set(this);
+	}
+
+	void setException(String exception) {
+		this.exception = exception;
+	}
+
+	public HttpStatus getStatusCode() throws IOException {
+		return response.getStatusCode();
+	}
+
+	public int getRawStatusCode() throws IOException {
+		return response.getRawStatusCode();
+	}
+
+	public String getStatusText() throws IOException {
+		return response.getStatusText();
+	}
+
+	public HttpHeaders getHeaders() {
+		return response.getHeaders();
+	}
+
+	public InputStream getBody() throws IOException {
+		if (body == null) {
+			body = new CountingInputStream(response.getBody());
+		}
+		return body;
+	}
+
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (current.get() == this) {
+			current.remove();
+		}
+		long closing = System.nanoTime();
+		try {
+			response.close();
+		}
+		finally {
+			interceptor.record(operation, method, statusClass(), exception, received - started, closing - received, requestBytes, responseBytes());
+		}
+	}
+
+	private String statusClass() {
+		try {
+			return (response.getRawStatusCode() / 100) + "xx";
+		}
+		catch (IOException e) {
+			return MetricsInterceptor.IO_ERROR;
+		}
+	}
+
+	private long responseBytes() {
+		if (body != null) {
+			return body.count;
+		}
+		long contentLength = response.getHeaders().getContentLength();
+		return contentLength > 0 ? contentLength : 0;
+	}
+
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import java.io.IOException;
+
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseErrorHandler;
+
+/**
+ * Decorates the template's error handler to note which exception a response was translated to.
+ * @author agent
+ */
+class MetricsErrorHandler implements ResponseErrorHandler {
+
+	private final ResponseErrorHandler delegate;
+
+	MetricsErrorHandler(ResponseErrorHandler delegate) {
+		this.delegate = delegate;
+	}
+
+	public boolean hasError(ClientHttpResponse response) throws IOException {
+		return delegate.hasError(response);
+	}
+
+	public void handleError(ClientHttpResponse response) throws IOException {
+		try {
+			delegate.handleError(response);
+		}
+		catch (IOException e) {
+			noteException(response, e);
+			throw e;
+		}
+		catch (RuntimeException e) {
+			noteException(response, e);
+			throw e;
+		}
+	}
+
+	private void noteException(ClientHttpResponse response, Exception e) {
+		// the response may have been wrapped by interceptors registered before metrics, so look it up by thread
+		MeteredResponse metered = MeteredResponse.current();
+		if (metered != null) {
+			metered.setException(e.getClass().getSimpleName());
+		}
+	}
+
+}
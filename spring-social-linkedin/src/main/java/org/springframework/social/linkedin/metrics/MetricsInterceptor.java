@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times the exchange and hands the rest of the measurement to a {@link MeteredResponse},
+ * which records once the response is closed.
+ * @author agent
+ */
+class MetricsInterceptor implements ClientHttpRequestInterceptor {
+
+	static final String NONE = "none";
+
+	static final String IO_ERROR = "IO_ERROR";
+
+	private final MeterRegistry registry;
+
+	MetricsInterceptor(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		String operation = OperationNames.resolve(request.getMethod(), request.getURI());
+		String method = request.getMethod() != null ? request.getMethod().name() : "UNKNOWN";
+		long start = System.nanoTime();
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		}
+		catch (IOException e) {
+			record(operation, method, IO_ERROR, e.getClass().getSimpleName(), System.nanoTime() - start, -1, body.length, 0);
+			throw e;
+		}
+		MeteredResponse metered = new MeteredResponse(response, this, operation, method, body.length, start, System.nanoTime());
+		metered.open();
+		return metered;
+	}
+
+	void record(String operation, String method, String status, String exception, long latency, long deserialization, long requestBytes, long responseBytes) {
+		Tags tags = Tags.of("operation", operation, "method", method, "status", status, "exception", exception);
+		Timer.builder(LinkedInMetrics.REQUESTS).description("LinkedIn API request latency").tags(tags)
+				.register(registry).record(latency, TimeUnit.NANOSECONDS);
+		if (deserialization >= 0) {
+			Timer.builder(LinkedInMetrics.DESERIALIZATION).description("LinkedIn API response handling time").tags(tags)
+					.register(registry).record(deserialization, TimeUnit.NANOSECONDS);
+		}
+		DistributionSummary.builder(LinkedInMetrics.REQUEST_SIZE).baseUnit("bytes").tags(tags)
+				.register(registry).record(requestBytes);
+		DistributionSummary.builder(LinkedInMetrics.RESPONSE_SIZE).baseUnit("bytes").tags(tags)
+				.register(registry).record(responseBytes);
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Maps LinkedIn API requests to short, fixed operation names such as <code>profile.get</code> or
+ * <code>networkUpdates.list</code>, suitable as metric tags and span names.
+ * <p>
+ * Only the path is considered: ids, keys and field selectors are ignored, and the query string, which carries
+ * the OAuth2 access token, is never read. Requests matching no known resource are named <code>other</code>.
+ * </p>
+ * @author agent
+ */
+public final class OperationNames {
+
+	public static final String OTHER = "other";
+
+	private static final String API_ROOT = "/v1/";
+
+	private static final Pattern ENCODED_SLASH = Pattern.compile("%2F", Pattern.CASE_INSENSITIVE);
+
+	private static final List<Rule> RULES = new ArrayList<Rule>();
+
+	static {
+		rule(null, "people-search", "profile.search");
+		rule(HttpMethod.POST, "people/*/network/updates/*/update-comments", "networkUpdates.comments.create");
+		rule(null, "people/*/network/updates/*/update-comments", "networkUpdates.comments.list");
+		rule(null, "people/*/network/updates/*/likes", "networkUpdates.likes.list");
+		rule(null, "people/*/network/updates/*/is-liked", "networkUpdates.like");
+		rule(null, "people/*/network/updates", "networkUpdates.list");
+		rule(null, "people/*/network/network-stats", "connections.stats");
+		rule(null, "people/*/connections", "connections.list");
+		rule(null, "people/*/person-activities", "networkUpdates.create");
+		rule(null, "people/*/shares", "shares.create");
+		rule(null, "people/*/mailbox", "messages.send");
+		rule(HttpMethod.POST, "people/*/following/companies", "company.follow");
+		rule(null, "people/*/following/companies", "company.following.list");
+		rule(null, "people/*/following/companies/*", "company.unfollow");
+		rule(null, "people/*/suggestions/to-follow/companies", "company.suggestions.list");
+		rule(null, "people/*/suggestions/job-suggestions", "job.suggestions.list");
+		rule(null, "people/*/suggestions/groups", "group.suggestions.list");
+		rule(null, "people/*/suggestions/groups/*", "group.suggestions.delete");
+		rule(HttpMethod.POST, "people/*/job-bookmarks", "job.bookmarks.create");
+		rule(null, "people/*/job-bookmarks", "job.bookmarks.list");
+		rule(null, "people/*/job-bookmarks/*", "job.bookmarks.delete");
+		rule(null, "people/*/group-memberships", "group.memberships.list");
+		rule(HttpMethod.DELETE, "people/*/group-memberships/*", "group.leave");
+		rule(null, "people/*/group-memberships/*", "group.join");
+		rule(null, "people/*", "profile.get");
+		rule(null, "company-search", "company.search");
+		rule(null, "companies", "company.list");
+		rule(null, "companies/*/products", "company.products.list");
+		rule(null, "companies/*", "company.get");
+		rule(null, "job-search", "job.search");
+		rule(null, "jobs/*", "job.get");
+		rule(HttpMethod.POST, "groups/*/posts", "group.posts.create");
+		rule(null, "groups/*/posts", "group.posts.list");
+		rule(null, "groups/*", "group.get");
+		rule(HttpMethod.POST, "posts/*/comments", "group.comments.create");
+		rule(null, "posts/*/comments", "group.comments.list");
+		rule(null, "posts/*/relation-to-viewer/is-liked", "group.posts.like");
+		rule(null, "posts/*/relation-to-viewer/is-following", "group.posts.follow");
+		rule(null, "posts/*/category/code", "group.posts.flag");
+		rule(null, "posts/*", "group.posts.delete");
+		rule(null, "comments/*", "group.comments.delete");
+	}
+
+	private OperationNames() {
+	}
+
+	/**
+	 * @param method the request method
+	 * @param uri the request URI
+	 * @return the operation name, or {@link #OTHER}
+	 */
+	public static String resolve(HttpMethod method, URI uri) {
+		String path = uri.getRawPath();
+		int root = path == null ? -1 : path.indexOf(API_ROOT);
+		if (root < 0) {
+			return OTHER;
+		}
+		if (path.indexOf(":(current-share)", root) >= 0) {
+			return "shares.current";
+		}
+		String[] segments = segments(stripSelectors(path.substring(root + API_ROOT.length())));
+		for (Rule rule : RULES) {
+			if (rule.matches(method, segments)) {
+				return rule.name;
+			}
+		}
+		return OTHER;
+	}
+
+	/*
+	 * Removes field selectors such as ":(id,positions:(title))", which may be nested,
+	 * and a trailing slash.
+	 */
+	private static String stripSelectors(String path) {
+		StringBuilder stripped = new StringBuilder(path.length());
+		int depth = 0;
+		for (int i = 0; i < path.length(); i++) {
+			char c = path.charAt(i);
+			if (depth > 0) {
+				if (c == '(') {
+					depth++;
+				}
+				else if (c == ')') {
+					depth--;
+				}
+			}
+			else if (c == ':' && i + 1 < path.length() && path.charAt(i + 1) == '(') {
+				depth = 1;
+				i++;
+			}
+			else {
+				stripped.append(c);
+			}
+		}
+		int length = stripped.length();
+		return length > 0 && stripped.charAt(length - 1) == '/' ? stripped.substring(0, length - 1) : stripped.toString();
+	}
+
+	/*
+	 * Splits the path into segments. An encoded '/' also separates segments, as templates that
+	 * pass "/" + id as a variable get it encoded, except within key=value segments, where it is part of the value.
+	 */
+	private static String[] segments(String path) {
+		List<String> segments = new ArrayList<String>();
+		for (String segment : path.split("/")) {
+			if (segment.indexOf('=') >= 0) {
+				segments.add(segment);
+			}
+			else {
+				for (String part : ENCODED_SLASH.split(segment)) {
+					segments.add(part);
+				}
+			}
+		}
+		return segments.toArray(new String[segments.size()]);
+	}
+
+	private static void rule(HttpMethod method, String pattern, String name) {
+		RULES.add(new Rule(method, pattern.split("/"), name));
+	}
+
+	private static final class Rule {
+
+		private final HttpMethod method;
+
+		private final String[] segments;
+
+		private final String name;
+
+		Rule(HttpMethod method, String[] segments, String name) {
+			this.method = method;
+			this.segments = segments;
+			this.name = name;
+		}
+
+		boolean matches(HttpMethod requestMethod, String[] path) {
+			if ((method != null && method != requestMethod) || path.length != segments.length) {
+				return false;
+			}
+			for (int i = 0; i < segments.length; i++) {
+				if (!"*".equals(segments[i]) && !segments[i].equals(path[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.paging;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a paginated resource.
+ *
+ * @author agent
+ */
+public final class Page<T> {
+
+	private final List<T> items;
+
+	private final int total;
+
+	/**
+	 * @param items the items on the page; null is treated as no items
+	 * @param total the number of items in the whole resource, or -1 if LinkedIn does not report it
+	 */
+	public Page(List<T> items, int total) {
+		this.items = items == null ? Collections.<T>emptyList() : items;
+		this.total = total;
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.paging;
+
+/**
+ * Reads one page of a paginated resource.
+ *
+ * @author agent
+ */
+public interface PageFetcher<T> {
+
+	/**
+	 * @param start index of the first item
+	 * @param count number of items requested
+	 * @return the page; fewer than count items marks the end of the resource
+	 */
+	Page<T> fetch(int start, int count);
+
+}
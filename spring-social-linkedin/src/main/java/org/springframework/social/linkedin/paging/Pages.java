@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.paging;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.social.linkedin.api.ConnectionOperations;
+import org.springframework.social.linkedin.api.Group.GroupPosts;
+import org.springframework.social.linkedin.api.GroupOperations;
+import org.springframework.social.linkedin.api.JobBookmark;
+import org.springframework.social.linkedin.api.JobBookmarks;
+import org.springframework.social.linkedin.api.JobOperations;
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+import org.springframework.social.linkedin.api.Post;
+import org.springframework.social.linkedin.api.PostComment;
+import org.springframework.social.linkedin.api.PostComments;
+import org.springframework.social.linkedin.api.SearchResult;
+
+/**
+ * Read-ahead iterators over the paginated resources of the LinkedIn API.
+ * <p>
+ * Each iterator should be closed if it is abandoned before the end, so that fetches ahead of it are cancelled:
+ * <pre>
+ * PrefetchingPageIterator&lt;LinkedInProfile&gt; connections = Pages.connections(linkedIn.connectionOperations(), 100, executor);
+ * try {
+ * 	while (connections.hasNext()) {
+ * 		process(connections.next());
+ * 	}
+ * }
+ * finally {
+ * 	connections.close();
+ * }
+ * </pre>
+ * @author agent
+ */
+public final class Pages {
+
+	private Pages() {
+	}
+
+	public static PrefetchingPageIterator<LinkedInProfile> connections(final ConnectionOperations operations, int pageSize, Executor executor) {
+		return new PrefetchingPageIterator<LinkedInProfile>(new PageFetcher<LinkedInProfile>() {
+			public Page<LinkedInProfile> fetch(int start, int count) {
+				return new Page<LinkedInProfile>(operations.getConnections(start, count), -1);
+			}
+		}, pageSize, executor);
+	}
+
+	public static PrefetchingPageIterator<LinkedInNetworkUpdate> networkUpdates(final NetworkUpdateOperations operations, int pageSize, Executor executor) {
+		return new PrefetchingPageIterator<LinkedInNetworkUpdate>(new PageFetcher<LinkedInNetworkUpdate>() {
+			public Page<LinkedInNetworkUpdate> fetch(int start, int count) {
+				return new Page<LinkedInNetworkUpdate>(operations.getNetworkUpdates(start, count), -1);
+			}
+		}, pageSize, executor);
+	}
+
+	public static PrefetchingPageIterator<Post> groupPosts(final GroupOperations operations, final Integer groupId, int pageSize, Executor executor) {
+		return new PrefetchingPageIterator<Post>(new PageFetcher<Post>() {
+			public Page<Post> fetch(int start, int count) {
+				GroupPosts posts = operations.getPosts(groupId, start, count);
+				return posts == null ? new Page<Post>(null, -1) : new Page<Post>(posts.getPosts(), total(posts));
+			}
+		}, pageSize, executor);
+	}
+
+	public static PrefetchingPageIterator<PostComment> postComments(final GroupOperations operations, final String postId, int pageSize, Executor executor) {
+		return new PrefetchingPageIterator<PostComment>(new PageFetcher<PostComment>() {
+			public Page<PostComment> fetch(int start, int count) {
+				PostComments comments = operations.getPostComments(postId, start, count);
+				return comments == null ? new Page<PostComment>(null, -1) : new Page<PostComment>(comments.getComments(), total(comments));
+			}
+		}, pageSize, executor);
+	}
+
+	public static PrefetchingPageIterator<JobBookmark> jobBookmarks(final JobOperations operations, int pageSize, Executor executor) {
+		return new PrefetchingPageIterator<JobBookmark>(new PageFetcher<JobBookmark>() {
+			public Page<JobBookmark> fetch(int start, int count) {
+				JobBookmarks bookmarks = operations.getBookmarks(start, count);
+				return bookmarks == null ? new Page<JobBookmark>(null, -1) : new Page<JobBookmark>(bookmarks.getJobBookmarks(), total(bookmarks));
+			}
+		}, pageSize, executor);
+	}
+
+	/*
+	 * A total of 0 alongside items means LinkedIn left it out.
+	 */
+	private static int total(SearchResult result) {
+		return result.getTotal() > 0 ? result.getTotal() : -1;
+	}
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.paging;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.util.Assert;
+
+/**
+ * Iterates over every item of a paginated resource, fetching the following pages on an {@link Executor}
+ * while the current one is consumed.
+ * <p>
+ * The read-ahead depth starts at one page. It grows, up to the maximum depth, each time the consumer has to wait for
+ * a page, and shrinks when pages are found waiting unread, so a slow consumer does not cause pages to pile up.
+ * Pages past the end of the resource are never requested when LinkedIn reports a total, and outstanding fetches
+ * are cancelled when the end is reached or the iterator is closed. An exception thrown by a fetch is rethrown by
+ * {@link #hasNext()} or {@link #next()} when its page is reached. When the executor rejects a fetch, reading ahead
+ * waits for the pages already requested, or the page is fetched on the consuming thread if none are.
+ * </p>
+ * <p>
+ * The iterator itself is not thread-safe and should be consumed by one thread.
+ * </p>
+ * @author agent
+ */
+public class PrefetchingPageIterator<T> implements Iterator<T>, Closeable {
+
+	public static final int DEFAULT_MAX_DEPTH = 4;
+
+	private final PageFetcher<T> fetcher;
+
+	private final Executor executor;
+
+	private final int pageSize;
+
+	private final int maxDepth;
+
+	private final Deque<FutureTask<Page<T>>> pending = new ArrayDeque<FutureTask<Page<T>>>();
+
+	private Iterator<T> current = Collections.<T>emptyList().iterator();
+
+	private int nextStart;
+
+	private int total = -1;
+
+	private int depth = 1;
+
+	private boolean exhausted;
+
+	public PrefetchingPageIterator(PageFetcher<T> fetcher, int pageSize, Executor executor) {
+		this(fetcher, pageSize, executor, DEFAULT_MAX_DEPTH);
+	}
+
+	/**
+	 * @param fetcher reads one page
+	 * @param pageSize items requested per page
+	 * @param executor runs the fetches
+	 * @param maxDepth maximum number of pages fetched ahead of the one being consumed
+	 */
+	public PrefetchingPageIterator(PageFetcher<T> fetcher, int pageSize, Executor executor, int maxDepth) {
+		Assert.notNull(fetcher, "PageFetcher must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(pageSize > 0, "Page size must be positive");
+		Assert.isTrue(maxDepth > 0, "Max depth must be positive");
+		this.fetcher = fetcher;
+		this.executor = executor;
+		this.pageSize = pageSize;
+		this.maxDepth = maxDepth;
+	}
+
+	public boolean hasNext() {
+		while (!current.hasNext()) {
+			if (!advance()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return current.next();
+	}
+
+	public void remove() {
+		throw new UnsupportedOperationException("remove");
+	}
+
+	/**
+	 * @return number of pages currently fetched ahead
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Stops reading: fetches in progress are cancelled and no more pages are requested.
+	 */
+	public void close() {
+		exhausted = true;
+		current = Collections.<T>emptyList().iterator();
+		cancelPending();
+	}
+
+	private boolean advance() {
+		fill();
+		FutureTask<Page<T>> head = pending.poll();
+		if (head == null) {
+			return false;
+		}
+		boolean waited = !head.isDone();
+		int start = nextStart - (pending.size() + 1) * pageSize;
+		Page<T> page = await(head);
+		if (waited) {
+			depth = Math.min(maxDepth, depth + 1);
+		}
+		else if (!pending.isEmpty() && pending.peek().isDone()) {
+			depth = Math.max(1, depth - 1);
+		}
+		if (page.getTotal() >= 0) {
+			total = page.getTotal();
+		}
+		if (page.getItems().size() < pageSize || (total >= 0 && start + pageSize >= total)) {
+			exhausted = true;
+			cancelPending();
+		}
+		current = page.getItems().iterator();
+		fill();
+		return true;
+	}
+
+	/*
+	 * Keeps depth pages requested beyond the one about to be consumed, or
+	 * a single page when nothing has been requested yet.
+	 */
+	private void fill() {
+		while (!exhausted && pending.size() < depth + (current.hasNext() ? 0 : 1) && (total < 0 || nextStart < total)) {
+			final int start = nextStart;
+			FutureTask<Page<T>> task = new FutureTask<Page<T>>(new Callable<Page<T>>() {
+				public Page<T> call() {
+					return fetcher.fetch(start, pageSize);
+				}
+			});
+			try {
+				executor.execute(task);
+			}
+			catch (RejectedExecutionException e) {
+				if (!pending.isEmpty()) {
+					// read ahead again once a page has been consumed
+					return;
+				}
+				// nothing is in flight to wait for, so fetch the page on the calling thread
+				task.run();
+			}
+			pending.add(task);
+			nextStart += pageSize;
+		}
+	}
+
+	private Page<T> await(FutureTask<Page<T>> task) {
+		try {
+			return task.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new IllegalStateException("Interrupted while waiting for a page", e);
+		}
+		catch (CancellationException e) {
+			return new Page<T>(null, total);
+		}
+		catch (ExecutionException e) {
+			close();
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private void cancelPending() {
+		for (FutureTask<Page<T>> task : pending) {
+			task.cancel(true);
+		}
+		pending.clear();
+	}
+
+}
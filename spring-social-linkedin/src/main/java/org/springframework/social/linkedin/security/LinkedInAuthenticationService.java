@@ -1,7 +1,11 @@
 package org.springframework.social.linkedin.security;
 
+import java.util.List;
+
 import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
 import org.springframework.social.linkedin.connect.LinkedInConnectionFactory;
+import org.springframework.social.linkedin.connect.LinkedInTemplateCustomizer;
 import org.springframework.social.security.provider.OAuth2AuthenticationService;
 
 public class LinkedInAuthenticationService extends OAuth2AuthenticationService<LinkedIn> {
@@ -10,4 +14,18 @@ public class LinkedInAuthenticationService extends OAuth2AuthenticationService<L
 		super(new LinkedInConnectionFactory(apiKey, appSecret));
 	}
 
+	/**
+	 * @see LinkedInConnectionFactory#setTemplateCustomizers(List)
+	 */
+	public void setTemplateCustomizers(List<LinkedInTemplateCustomizer> customizers) {
+		((LinkedInConnectionFactory) getConnectionFactory()).setTemplateCustomizers(customizers);
+	}
+
+	/**
+	 * @see LinkedInConnectionFactory#setBindingCache(LinkedInBindingCache)
+	 */
+	public void setBindingCache(LinkedInBindingCache bindingCache) {
+		((LinkedInConnectionFactory) getConnectionFactory()).setBindingCache(bindingCache);
+	}
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import java.util.List;
+
+import org.springframework.social.linkedin.api.ConnectionOperations;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.NetworkStatistics;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConnectionOperations} that adds the connections it fetches to a {@link LocalProfileIndex},
+ * as first degree connections of the member the operations act for.
+ * A page of connections is added to those indexed before; the full list replaces them and lets the index
+ * answer the member's first degree searches on its own.
+ *
+ * @author agent
+ */
+public class IndexingConnectionOperations implements ConnectionOperations {
+
+	private final ConnectionOperations delegate;
+
+	private final LocalProfileIndex index;
+
+	private final String memberId;
+
+	/**
+	 * @param delegate the operations calling LinkedIn
+	 * @param index the index to feed
+	 * @param memberId the id of the member the operations act for
+	 */
+	public IndexingConnectionOperations(ConnectionOperations delegate, LocalProfileIndex index, String memberId) {
+		Assert.notNull(delegate, "ConnectionOperations must not be null");
+		Assert.notNull(index, "LocalProfileIndex must not be null");
+		Assert.hasLength(memberId, "Member id must not be empty");
+		this.delegate = delegate;
+		this.index = index;
+		this.memberId = memberId;
+	}
+
+	public List<LinkedInProfile> getConnections() {
+		List<LinkedInProfile> connections = delegate.getConnections();
+		index.indexConnections(memberId, connections, true);
+		return connections;
+	}
+
+	public List<LinkedInProfile> getConnections(int start, int count) {
+		List<LinkedInProfile> connections = delegate.getConnections(start, count);
+		index.indexConnections(memberId, connections, false);
+		return connections;
+	}
+
+	public NetworkStatistics getNetworkStatistics() {
+		return delegate.getNetworkStatistics();
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import java.util.Set;
+
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.LinkedInProfileFull;
+import org.springframework.social.linkedin.api.LinkedInProfiles;
+import org.springframework.social.linkedin.api.ProfileField;
+import org.springframework.social.linkedin.api.ProfileOperations;
+import org.springframework.social.linkedin.api.SearchParameters;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ProfileOperations} that feeds every profile it fetches into a {@link LocalProfileIndex}
+ * and answers a member's searches from the index when the index holds the whole result.
+ * <p>
+ * Only searches limited to the member's first degree network are answered locally, and only once
+ * their complete connection list was indexed within the maximum age, for instance by
+ * {@link IndexingConnectionOperations#getConnections()}. Every other search goes to LinkedIn,
+ * and the profiles LinkedIn returns are then indexed.
+ * </p>
+ * @author agent
+ */
+public class LocalFirstProfileOperations implements ProfileOperations {
+
+	public static final long DEFAULT_MAX_AGE = 24 * 60 * 60 * 1000L;
+
+	private final ProfileOperations delegate;
+
+	private final LocalProfileIndex index;
+
+	private final String memberId;
+
+	private long maxAge = DEFAULT_MAX_AGE;
+
+	/**
+	 * @param delegate the operations calling LinkedIn
+	 * @param index the index to search and feed
+	 * @param memberId the id of the member the operations act for
+	 */
+	public LocalFirstProfileOperations(ProfileOperations delegate, LocalProfileIndex index, String memberId) {
+		Assert.notNull(delegate, "ProfileOperations must not be null");
+		Assert.notNull(index, "LocalProfileIndex must not be null");
+		Assert.hasLength(memberId, "Member id must not be empty");
+		this.delegate = delegate;
+		this.index = index;
+		this.memberId = memberId;
+	}
+
+	/**
+	 * @param maxAge milliseconds an indexed connection list may be searched for before LinkedIn is asked again
+	 */
+	public void setMaxAge(long maxAge) {
+		Assert.isTrue(maxAge >= 0, "Max age must not be negative");
+		this.maxAge = maxAge;
+	}
+
+	public String getProfileId() {
+		return delegate.getProfileId();
+	}
+
+	public String getProfileUrl() {
+		return delegate.getProfileUrl();
+	}
+
+	public LinkedInProfile getUserProfile() {
+		return indexed(delegate.getUserProfile());
+	}
+
+	public LinkedInProfile getUserProfile(Set<ProfileField> fields) {
+		// partial profiles are not indexed, so they never hide fields from later searches
+		return delegate.getUserProfile(fields);
+	}
+
+	public LinkedInProfile getProfileById(String id) {
+		return indexed(delegate.getProfileById(id));
+	}
+
+	public LinkedInProfile getProfileByPublicUrl(String url) {
+		return indexed(delegate.getProfileByPublicUrl(url));
+	}
+
+	public LinkedInProfileFull getUserProfileFull() {
+		return indexed(delegate.getUserProfileFull());
+	}
+
+	public LinkedInProfileFull getProfileFullById(String id) {
+		return indexed(delegate.getProfileFullById(id));
+	}
+
+	public LinkedInProfileFull getProfileFullByPublicUrl(String url) {
+		return indexed(delegate.getProfileFullByPublicUrl(url));
+	}
+
+	public LinkedInProfiles search(SearchParameters parameters) {
+		LinkedInProfiles local = index.searchComplete(memberId, parameters, maxAge);
+		if (local != null) {
+			return local;
+		}
+		LinkedInProfiles remote = delegate.search(parameters);
+		if (remote != null) {
+			index.indexAll(remote.getPeople());
+		}
+		return remote;
+	}
+
+	private <P extends LinkedInProfile> P indexed(P profile) {
+		if (profile != null) {
+			index.index(profile);
+		}
+		return profile;
+	}
+
+}
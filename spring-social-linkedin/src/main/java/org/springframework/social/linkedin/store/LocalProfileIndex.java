@@ -0,0 +1,537 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.social.linkedin.api.Education;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.LinkedInProfileFull;
+import org.springframework.social.linkedin.api.LinkedInProfiles;
+import org.springframework.social.linkedin.api.Position;
+import org.springframework.social.linkedin.api.SearchParameters;
+import org.springframework.social.linkedin.api.SearchParameters.FacetType;
+import org.springframework.util.Assert;
+
+/**
+ * In-process inverted index over profiles already fetched from LinkedIn, answering
+ * {@link SearchParameters} queries without a call to LinkedIn.
+ * <p>
+ * Keywords, names, titles, companies, schools and country code are matched word by word, ignoring case;
+ * every word of every criterion must match. The current company, title and school flags select current or
+ * past positions and educations. Facets act as filters: {@link FacetType#CURRENT_COMPANY} and
+ * {@link FacetType#PAST_COMPANY} match a company id or name, {@link FacetType#LOCATION} matches the country
+ * code before any ':', {@link FacetType#INDUSTRY} and {@link FacetType#SCHOOL} match names and
+ * {@link FacetType#NETWORK} matches {@link SearchParameters#NETWORK_FIRST_DEGREE} for the connections of the
+ * searching member. Queries using a postal code, distance, language facet or a sort other than relevance are
+ * not answered, and results come back in indexing order.
+ * </p>
+ * <p>
+ * One index may hold the profiles seen by many members: connections are recorded per member with
+ * {@link #indexConnections(String, Collection, boolean)}, so a member's network facet only matches their own
+ * connections. {@link #search(String, SearchParameters)} only knows the profiles indexed so far, so its total
+ * counts local matches, not LinkedIn's. {@link #searchComplete(String, SearchParameters, long)} answers only
+ * first degree searches over a member's complete connection list, where the local result is the whole result.
+ * </p>
+ * <p>
+ * Titles, companies, schools and country are only known for profiles indexed from a {@link LinkedInProfileFull};
+ * indexing a basic profile later keeps them. Profile fields are held in an {@link OffHeapProfileStore}.
+ * The index is thread-safe.
+ * </p>
+ * @author agent
+ */
+public class LocalProfileIndex {
+
+	private static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+	private final OffHeapProfileStore store;
+
+	private final Map<String, Integer> docs = new HashMap<String, Integer>();
+
+	private final List<Document> documents = new ArrayList<Document>();
+
+	private final Map<String, BitSet> postings = new HashMap<String, BitSet>();
+
+	private final BitSet live = new BitSet();
+
+	private final Map<String, Network> networks = new HashMap<String, Network>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public LocalProfileIndex() {
+		this(new OffHeapProfileStore(DEFAULT_SEGMENT_SIZE));
+	}
+
+	/**
+	 * @param store where the indexed profiles' fields are kept
+	 */
+	public LocalProfileIndex(OffHeapProfileStore store) {
+		Assert.notNull(store, "OffHeapProfileStore must not be null");
+		this.store = store;
+	}
+
+	/**
+	 * Adds or refreshes a profile.
+	 * @param profile the profile fetched from LinkedIn
+	 */
+	public void index(LinkedInProfile profile) {
+		Assert.notNull(profile, "Profile must not be null");
+		lock.writeLock().lock();
+		try {
+			add(profile);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Adds or refreshes several profiles.
+	 * @param profiles the profiles fetched from LinkedIn
+	 */
+	public void indexAll(Collection<? extends LinkedInProfile> profiles) {
+		if (profiles != null) {
+			for (LinkedInProfile profile : profiles) {
+				index(profile);
+			}
+		}
+	}
+
+	/**
+	 * Adds or refreshes the first degree connections of a member.
+	 * @param memberId the id of the member the connections belong to
+	 * @param connections the connections fetched from LinkedIn
+	 * @param complete true if these are all of the member's connections, which then replace those indexed before;
+	 * false for a page, which is added to them
+	 */
+	public void indexConnections(String memberId, Collection<? extends LinkedInProfile> connections, boolean complete) {
+		Assert.hasLength(memberId, "Member id must not be empty");
+		lock.writeLock().lock();
+		try {
+			BitSet indexed = new BitSet();
+			if (connections != null) {
+				for (LinkedInProfile connection : connections) {
+					int doc = add(connection);
+					if (doc >= 0) {
+						indexed.set(doc);
+					}
+				}
+			}
+			Network network = networks.get(memberId);
+			if (network == null) {
+				network = new Network();
+				networks.put(memberId, network);
+			}
+			if (complete) {
+				network.connections = indexed;
+				network.completedAt = System.currentTimeMillis();
+			}
+			else {
+				network.connections.or(indexed);
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean remove(String id) {
+		lock.writeLock().lock();
+		try {
+			Integer doc = docs.remove(id);
+			if (doc == null) {
+				return false;
+			}
+			Document document = documents.get(doc);
+			unpost(doc, document.basicTerms);
+			unpost(doc, document.fullTerms);
+			documents.set(doc, null);
+			live.clear(doc);
+			for (Network network : networks.values()) {
+				if (network.connections.get(doc)) {
+					// the connection list no longer holds every connection
+					network.connections.clear(doc);
+					network.completedAt = -1;
+				}
+			}
+			store.remove(id);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		return true;
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return docs.size();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param parameters a people search
+	 * @return true if the index can evaluate every criterion of the search
+	 */
+	public boolean supports(SearchParameters parameters) {
+		if (parameters.getPostalCode() != null || parameters.getDistance() != null) {
+			return false;
+		}
+		if (parameters.getSort() != null && parameters.getSort() != SearchParameters.Sort.RELEVANCE) {
+			return false;
+		}
+		return !parameters.getFacets().containsKey(FacetType.LANGUAGE);
+	}
+
+	/**
+	 * Runs a people search against the profiles indexed so far.
+	 * @param memberId the id of the searching member, whose connections the network facet matches; may be null
+	 * @param parameters the search
+	 * @return the matching page, with the number of local matches as total, or null if the search is not
+	 * supported or matches nothing
+	 */
+	public LinkedInProfiles search(String memberId, SearchParameters parameters) {
+		if (!supports(parameters)) {
+			return null;
+		}
+		lock.readLock().lock();
+		try {
+			LinkedInProfiles result = page(parameters, match(memberId, parameters), Long.MIN_VALUE);
+			return result == null || result.getPeople().isEmpty() ? null : result;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Answers a people search only if the index holds its complete result: the search must be limited to the
+	 * {@link SearchParameters#NETWORK_FIRST_DEGREE first degree} network of a member whose complete connection
+	 * list was indexed within the maximum age. The total is then LinkedIn's total, and an empty result is an answer.
+	 * @param memberId the id of the searching member
+	 * @param parameters the search
+	 * @param maxAge milliseconds after which indexed connections are stale
+	 * @return the matching page, or null if the index cannot prove that it holds every match
+	 */
+	public LinkedInProfiles searchComplete(String memberId, SearchParameters parameters, long maxAge) {
+		List<String> network = parameters.getFacets().get(FacetType.NETWORK);
+		if (memberId == null || !supports(parameters) || network == null
+				|| !Collections.singletonList(SearchParameters.NETWORK_FIRST_DEGREE).equals(network)) {
+			return null;
+		}
+		long oldest = maxAge == Long.MAX_VALUE ? Long.MIN_VALUE : System.currentTimeMillis() - maxAge;
+		lock.readLock().lock();
+		try {
+			Network connections = networks.get(memberId);
+			if (connections == null || connections.completedAt < 0 || connections.completedAt < oldest) {
+				return null;
+			}
+			return page(parameters, match(memberId, parameters), oldest);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/*
+	 * Decodes the requested page of hits under the index lock, as writes may compact the store and move the records.
+	 * Returns null if a profile on the page was indexed before the oldest time allowed.
+	 */
+	private LinkedInProfiles page(SearchParameters parameters, BitSet hits, long oldest) {
+		List<String> page = new ArrayList<String>();
+		int total = hits.cardinality();
+		int skipped = 0;
+		for (int doc = hits.nextSetBit(0); doc >= 0 && page.size() < parameters.getCount(); doc = hits.nextSetBit(doc + 1)) {
+			if (skipped++ < parameters.getStart()) {
+				continue;
+			}
+			Document document = documents.get(doc);
+			if (document.indexedAt < oldest) {
+				return null;
+			}
+			page.add(document.id);
+		}
+		List<LinkedInProfile> people = new ArrayList<LinkedInProfile>(page.size());
+		ProfileView view = new ProfileView();
+		for (String id : page) {
+			if (store.read(id, view)) {
+				people.add(view.toProfile());
+			}
+		}
+		return new LinkedInProfiles(people.size(), parameters.getStart(), total, people);
+	}
+
+	/*
+	 * Stores and posts a profile; the caller holds the write lock.
+	 * Returns the document of the profile, or -1 for a private profile, which is not indexed.
+	 */
+	private int add(LinkedInProfile profile) {
+		if (profile.getId() == null || "private".equals(profile.getId())) {
+			return -1;
+		}
+		Set<String> basicTerms = basicTerms(profile);
+		Set<String> fullTerms = profile instanceof LinkedInProfileFull ? fullTerms((LinkedInProfileFull) profile) : null;
+		// under the index lock, so that a concurrent remove of the same id cannot interleave with the put
+		store.put(profile);
+		Integer doc = docs.get(profile.getId());
+		Document document;
+		if (doc == null) {
+			doc = documents.size();
+			document = new Document(profile.getId());
+			documents.add(document);
+			docs.put(profile.getId(), doc);
+		}
+		else {
+			document = documents.get(doc);
+			unpost(doc, document.basicTerms);
+			if (fullTerms != null) {
+				unpost(doc, document.fullTerms);
+			}
+		}
+		document.basicTerms = basicTerms.toArray(new String[basicTerms.size()]);
+		post(doc, document.basicTerms);
+		if (fullTerms != null) {
+			document.fullTerms = fullTerms.toArray(new String[fullTerms.size()]);
+			post(doc, document.fullTerms);
+		}
+		document.indexedAt = System.currentTimeMillis();
+		live.set(doc);
+		return doc;
+	}
+
+	private BitSet match(String memberId, SearchParameters parameters) {
+		BitSet hits = (BitSet) live.clone();
+		require(hits, "k:", parameters.getKeywords());
+		require(hits, "fn:", parameters.getFirstName());
+		require(hits, "ln:", parameters.getLastName());
+		require(hits, scoped("co", parameters.getCurrentCompany()), parameters.getCompanyName());
+		require(hits, scoped("ti", parameters.getCurrentTitle()), parameters.getTitle());
+		require(hits, scoped("sc", parameters.getCurrentSchool()), parameters.getSchoolName());
+		require(hits, "cn:", parameters.getCountryCode());
+		for (Map.Entry<FacetType, List<String>> facet : parameters.getFacets().entrySet()) {
+			BitSet any = new BitSet();
+			for (String value : facet.getValue()) {
+				BitSet posting = facet.getKey() == FacetType.NETWORK ? network(memberId, value) : postings.get(facetTerm(facet.getKey(), value));
+				if (posting != null) {
+					any.or(posting);
+				}
+			}
+			hits.and(any);
+		}
+		return hits;
+	}
+
+	/*
+	 * Only first degree connections are known, and only those of the searching member.
+	 */
+	private BitSet network(String memberId, String value) {
+		if (memberId == null || !SearchParameters.NETWORK_FIRST_DEGREE.equalsIgnoreCase(value.trim())) {
+			return null;
+		}
+		Network network = networks.get(memberId);
+		return network != null ? network.connections : null;
+	}
+
+	private void require(BitSet hits, String prefix, String text) {
+		for (String word : words(text)) {
+			BitSet posting = postings.get(prefix + word);
+			if (posting == null) {
+				hits.clear();
+				return;
+			}
+			hits.and(posting);
+		}
+	}
+
+	private static String scoped(String field, Boolean current) {
+		return current == null ? field + ":" : (current ? field + "+:" : field + "-:");
+	}
+
+	private static String facetTerm(FacetType type, String value) {
+		String normalized = value.toLowerCase(Locale.ROOT).trim();
+		switch (type) {
+		case CURRENT_COMPANY:
+			return "fcc:" + normalized;
+		case PAST_COMPANY:
+			return "fpc:" + normalized;
+		case LOCATION:
+			int colon = normalized.indexOf(':');
+			return "cn:" + (colon < 0 ? normalized : normalized.substring(0, colon));
+		case INDUSTRY:
+			return "fin:" + normalized;
+		case SCHOOL:
+			return "fsc:" + normalized;
+		default:
+			return "?" + type + ":" + normalized;
+		}
+	}
+
+	private void post(int doc, String[] terms) {
+		for (String term : terms) {
+			BitSet posting = postings.get(term);
+			if (posting == null) {
+				posting = new BitSet();
+				postings.put(term, posting);
+			}
+			posting.set(doc);
+		}
+	}
+
+	private void unpost(int doc, String[] terms) {
+		for (String term : terms) {
+			BitSet posting = postings.get(term);
+			if (posting != null) {
+				posting.clear(doc);
+				if (posting.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		}
+	}
+
+	private static Set<String> basicTerms(LinkedInProfile profile) {
+		Set<String> terms = new LinkedHashSet<String>();
+		add(terms, "fn:", profile.getFirstName());
+		add(terms, "ln:", profile.getLastName());
+		for (String text : Arrays.asList(profile.getFirstName(), profile.getLastName(), profile.getHeadline(), profile.getIndustry(), profile.getSummary())) {
+			add(terms, "k:", text);
+		}
+		if (profile.getIndustry() != null) {
+			terms.add("fin:" + profile.getIndustry().toLowerCase(Locale.ROOT).trim());
+		}
+		return terms;
+	}
+
+	private static Set<String> fullTerms(LinkedInProfileFull profile) {
+		Set<String> terms = new LinkedHashSet<String>();
+		if (profile.getPositions() != null) {
+			for (Position position : profile.getPositions()) {
+				String state = position.getIsCurrent() ? "+:" : "-:";
+				add(terms, "ti:", position.getTitle());
+				add(terms, "ti" + state, position.getTitle());
+				add(terms, "k:", position.getTitle());
+				if (position.getCompany() != null) {
+					String name = position.getCompany().getName();
+					add(terms, "co:", name);
+					add(terms, "co" + state, name);
+					add(terms, "k:", name);
+					String facet = position.getIsCurrent() ? "fcc:" : "fpc:";
+					if (position.getCompany().getId() != 0) {
+						terms.add(facet + position.getCompany().getId());
+					}
+					if (name != null) {
+						terms.add(facet + name.toLowerCase(Locale.ROOT).trim());
+					}
+				}
+			}
+		}
+		if (profile.getEducations() != null) {
+			for (Education education : profile.getEducations()) {
+				String name = education.getSchoolName();
+				add(terms, "sc:", name);
+				add(terms, education.getEndDate() == null ? "sc+:" : "sc-:", name);
+				add(terms, "k:", name);
+				if (name != null) {
+					terms.add("fsc:" + name.toLowerCase(Locale.ROOT).trim());
+				}
+			}
+		}
+		if (profile.getLocation() != null && profile.getLocation().getCountry() != null) {
+			terms.add("cn:" + profile.getLocation().getCountry().toLowerCase(Locale.ROOT));
+		}
+		add(terms, "k:", profile.getSpecialties());
+		if (profile.getSkills() != null) {
+			for (String skill : profile.getSkills()) {
+				add(terms, "k:", skill);
+			}
+		}
+		return terms;
+	}
+
+	private static void add(Set<String> terms, String prefix, String text) {
+		for (String word : words(text)) {
+			terms.add(prefix + word);
+		}
+	}
+
+	/**
+	 * Splits text into lower case words of letters and digits.
+	 */
+	static List<String> words(String text) {
+		if (text == null) {
+			return Collections.emptyList();
+		}
+		List<String> words = new ArrayList<String>();
+		int start = -1;
+		for (int i = 0, length = text.length(); i <= length; i++) {
+			boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+			if (wordChar && start < 0) {
+				start = i;
+			}
+			else if (!wordChar && start >= 0) {
+				words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+				start = -1;
+			}
+		}
+		return words;
+	}
+
+	private static final class Document {
+
+		private static final String[] NONE = new String[0];
+
+		private final String id;
+
+		private String[] basicTerms = NONE;
+
+		private String[] fullTerms = NONE;
+
+		private long indexedAt;
+
+		Document(String id) {
+			this.id = id;
+		}
+
+	}
+
+	/**
+	 * The first degree connections of one member.
+	 */
+	private static final class Network {
+
+		private BitSet connections = new BitSet();
+
+		/** When the complete connection list was indexed, or -1 if it has not been. */
+		private long completedAt = -1;
+
+	}
+
+}
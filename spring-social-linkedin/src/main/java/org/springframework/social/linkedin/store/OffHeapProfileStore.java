@@ -0,0 +1,609 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Stores {@link LinkedInProfile} fields outside the Java heap, in direct or memory-mapped segments.
+ * <p>
+ * Each profile is encoded once as a compact UTF-8 record, with the industry, which has few distinct values,
+ * replaced by a dictionary code. The id index is an open addressing table of record addresses, so the heap
+ * holds a few bytes per profile rather than a profile object graph. Records are read through a reusable
+ * {@link ProfileView} that decodes fields on demand.
+ * </p>
+ * <p>
+ * Records are appended: replacing or removing a profile leaves its old record in place, counted by
+ * {@link #getWastedBytes()}, while putting a profile identical to the stored one writes nothing. Once the wasted
+ * bytes exceed a segment and the {@link #setCompactionThreshold(double) compaction threshold} times the live bytes,
+ * the live records are copied into fresh segments and the old ones are released, so memory stays proportional to
+ * the profiles held however often they are refreshed. A view positioned on a direct store stays readable after a
+ * compaction; on a mapped store, whose file regions are reused, it must not be read after the next write.
+ * For a {@link org.springframework.social.linkedin.api.LinkedInProfileFull} only the fields of {@link LinkedInProfile} are stored.
+ * The store is thread-safe; reads run concurrently with each other and are serialized only with writes.
+ * A mapped store uses the file as backing memory and does not reopen a previous file's contents.
+ * </p>
+ * @author agent
+ */
+public class OffHeapProfileStore implements Closeable {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/** Records are addressed with 16 bit offsets. */
+	private static final int MAX_RECORD_LENGTH = 0xFFFF;
+
+	private static final long EMPTY = 0;
+
+	private static final long REMOVED = -1;
+
+	public static final double DEFAULT_COMPACTION_THRESHOLD = 1.0;
+
+	private final int segmentSize;
+
+	private final FileChannel channel;
+
+	private List<ByteBuffer> segments = new ArrayList<ByteBuffer>();
+
+	/** File region of each segment of a mapped store. */
+	private List<Integer> regions = new ArrayList<Integer>();
+
+	private final BitSet mappedRegions = new BitSet();
+
+	private double compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+	private int writeOffset;
+
+	/** Record address plus one, EMPTY or REMOVED. */
+	private long[] slots = new long[1024];
+
+	private int size;
+
+	private int used;
+
+	private long usedBytes;
+
+	private long wastedBytes;
+
+	private final Map<String, Integer> industryCodes = new HashMap<String, Integer>();
+
+	private volatile String[] industries = new String[64];
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final ProfileView writerView = new ProfileView();
+
+	/**
+	 * Creates a store in direct memory, allocated in segments of {@link #DEFAULT_SEGMENT_SIZE} bytes.
+	 */
+	public OffHeapProfileStore() {
+		this(DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Creates a store in direct memory.
+	 * @param segmentSize bytes allocated at a time
+	 */
+	public OffHeapProfileStore(int segmentSize) {
+		Assert.isTrue(segmentSize >= MAX_RECORD_LENGTH, "Segment size must be at least " + MAX_RECORD_LENGTH);
+		this.segmentSize = segmentSize;
+		this.channel = null;
+	}
+
+	/**
+	 * Creates a store mapped to a file, which grows by one segment at a time.
+	 * @param file the backing file; existing contents are overwritten
+	 * @param segmentSize bytes mapped at a time
+	 * @throws IOException if the file cannot be opened
+	 */
+	public OffHeapProfileStore(File file, int segmentSize) throws IOException {
+		Assert.isTrue(segmentSize >= MAX_RECORD_LENGTH, "Segment size must be at least " + MAX_RECORD_LENGTH);
+		this.segmentSize = segmentSize;
+		@SuppressWarnings("resource")
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		this.channel = randomAccessFile.getChannel();
+	}
+
+	/**
+	 * @param compactionThreshold ratio of wasted to live bytes beyond which the store is compacted
+	 */
+	public void setCompactionThreshold(double compactionThreshold) {
+		Assert.isTrue(compactionThreshold > 0, "Compaction threshold must be positive");
+		lock.writeLock().lock();
+		try {
+			this.compactionThreshold = compactionThreshold;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Stores a profile, replacing any profile with the same id.
+	 * @param profile the profile to store
+	 * @return false if an identical profile was already stored, in which case nothing is written
+	 */
+	public boolean put(LinkedInProfile profile) {
+		Assert.notNull(profile, "Profile must not be null");
+		Assert.hasLength(profile.getId(), "Profile id must not be empty");
+		byte[][] fields = new byte[ProfileView.FIELD_COUNT][];
+		fields[ProfileView.ID] = utf8(profile.getId());
+		fields[ProfileView.FIRST_NAME] = utf8(profile.getFirstName());
+		fields[ProfileView.LAST_NAME] = utf8(profile.getLastName());
+		fields[ProfileView.HEADLINE] = utf8(profile.getHeadline());
+		fields[ProfileView.EMAIL_ADDRESS] = utf8(profile.getEmailAddress());
+		fields[ProfileView.PUBLIC_PROFILE_URL] = utf8(profile.getPublicProfileUrl());
+		fields[ProfileView.SITE_STANDARD_PROFILE_URL] = profile.getSiteStandardProfileRequest() == null ? null : utf8(profile.getSiteStandardProfileRequest().getUrl());
+		fields[ProfileView.PROFILE_PICTURE_URL] = utf8(profile.getProfilePictureUrl());
+		fields[ProfileView.SUMMARY] = utf8(profile.getSummary());
+		int length = ProfileView.HEADER_LENGTH;
+		for (byte[] field : fields) {
+			length += field == null ? 0 : field.length;
+		}
+		if (length > MAX_RECORD_LENGTH) {
+			throw new IllegalArgumentException("Profile " + profile.getId() + " encodes to " + length + " bytes, more than the maximum of " + MAX_RECORD_LENGTH);
+		}
+
+		lock.writeLock().lock();
+		try {
+			int industry = industryCode(profile.getIndustry());
+			int slot = find(fields[ProfileView.ID]);
+			if (slot >= 0 && recordEquals(slots[slot] - 1, fields, length, industry)) {
+				return false;
+			}
+			long address = write(fields, length, industry);
+			if (slot >= 0) {
+				wastedBytes += recordLength(slots[slot] - 1);
+				slots[slot] = address + 1;
+				compactIfWasteful();
+			}
+			else {
+				insert(fields[ProfileView.ID], address);
+			}
+			return true;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Positions a view on a stored profile.
+	 * @param id the profile id
+	 * @param view the view to position
+	 * @return false, leaving the view unchanged, if no profile has the id
+	 */
+	public boolean read(String id, ProfileView view) {
+		byte[] key = utf8(id);
+		lock.readLock().lock();
+		try {
+			int slot = find(key);
+			if (slot < 0) {
+				return false;
+			}
+			position(view, slots[slot] - 1);
+			return true;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Decodes a stored profile. The record is copied out before any write can move it, so this is safe on a mapped store
+	 * under concurrent writes. Every stored field is restored: id, first and last name, headline, industry, email address,
+	 * public and site standard profile URLs, picture URL and summary. The connection authorization and any extra data
+	 * of the original profile are not stored.
+	 * @param id the profile id
+	 * @return a newly decoded profile, or null if no profile has the id
+	 */
+	public LinkedInProfile get(String id) {
+		byte[] key = utf8(id);
+		ObjectNode json;
+		lock.readLock().lock();
+		try {
+			int slot = find(key);
+			if (slot < 0) {
+				return null;
+			}
+			ProfileView view = new ProfileView();
+			position(view, slots[slot] - 1);
+			json = view.toJson();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		return ProfileView.toProfile(json);
+	}
+
+	public boolean contains(String id) {
+		return read(id, new ProfileView());
+	}
+
+	/**
+	 * @param id the profile id
+	 * @return true if a profile was removed
+	 */
+	public boolean remove(String id) {
+		byte[] key = utf8(id);
+		lock.writeLock().lock();
+		try {
+			int slot = find(key);
+			if (slot < 0) {
+				return false;
+			}
+			wastedBytes += recordLength(slots[slot] - 1);
+			slots[slot] = REMOVED;
+			size--;
+			compactIfWasteful();
+			return true;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Positions the view on each stored profile in turn. Writes wait until the scan completes.
+	 * @param view the view to position
+	 * @param callback invoked once per profile
+	 */
+	public void scan(ProfileView view, ProfileCallback callback) {
+		lock.readLock().lock();
+		try {
+			for (long entry : slots) {
+				if (entry != EMPTY && entry != REMOVED) {
+					position(view, entry - 1);
+					callback.profile(view);
+				}
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return bytes of all records written since the last compaction, including superseded ones
+	 */
+	public long getUsedBytes() {
+		lock.readLock().lock();
+		try {
+			return usedBytes;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return bytes of records superseded by a later put or a remove
+	 */
+	public long getWastedBytes() {
+		lock.readLock().lock();
+		try {
+			return wastedBytes;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the live records into fresh segments and releases the old ones.
+	 */
+	public void compact() {
+		lock.writeLock().lock();
+		try {
+			List<ByteBuffer> oldSegments = segments;
+			List<Integer> oldRegions = regions;
+			segments = new ArrayList<ByteBuffer>();
+			regions = new ArrayList<Integer>();
+			usedBytes = 0;
+			wastedBytes = 0;
+			byte[] record = new byte[MAX_RECORD_LENGTH];
+			for (int slot = 0; slot < slots.length; slot++) {
+				long entry = slots[slot];
+				if (entry != EMPTY && entry != REMOVED) {
+					ByteBuffer source = oldSegments.get((int) ((entry - 1) >>> 32)).duplicate();
+					int offset = (int) (entry - 1);
+					int length = source.getChar(offset);
+					source.position(offset);
+					source.get(record, 0, length);
+					slots[slot] = append(record, length) + 1;
+				}
+			}
+			for (Integer region : oldRegions) {
+				mappedRegions.clear(region);
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return bytes of off-heap memory allocated or mapped
+	 */
+	public long getAllocatedBytes() {
+		lock.readLock().lock();
+		try {
+			return (long) segments.size() * segmentSize;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Closes the backing file of a mapped store. Direct memory is released when the store is garbage collected.
+	 */
+	public void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Callback for {@link OffHeapProfileStore#scan(ProfileView, ProfileCallback)}.
+	 */
+	public interface ProfileCallback {
+
+		/**
+		 * @param view positioned on the current profile; valid only until the callback returns
+		 */
+		void profile(ProfileView view);
+
+	}
+
+	String industry(int code) {
+		return code < 0 ? null : industries[code];
+	}
+
+	private int industryCode(String industry) {
+		if (industry == null) {
+			return -1;
+		}
+		Integer code = industryCodes.get(industry);
+		if (code == null) {
+			code = industryCodes.size();
+			String[] current = industries;
+			if (code == current.length) {
+				current = Arrays.copyOf(current, code * 2);
+			}
+			current[code] = industry;
+			industries = current;
+			industryCodes.put(industry, code);
+		}
+		return code;
+	}
+
+	private long write(byte[][] fields, int length, int industry) {
+		ensureCapacity(length);
+		ByteBuffer segment = segments.get(segments.size() - 1).duplicate();
+		int offset = writeOffset;
+		short nullMask = 0;
+		int end = ProfileView.HEADER_LENGTH;
+		segment.position(offset + ProfileView.HEADER_LENGTH);
+		for (int i = 0; i < fields.length; i++) {
+			if (fields[i] == null) {
+				nullMask |= 1 << i;
+			}
+			else {
+				segment.put(fields[i]);
+				end += fields[i].length;
+			}
+			segment.putChar(offset + ProfileView.ENDS_OFFSET + 2 * i, (char) end);
+		}
+		segment.putChar(offset, (char) length);
+		segment.putShort(offset + ProfileView.NULL_MASK_OFFSET, nullMask);
+		segment.putInt(offset + ProfileView.INDUSTRY_OFFSET, industry);
+		writeOffset += length;
+		usedBytes += length;
+		return ((long) (segments.size() - 1) << 32) | offset;
+	}
+
+	/**
+	 * Appends an encoded record as is.
+	 */
+	private long append(byte[] record, int length) {
+		ensureCapacity(length);
+		ByteBuffer segment = segments.get(segments.size() - 1).duplicate();
+		int offset = writeOffset;
+		segment.position(offset);
+		segment.put(record, 0, length);
+		writeOffset += length;
+		usedBytes += length;
+		return ((long) (segments.size() - 1) << 32) | offset;
+	}
+
+	private void ensureCapacity(int length) {
+		if (segments.isEmpty() || writeOffset + length > segmentSize) {
+			segments.add(allocate());
+			writeOffset = 0;
+		}
+	}
+
+	/*
+	 * A mapped segment takes the lowest file region not in use, so that regions released by a compaction
+	 * are reused and the file does not grow beyond the live and wasted bytes it must hold.
+	 */
+	private ByteBuffer allocate() {
+		if (channel == null) {
+			return ByteBuffer.allocateDirect(segmentSize);
+		}
+		int region = mappedRegions.nextClearBit(0);
+		try {
+			ByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, (long) region * segmentSize, segmentSize);
+			mappedRegions.set(region);
+			regions.add(region);
+			return segment;
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not map region " + region + " of the profile store", e);
+		}
+	}
+
+	private void compactIfWasteful() {
+		if (wastedBytes >= segmentSize && wastedBytes > (usedBytes - wastedBytes) * compactionThreshold) {
+			compact();
+		}
+	}
+
+	/**
+	 * Compares a stored record with the encoding of a profile.
+	 */
+	private boolean recordEquals(long address, byte[][] fields, int length, int industry) {
+		ByteBuffer segment = segments.get((int) (address >>> 32));
+		int offset = (int) address;
+		if (segment.getChar(offset) != length || segment.getInt(offset + ProfileView.INDUSTRY_OFFSET) != industry) {
+			return false;
+		}
+		short nullMask = segment.getShort(offset + ProfileView.NULL_MASK_OFFSET);
+		int position = offset + ProfileView.HEADER_LENGTH;
+		for (int i = 0; i < fields.length; i++) {
+			if ((fields[i] == null) != ((nullMask & (1 << i)) != 0)) {
+				return false;
+			}
+			if (fields[i] != null) {
+				for (byte b : fields[i]) {
+					if (segment.get(position++) != b) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private int recordLength(long address) {
+		return segments.get((int) (address >>> 32)).getChar((int) address);
+	}
+
+	private void position(ProfileView view, long address) {
+		view.position(this, segments.get((int) (address >>> 32)), (int) address);
+	}
+
+	/**
+	 * @return the slot holding the id, or -1
+	 */
+	private int find(byte[] id) {
+		int mask = slots.length - 1;
+		for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+			long entry = slots[slot];
+			if (entry == EMPTY) {
+				return -1;
+			}
+			if (entry != REMOVED && idEquals(entry - 1, id)) {
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Compares the id of a record with the UTF-8 bytes of an id without decoding it.
+	 */
+	private boolean idEquals(long address, byte[] id) {
+		ByteBuffer segment = segments.get((int) (address >>> 32));
+		int offset = (int) address;
+		int length = segment.getChar(offset + ProfileView.ENDS_OFFSET) - ProfileView.HEADER_LENGTH;
+		if (length != id.length || (segment.getShort(offset + ProfileView.NULL_MASK_OFFSET) & 1) != 0) {
+			return false;
+		}
+		for (int i = 0, start = offset + ProfileView.HEADER_LENGTH; i < length; i++) {
+			if (segment.get(start + i) != id[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void insert(byte[] id, long address) {
+		if ((used + 1) * 2 > slots.length) {
+			rehash();
+		}
+		int mask = slots.length - 1;
+		int slot = hash(id) & mask;
+		while (slots[slot] != EMPTY && slots[slot] != REMOVED) {
+			slot = (slot + 1) & mask;
+		}
+		if (slots[slot] == EMPTY) {
+			used++;
+		}
+		slots[slot] = address + 1;
+		size++;
+	}
+
+	/*
+	 * Grows the table when live entries fill a quarter of it, otherwise rebuilds it at
+	 * the same size to drop REMOVED markers.
+	 */
+	private void rehash() {
+		long[] old = slots;
+		slots = new long[size * 4 > old.length ? old.length * 2 : old.length];
+		int mask = slots.length - 1;
+		for (long entry : old) {
+			if (entry != EMPTY && entry != REMOVED) {
+				long address = entry - 1;
+				position(writerView, address);
+				int slot = hash(utf8(writerView.getId())) & mask;
+				while (slots[slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				slots[slot] = entry;
+			}
+		}
+		used = size;
+	}
+
+	private static int hash(byte[] id) {
+		int h = Arrays.hashCode(id);
+		return h ^ (h >>> 16);
+	}
+
+	private static byte[] utf8(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.impl.json.LinkedInObjectMappers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Flyweight over one profile record of an {@link OffHeapProfileStore}.
+ * <p>
+ * A view is positioned on a record by {@link OffHeapProfileStore#read(String, ProfileView)} and decodes each field
+ * only when its getter is called, so one view can be reused to scan any number of profiles without keeping them
+ * on the heap. A view is not thread-safe; use one per thread.
+ * </p>
+ * @author agent
+ */
+public final class ProfileView {
+
+	static final int ID = 0;
+	static final int FIRST_NAME = 1;
+	static final int LAST_NAME = 2;
+	static final int HEADLINE = 3;
+	static final int EMAIL_ADDRESS = 4;
+	static final int PUBLIC_PROFILE_URL = 5;
+	static final int SITE_STANDARD_PROFILE_URL = 6;
+	static final int PROFILE_PICTURE_URL = 7;
+	static final int SUMMARY = 8;
+	static final int FIELD_COUNT = 9;
+
+	/*
+	 * Record layout: char record length, short null mask (one bit per string field), int industry code (-1 for none),
+	 * char end offset of each string field, then the UTF-8 bytes of the string fields back to back.
+	 */
+	static final int NULL_MASK_OFFSET = 2;
+	static final int INDUSTRY_OFFSET = 4;
+	static final int ENDS_OFFSET = 8;
+	static final int HEADER_LENGTH = ENDS_OFFSET + 2 * FIELD_COUNT;
+
+	private OffHeapProfileStore store;
+
+	private ByteBuffer segment;
+
+	private int offset;
+
+	private byte[] scratch = new byte[256];
+
+	void position(OffHeapProfileStore store, ByteBuffer segment, int offset) {
+		this.store = store;
+		this.segment = segment;
+		this.offset = offset;
+	}
+
+	public String getId() {
+		return field(ID);
+	}
+
+	public String getFirstName() {
+		return field(FIRST_NAME);
+	}
+
+	public String getLastName() {
+		return field(LAST_NAME);
+	}
+
+	public String getHeadline() {
+		return field(HEADLINE);
+	}
+
+	public String getIndustry() {
+		return store.industry(segment.getInt(offset + INDUSTRY_OFFSET));
+	}
+
+	public String getEmailAddress() {
+		return field(EMAIL_ADDRESS);
+	}
+
+	public String getPublicProfileUrl() {
+		return field(PUBLIC_PROFILE_URL);
+	}
+
+	public String getSiteStandardProfileUrl() {
+		return field(SITE_STANDARD_PROFILE_URL);
+	}
+
+	public String getProfilePictureUrl() {
+		return field(PROFILE_PICTURE_URL);
+	}
+
+	public String getSummary() {
+		return field(SUMMARY);
+	}
+
+	/**
+	 * Decodes every field into a new {@link LinkedInProfile}.
+	 * @return a profile with the stored values
+	 * @see OffHeapProfileStore#get(String)
+	 */
+	public LinkedInProfile toProfile() {
+		return toProfile(toJson());
+	}
+
+	/**
+	 * Copies the stored fields into a JSON object with the names LinkedIn uses for them.
+	 */
+	ObjectNode toJson() {
+		ObjectNode json = LinkedInObjectMappers.shared().createObjectNode();
+		json.put("id", getId());
+		json.put("firstName", getFirstName());
+		json.put("lastName", getLastName());
+		json.put("headline", getHeadline());
+		json.put("industry", getIndustry());
+		json.put("emailAddress", getEmailAddress());
+		json.put("publicProfileUrl", getPublicProfileUrl());
+		String siteStandardProfileUrl = getSiteStandardProfileUrl();
+		if (siteStandardProfileUrl != null) {
+			json.putObject("siteStandardProfileRequest").put("url", siteStandardProfileUrl);
+		}
+		json.put("pictureUrl", getProfilePictureUrl());
+		json.put("summary", getSummary());
+		return json;
+	}
+
+	/*
+	 * Goes through the shared mapper, as the email address and summary of a profile can only be set by Jackson.
+	 */
+	static LinkedInProfile toProfile(ObjectNode json) {
+		try {
+			return LinkedInObjectMappers.shared().treeToValue(json, LinkedInProfile.class);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not decode stored profile " + json.path("id").asText(), e);
+		}
+	}
+
+	private String field(int field) {
+		if ((segment.getShort(offset + NULL_MASK_OFFSET) & (1 << field)) != 0) {
+			return null;
+		}
+		int start = field == 0 ? HEADER_LENGTH : segment.getChar(offset + ENDS_OFFSET + 2 * (field - 1));
+		int end = segment.getChar(offset + ENDS_OFFSET + 2 * field);
+		int length = end - start;
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		for (int i = 0, from = offset + start; i < length; i++) {
+			scratch[i] = segment.get(from + i);
+		}
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+}
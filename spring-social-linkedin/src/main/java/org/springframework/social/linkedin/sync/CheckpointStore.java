@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+/**
+ * Persists {@link NetworkUpdateCheckpoint}s, one per member.
+ *
+ * @author agent
+ */
+public interface CheckpointStore {
+
+	/**
+	 * @param memberId the member to load the checkpoint for
+	 * @return the last saved checkpoint, or null if the member was never synchronized
+	 */
+	NetworkUpdateCheckpoint load(String memberId);
+
+	/**
+	 * Saves a checkpoint, replacing any previous checkpoint for the same member.
+	 * @param checkpoint the checkpoint to save
+	 */
+	void save(NetworkUpdateCheckpoint checkpoint);
+
+	/**
+	 * Forgets a member's checkpoint, so the next synchronization starts from scratch.
+	 * @param memberId the member to forget
+	 */
+	void remove(String memberId);
+
+}
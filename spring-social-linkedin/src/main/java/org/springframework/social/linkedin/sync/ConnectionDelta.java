@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.List;
+
+/**
+ * Connections gained and lost by a member between two snapshots.
+ *
+ * @author agent
+ */
+public class ConnectionDelta {
+
+	private final String memberId;
+
+	private final List<String> added;
+
+	private final List<String> removed;
+
+	private final int connectionCount;
+
+	public ConnectionDelta(String memberId, List<String> added, List<String> removed, int connectionCount) {
+		this.memberId = memberId;
+		this.added = added;
+		this.removed = removed;
+		this.connectionCount = connectionCount;
+	}
+
+	public String getMemberId() {
+		return memberId;
+	}
+
+	/**
+	 * @return ids of the new connections
+	 */
+	public List<String> getAdded() {
+		return added;
+	}
+
+	/**
+	 * @return ids of the connections no longer present
+	 */
+	public List<String> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * @return number of connections in the new snapshot
+	 */
+	public int getConnectionCount() {
+		return connectionCount;
+	}
+
+	public boolean isEmpty() {
+		return added.isEmpty() && removed.isEmpty();
+	}
+
+}
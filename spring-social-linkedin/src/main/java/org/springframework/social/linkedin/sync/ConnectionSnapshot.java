@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A member's connections at one point in time, held as a sorted array of {@link MemberIdDictionary} codes.
+ *
+ * @author agent
+ */
+public final class ConnectionSnapshot {
+
+	private final String memberId;
+
+	private final int[] connections;
+
+	private final long timestamp;
+
+	ConnectionSnapshot(String memberId, int[] connections, long timestamp) {
+		this.memberId = memberId;
+		this.connections = connections;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Creates a snapshot from connection ids, for instance ones loaded by a {@link ConnectionSnapshotStore}.
+	 * @param memberId the member
+	 * @param connectionIds ids of the member's connections; duplicates are ignored
+	 * @param timestamp when the snapshot was taken, in milliseconds since the epoch
+	 * @param dictionary the dictionary encoding the ids
+	 * @return the snapshot
+	 */
+	public static ConnectionSnapshot of(String memberId, Collection<String> connectionIds, long timestamp, MemberIdDictionary dictionary) {
+		Assert.hasLength(memberId, "Member id must not be empty");
+		int[] codes = new int[connectionIds.size()];
+		int n = 0;
+		for (String id : connectionIds) {
+			codes[n++] = dictionary.encode(id);
+		}
+		Arrays.sort(codes);
+		int unique = 0;
+		for (int i = 0; i < n; i++) {
+			if (unique == 0 || codes[unique - 1] != codes[i]) {
+				codes[unique++] = codes[i];
+			}
+		}
+		return new ConnectionSnapshot(memberId, unique == n ? codes : Arrays.copyOf(codes, unique), timestamp);
+	}
+
+	public String getMemberId() {
+		return memberId;
+	}
+
+	/**
+	 * @return when the snapshot was taken, in milliseconds since the epoch
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public int size() {
+		return connections.length;
+	}
+
+	/**
+	 * @param code a member id code from the tracker's dictionary
+	 * @return true if the member was a connection when the snapshot was taken
+	 */
+	public boolean contains(int code) {
+		return Arrays.binarySearch(connections, code) >= 0;
+	}
+
+	/**
+	 * @return a copy of the sorted connection codes
+	 */
+	public int[] toArray() {
+		return connections.clone();
+	}
+
+	/**
+	 * @param dictionary the dictionary the snapshot's codes come from
+	 * @return the connection ids, in code order
+	 */
+	public List<String> getConnectionIds(MemberIdDictionary dictionary) {
+		List<String> ids = new ArrayList<String>(connections.length);
+		for (int code : connections) {
+			ids.add(dictionary.decode(code));
+		}
+		return ids;
+	}
+
+	int[] codes() {
+		return connections;
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+/**
+ * Persists {@link ConnectionSnapshot}s, one per member.
+ * <p>
+ * Snapshots hold codes from a {@link MemberIdDictionary}, which are only meaningful to that dictionary.
+ * A store that outlives the dictionary must save the connection ids themselves, using
+ * {@link ConnectionSnapshot#getConnectionIds(MemberIdDictionary)} and
+ * {@link ConnectionSnapshot#of(String, java.util.Collection, long, MemberIdDictionary)}.
+ * </p>
+ * @author agent
+ */
+public interface ConnectionSnapshotStore {
+
+	/**
+	 * @param memberId the member to load the snapshot for
+	 * @param dictionary the dictionary the returned snapshot's codes must come from
+	 * @return the last saved snapshot, or null if none was saved
+	 */
+	ConnectionSnapshot load(String memberId, MemberIdDictionary dictionary);
+
+	/**
+	 * Saves a snapshot, replacing any previous snapshot of the same member.
+	 * @param snapshot the snapshot to save
+	 * @param dictionary the dictionary the snapshot's codes come from
+	 */
+	void save(ConnectionSnapshot snapshot, MemberIdDictionary dictionary);
+
+	/**
+	 * Forgets a member's snapshot, so the next one reports every connection as added.
+	 * @param memberId the member to forget
+	 */
+	void remove(String memberId);
+
+}
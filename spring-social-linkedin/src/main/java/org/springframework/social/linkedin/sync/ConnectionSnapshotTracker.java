@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.social.ApiException;
+import org.springframework.social.linkedin.api.ConnectionOperations;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.NetworkStatistics;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the last known connections of each member and reports what changed when they are read again.
+ * <p>
+ * Connection ids are dictionary encoded to ints and each snapshot is a sorted, duplicate free int array,
+ * about 4 bytes per connection. A new snapshot is compared with the previous one in a single merge pass,
+ * and only the ids that were added or removed are decoded back to strings.
+ * </p>
+ * <p>
+ * Snapshots are kept in a {@link ConnectionSnapshotStore}, in memory by default. Dictionary codes only hold
+ * within one process, so use a store that saves ids, such as {@link FileConnectionSnapshotStore}, for deltas
+ * to carry across restarts.
+ * </p>
+ * @author agent
+ */
+public class ConnectionSnapshotTracker {
+
+	public static final int DEFAULT_PAGE_SIZE = 500;
+
+	/** Id LinkedIn returns for connections outside the viewer's visibility. */
+	private static final String PRIVATE_ID = "private";
+
+	private static final int[] EMPTY = new int[0];
+
+	private final MemberIdDictionary dictionary;
+
+	private final ConnectionSnapshotStore store;
+
+	private int pageSize = DEFAULT_PAGE_SIZE;
+
+	public ConnectionSnapshotTracker() {
+		this(new MemberIdDictionary());
+	}
+
+	public ConnectionSnapshotTracker(MemberIdDictionary dictionary) {
+		this(dictionary, new InMemoryConnectionSnapshotStore());
+	}
+
+	public ConnectionSnapshotTracker(MemberIdDictionary dictionary, ConnectionSnapshotStore store) {
+		Assert.notNull(dictionary, "MemberIdDictionary must not be null");
+		Assert.notNull(store, "ConnectionSnapshotStore must not be null");
+		this.dictionary = dictionary;
+		this.store = store;
+	}
+
+	/**
+	 * @param pageSize number of connections requested per call when synchronizing
+	 */
+	public void setPageSize(int pageSize) {
+		Assert.isTrue(pageSize > 0, "Page size must be positive");
+		this.pageSize = pageSize;
+	}
+
+	public MemberIdDictionary getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Reads all of a member's connections and records them as the member's new snapshot.
+	 * <p>
+	 * When the connections span several pages, the number read is checked against the member's first degree
+	 * count, so that a page missing in the middle of the read is not mistaken for removed connections.
+	 * A read that falls short fails and leaves the previous snapshot in place.
+	 * </p>
+	 * @param memberId the member the operations are bound to
+	 * @param operations connection operations authorized as the member
+	 * @return the change since the previous snapshot; on the first call every connection is reported as added
+	 * @throws ApiException if fewer connections were read than the member has
+	 */
+	public ConnectionDelta synchronize(String memberId, ConnectionOperations operations) {
+		List<String> ids = new ArrayList<String>();
+		int read = 0;
+		int start = 0;
+		for (; ; start += pageSize) {
+			List<LinkedInProfile> page = operations.getConnections(start, pageSize);
+			if (page == null) {
+				break;
+			}
+			read += page.size();
+			for (LinkedInProfile profile : page) {
+				if (profile.getId() != null && !PRIVATE_ID.equals(profile.getId())) {
+					ids.add(profile.getId());
+				}
+			}
+			if (page.size() < pageSize) {
+				break;
+			}
+		}
+		if (start > 0) {
+			NetworkStatistics statistics = operations.getNetworkStatistics();
+			if (statistics == null || read < statistics.getFirstDegreeCount()) {
+				throw new ApiException("linkedin", "Read " + read + " connections of member " + memberId + ", expected "
+						+ (statistics == null ? "network statistics" : String.valueOf(statistics.getFirstDegreeCount())));
+			}
+		}
+		return update(memberId, ids);
+	}
+
+	/**
+	 * Records a member's current connections as the member's new snapshot.
+	 * @param memberId the member
+	 * @param connectionIds ids of all of the member's connections
+	 * @return the change since the previous snapshot; on the first call every connection is reported as added
+	 */
+	public ConnectionDelta update(String memberId, Collection<String> connectionIds) {
+		ConnectionSnapshot snapshot = ConnectionSnapshot.of(memberId, connectionIds, System.currentTimeMillis(), dictionary);
+		ConnectionSnapshot previous = store.load(memberId, dictionary);
+		store.save(snapshot, dictionary);
+		return diff(memberId, previous == null ? EMPTY : previous.codes(), snapshot.codes());
+	}
+
+	/**
+	 * @param memberId the member
+	 * @return the member's last snapshot, or null if none was taken
+	 */
+	public ConnectionSnapshot getSnapshot(String memberId) {
+		return store.load(memberId, dictionary);
+	}
+
+	public void remove(String memberId) {
+		store.remove(memberId);
+	}
+
+	private ConnectionDelta diff(String memberId, int[] before, int[] after) {
+		List<String> added = new ArrayList<String>();
+		List<String> removed = new ArrayList<String>();
+		int i = 0;
+		int j = 0;
+		while (i < before.length && j < after.length) {
+			if (before[i] == after[j]) {
+				i++;
+				j++;
+			}
+			else if (before[i] < after[j]) {
+				removed.add(dictionary.decode(before[i++]));
+			}
+			else {
+				added.add(dictionary.decode(after[j++]));
+			}
+		}
+		while (i < before.length) {
+			removed.add(dictionary.decode(before[i++]));
+		}
+		while (j < after.length) {
+			added.add(dictionary.decode(after[j++]));
+		}
+		return new ConnectionDelta(memberId, added, removed, after.length);
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CheckpointStore} writing one small text file per member to a directory.
+ * <p>
+ * The first line of a file holds the checkpoint timestamp and each following line an update timestamp
+ * and key separated by a space. Files are written to a temporary file first and moved into place,
+ * so a crash while saving leaves the previous checkpoint intact.
+ * </p>
+ * @author agent
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+	private static final String SUFFIX = ".checkpoint";
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final Path directory;
+
+	public FileCheckpointStore(File directory) {
+		Assert.notNull(directory, "Directory must not be null");
+		this.directory = directory.toPath();
+		try {
+			Files.createDirectories(this.directory);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not create checkpoint directory " + directory, e);
+		}
+	}
+
+	public NetworkUpdateCheckpoint load(String memberId) {
+		Path file = fileFor(memberId);
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			long timestamp = Long.parseLong(line.trim());
+			Map<String, Long> recentUpdates = new LinkedHashMap<String, Long>();
+			while ((line = reader.readLine()) != null) {
+				int space = line.indexOf(' ');
+				if (space > 0) {
+					recentUpdates.put(line.substring(space + 1), Long.valueOf(line.substring(0, space)));
+				}
+			}
+			return new NetworkUpdateCheckpoint(memberId, timestamp, recentUpdates);
+		}
+		catch (NoSuchFileException e) {
+			return null;
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not read checkpoint " + file, e);
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalStateException("Corrupt checkpoint " + file, e);
+		}
+	}
+
+	public void save(NetworkUpdateCheckpoint checkpoint) {
+		Path file = fileFor(checkpoint.getMemberId());
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				writer.write(Long.toString(checkpoint.getTimestamp()));
+				writer.newLine();
+				for (Map.Entry<String, Long> entry : checkpoint.getRecentUpdates().entrySet()) {
+					writer.write(entry.getValue().toString());
+					writer.write(' ');
+					writer.write(entry.getKey());
+					writer.newLine();
+				}
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not write checkpoint " + file, e);
+		}
+	}
+
+	public void remove(String memberId) {
+		Path file = fileFor(memberId);
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not delete checkpoint " + file, e);
+		}
+	}
+
+	private Path fileFor(String memberId) {
+		return directory.resolve(fileName(memberId, SUFFIX));
+	}
+
+	/*
+	 * Member ids are hex encoded so any id maps to a valid, distinct file name.
+	 */
+	static String fileName(String memberId, String suffix) {
+		Assert.hasLength(memberId, "Member id must not be empty");
+		byte[] bytes = memberId.getBytes(StandardCharsets.UTF_8);
+		StringBuilder name = new StringBuilder(bytes.length * 2 + suffix.length());
+		for (byte b : bytes) {
+			name.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+		}
+		return name.append(suffix).toString();
+	}
+
+}
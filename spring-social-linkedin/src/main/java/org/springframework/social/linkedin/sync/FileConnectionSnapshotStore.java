@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConnectionSnapshotStore} writing one text file per member to a directory.
+ * <p>
+ * The first line of a file holds the snapshot timestamp and each following line a connection id.
+ * Ids rather than dictionary codes are written, so a snapshot saved by one process can be compared
+ * with the connections read by the next. Files are written to a temporary file first and moved into place,
+ * so a crash while saving leaves the previous snapshot intact.
+ * </p>
+ * @author agent
+ */
+public class FileConnectionSnapshotStore implements ConnectionSnapshotStore {
+
+	private static final String SUFFIX = ".connections";
+
+	private final Path directory;
+
+	public FileConnectionSnapshotStore(File directory) {
+		Assert.notNull(directory, "Directory must not be null");
+		this.directory = directory.toPath();
+		try {
+			Files.createDirectories(this.directory);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not create snapshot directory " + directory, e);
+		}
+	}
+
+	public ConnectionSnapshot load(String memberId, MemberIdDictionary dictionary) {
+		Path file = fileFor(memberId);
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			long timestamp = Long.parseLong(line.trim());
+			List<String> connectionIds = new ArrayList<String>();
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty()) {
+					connectionIds.add(line);
+				}
+			}
+			return ConnectionSnapshot.of(memberId, connectionIds, timestamp, dictionary);
+		}
+		catch (NoSuchFileException e) {
+			return null;
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not read connection snapshot " + file, e);
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalStateException("Corrupt connection snapshot " + file, e);
+		}
+	}
+
+	public void save(ConnectionSnapshot snapshot, MemberIdDictionary dictionary) {
+		Path file = fileFor(snapshot.getMemberId());
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				writer.write(Long.toString(snapshot.getTimestamp()));
+				writer.newLine();
+				for (String id : snapshot.getConnectionIds(dictionary)) {
+					writer.write(id);
+					writer.newLine();
+				}
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not write connection snapshot " + file, e);
+		}
+	}
+
+	public void remove(String memberId) {
+		Path file = fileFor(memberId);
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not delete connection snapshot " + file, e);
+		}
+	}
+
+	private Path fileFor(String memberId) {
+		return directory.resolve(FileCheckpointStore.fileName(memberId, SUFFIX));
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CheckpointStore} keeping checkpoints in memory. Checkpoints are lost when the application stops.
+ *
+ * @author agent
+ */
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+	private final ConcurrentMap<String, NetworkUpdateCheckpoint> checkpoints = new ConcurrentHashMap<String, NetworkUpdateCheckpoint>();
+
+	public NetworkUpdateCheckpoint load(String memberId) {
+		return checkpoints.get(memberId);
+	}
+
+	public void save(NetworkUpdateCheckpoint checkpoint) {
+		checkpoints.put(checkpoint.getMemberId(), checkpoint);
+	}
+
+	public void remove(String memberId) {
+		checkpoints.remove(memberId);
+	}
+
+}
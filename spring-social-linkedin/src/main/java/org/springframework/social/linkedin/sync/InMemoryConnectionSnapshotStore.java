@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link ConnectionSnapshotStore} keeping snapshots in memory, as dictionary codes.
+ * Snapshots are lost when the application stops, and must only be used with the dictionary they were saved with.
+ *
+ * @author agent
+ */
+public class InMemoryConnectionSnapshotStore implements ConnectionSnapshotStore {
+
+	private final ConcurrentMap<String, ConnectionSnapshot> snapshots = new ConcurrentHashMap<String, ConnectionSnapshot>();
+
+	public ConnectionSnapshot load(String memberId, MemberIdDictionary dictionary) {
+		return snapshots.get(memberId);
+	}
+
+	public void save(ConnectionSnapshot snapshot, MemberIdDictionary dictionary) {
+		snapshots.put(snapshot.getMemberId(), snapshot);
+	}
+
+	public void remove(String memberId) {
+		snapshots.remove(memberId);
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Assigns each distinct LinkedIn member id a small, dense int code, so sets of members can be held as int arrays.
+ * Codes are never reused; a dictionary shared by all snapshots stores each id once however many members are connected to it.
+ *
+ * @author agent
+ */
+public class MemberIdDictionary {
+
+	private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<String, Integer>();
+
+	private String[] ids = new String[1024];
+
+	private int size;
+
+	/**
+	 * @param id a member id
+	 * @return the id's code, assigned on first use
+	 */
+	public int encode(String id) {
+		Integer code = codes.get(id);
+		if (code != null) {
+			return code;
+		}
+		Assert.notNull(id, "Member id must not be null");
+		synchronized (this) {
+			code = codes.get(id);
+			if (code == null) {
+				if (size == ids.length) {
+					ids = Arrays.copyOf(ids, size * 2);
+				}
+				ids[size] = id;
+				code = size++;
+				codes.put(id, code);
+			}
+			return code;
+		}
+	}
+
+	/**
+	 * @param code a code returned by {@link #encode(String)}
+	 * @return the member id
+	 */
+	public synchronized String decode(int code) {
+		if (code < 0 || code >= size) {
+			throw new IllegalArgumentException("Unknown member id code " + code);
+		}
+		return ids[code];
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+
+/**
+ * Updates read by {@link NetworkUpdateSynchronizer#fetch(String, NetworkUpdateOperations)}, together with the
+ * checkpoint that marks them as seen. The checkpoint is only saved when the batch is
+ * {@link NetworkUpdateSynchronizer#commit(NetworkUpdateBatch) committed}.
+ *
+ * @author agent
+ */
+public final class NetworkUpdateBatch {
+
+	private final String memberId;
+
+	private final List<LinkedInNetworkUpdate> updates;
+
+	private final NetworkUpdateCheckpoint checkpoint;
+
+	private final boolean truncated;
+
+	NetworkUpdateBatch(String memberId, List<LinkedInNetworkUpdate> updates, NetworkUpdateCheckpoint checkpoint, boolean truncated) {
+		this.memberId = memberId;
+		this.updates = Collections.unmodifiableList(updates);
+		this.checkpoint = checkpoint;
+		this.truncated = truncated;
+	}
+
+	public String getMemberId() {
+		return memberId;
+	}
+
+	/**
+	 * @return updates not committed by a previous batch, newest first
+	 */
+	public List<LinkedInNetworkUpdate> getUpdates() {
+		return updates;
+	}
+
+	public boolean isEmpty() {
+		return updates.isEmpty();
+	}
+
+	/**
+	 * Tells whether reading stopped at the synchronizer's page limit with more updates possibly left.
+	 * Committing a truncated batch moves the checkpoint past the unread updates, which are then never fetched;
+	 * raise the page limit, or poll more often, if they matter.
+	 * @return true if older updates may have been skipped
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * @return the checkpoint saved on commit, or null if there is nothing to commit
+	 */
+	NetworkUpdateCheckpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Where a member's network update feed was last read up to: the timestamp of the newest update seen
+ * and the keys of the updates seen close to it, with their timestamps.
+ * The keys are used to drop updates returned again by a query that overlaps the previous one.
+ *
+ * @author agent
+ */
+public final class NetworkUpdateCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String memberId;
+
+	private final long timestamp;
+
+	private final Map<String, Long> recentUpdates;
+
+	/**
+	 * @param memberId the member the checkpoint belongs to
+	 * @param timestamp the timestamp, in milliseconds, of the newest update seen
+	 * @param recentUpdates update keys mapped to the timestamps of the updates seen near the checkpoint
+	 */
+	public NetworkUpdateCheckpoint(String memberId, long timestamp, Map<String, Long> recentUpdates) {
+		this.memberId = memberId;
+		this.timestamp = timestamp;
+		this.recentUpdates = Collections.unmodifiableMap(new LinkedHashMap<String, Long>(recentUpdates));
+	}
+
+	public String getMemberId() {
+		return memberId;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return update keys mapped to update timestamps, in the order they were recorded
+	 */
+	public Map<String, Long> getRecentUpdates() {
+		return recentUpdates;
+	}
+
+	public boolean contains(String updateKey) {
+		return recentUpdates.containsKey(updateKey);
+	}
+
+	@Override
+	public String toString() {
+		return "NetworkUpdateCheckpoint[memberId=" + memberId + ", timestamp=" + timestamp + ", recentUpdates=" + recentUpdates.size() + "]";
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.List;
+
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+
+/**
+ * Receives the outcome of each poll made by a {@link NetworkUpdatePollScheduler}.
+ * Called on the scheduler's executor, so implementations must be thread-safe.
+ * <p>
+ * Updates are delivered at least once. If {@link #onUpdates(String, List)} throws, the member's checkpoint is not
+ * advanced, {@link #onError(String, RuntimeException)} is called and the same updates are delivered again by a
+ * later poll; the same happens if the process stops before the checkpoint is saved. Implementations that must not
+ * process an update twice should recognise it by its update key.
+ * </p>
+ *
+ * @author agent
+ */
+public interface NetworkUpdateListener {
+
+	/**
+	 * @param memberId the member polled
+	 * @param updates new updates, newest first; never empty
+	 */
+	void onUpdates(String memberId, List<LinkedInNetworkUpdate> updates);
+
+	/**
+	 * @param memberId the member polled
+	 * @param exception why the poll failed
+	 */
+	void onError(String memberId, RuntimeException exception);
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+
+/**
+ * Looks up the API binding for a member at poll time, so a scheduler polling many members
+ * does not have to hold a binding for each of them.
+ *
+ * @author agent
+ */
+public interface NetworkUpdateOperationsResolver {
+
+	/**
+	 * @param memberId the member about to be polled
+	 * @return operations authorized as the member, or null to skip this poll
+	 */
+	NetworkUpdateOperations resolve(String memberId);
+
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+import org.springframework.social.linkedin.api.impl.RequestRateLimiter;
+import org.springframework.util.Assert;
+
+/**
+ * Polls the network updates of many members, each at its own adaptive interval.
+ * <p>
+ * A member whose poll finds nothing has its interval doubled, up to the maximum interval; a member whose poll
+ * finds updates has it halved, down to the minimum. Members that are due are polled in the order they became due,
+ * so every member gets its turn however many are registered, within a global limit on concurrent polls and,
+ * optionally, a {@link RequestRateLimiter} budget. {@link #boost(String)} moves a member ahead of the queue,
+ * for instance while its user is online.
+ * </p>
+ * <p>
+ * Polls run on the supplied {@link Executor}, which may be a thread pool or a virtual thread per task executor;
+ * the scheduler never blocks while holding its lock. A member's checkpoint is committed only once the listener has
+ * returned normally, so updates are delivered at least once; see {@link NetworkUpdateListener}. Polling is driven either by {@link #start(long)},
+ * or by calling {@link #dispatch()} from the application's own loop. An executor that runs polls on the calling
+ * thread works too: a dispatch keeps starting polls until no member is due, and completions never start a
+ * nested dispatch.
+ * </p>
+ * @author agent
+ */
+public class NetworkUpdatePollScheduler {
+
+	public static final long DEFAULT_MIN_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+	public static final long DEFAULT_INITIAL_INTERVAL = TimeUnit.MINUTES.toMillis(15);
+
+	public static final long DEFAULT_MAX_INTERVAL = TimeUnit.HOURS.toMillis(6);
+
+	public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+	private final static Log logger = LogFactory.getLog(NetworkUpdatePollScheduler.class);
+
+	private final NetworkUpdateSynchronizer synchronizer;
+
+	private final NetworkUpdateOperationsResolver resolver;
+
+	private final NetworkUpdateListener listener;
+
+	private final Executor executor;
+
+	private long minInterval = DEFAULT_MIN_INTERVAL;
+
+	private long initialInterval = DEFAULT_INITIAL_INTERVAL;
+
+	private long maxInterval = DEFAULT_MAX_INTERVAL;
+
+	private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+	private RequestRateLimiter rateLimiter;
+
+	private final Object lock = new Object();
+
+	private final Map<String, Member> members = new HashMap<String, Member>();
+
+	private final PriorityQueue<Turn> queue = new PriorityQueue<Turn>();
+
+	private long sequence;
+
+	private int running;
+
+	private boolean dispatching;
+
+	private volatile ScheduledExecutorService ticker;
+
+	public NetworkUpdatePollScheduler(NetworkUpdateSynchronizer synchronizer, NetworkUpdateOperationsResolver resolver, NetworkUpdateListener listener, Executor executor) {
+		Assert.notNull(synchronizer, "NetworkUpdateSynchronizer must not be null");
+		Assert.notNull(resolver, "NetworkUpdateOperationsResolver must not be null");
+		Assert.notNull(listener, "NetworkUpdateListener must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		this.synchronizer = synchronizer;
+		this.resolver = resolver;
+		this.listener = listener;
+		this.executor = executor;
+	}
+
+	/**
+	 * @param minInterval shortest interval, in milliseconds, between two polls of a member
+	 */
+	public void setMinInterval(long minInterval) {
+		Assert.isTrue(minInterval > 0, "Min interval must be positive");
+		this.minInterval = minInterval;
+	}
+
+	/**
+	 * @param initialInterval interval, in milliseconds, given to newly registered members
+	 */
+	public void setInitialInterval(long initialInterval) {
+		Assert.isTrue(initialInterval > 0, "Initial interval must be positive");
+		this.initialInterval = initialInterval;
+	}
+
+	/**
+	 * @param maxInterval longest interval, in milliseconds, between two polls of a member
+	 */
+	public void setMaxInterval(long maxInterval) {
+		Assert.isTrue(maxInterval > 0, "Max interval must be positive");
+		this.maxInterval = maxInterval;
+	}
+
+	/**
+	 * @param maxConcurrency maximum number of polls in progress at once, across all members
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be positive");
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * @param rateLimiter budget polls are started within, or null for none. Each poll takes one permit,
+	 * however many pages it reads; install the limiter on the bindings as well to count every request.
+	 */
+	public void setRateLimiter(RequestRateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * Adds a member, due for a first poll straight away. Registering a member twice has no effect.
+	 * @param memberId the member to poll
+	 */
+	public void register(String memberId) {
+		Assert.hasLength(memberId, "Member id must not be empty");
+		synchronized (lock) {
+			if (!members.containsKey(memberId)) {
+				Member member = new Member(memberId, Math.min(Math.max(initialInterval, minInterval), maxInterval));
+				members.put(memberId, member);
+				enqueue(member, currentTimeMillis(), false);
+			}
+		}
+	}
+
+	/**
+	 * Stops polling a member. A poll already in progress completes but is not rescheduled.
+	 * @param memberId the member to remove
+	 */
+	public void unregister(String memberId) {
+		synchronized (lock) {
+			Member member = members.remove(memberId);
+			if (member != null) {
+				member.generation++;
+			}
+		}
+	}
+
+	/**
+	 * Polls a member ahead of every other due member, and resets its interval to the minimum.
+	 * @param memberId the member to poll
+	 * @return false if the member is not registered
+	 */
+	public boolean boost(String memberId) {
+		synchronized (lock) {
+			Member member = members.get(memberId);
+			if (member == null) {
+				return false;
+			}
+			member.interval = minInterval;
+			if (member.polling) {
+				member.boosted = true;
+			}
+			else {
+				enqueue(member, currentTimeMillis(), true);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * @param memberId a registered member
+	 * @return the member's current poll interval in milliseconds, or -1 if the member is not registered
+	 */
+	public long getPollInterval(String memberId) {
+		synchronized (lock) {
+			Member member = members.get(memberId);
+			return member == null ? -1 : member.interval;
+		}
+	}
+
+	public int getMemberCount() {
+		synchronized (lock) {
+			return members.size();
+		}
+	}
+
+	/**
+	 * Starts polls for the members that are due, as far as the concurrency limit and rate budget allow,
+	 * and keeps doing so as polls complete until no more can be started.
+	 * A call made while another dispatch is in progress returns straight away; the dispatch in progress
+	 * picks up the members that became due.
+	 * @return the number of polls started
+	 */
+	public int dispatch() {
+		synchronized (lock) {
+			if (dispatching) {
+				return 0;
+			}
+			dispatching = true;
+		}
+		int started = 0;
+		boolean finished = false;
+		try {
+			List<Member> due = takeDue();
+			while (!due.isEmpty()) {
+				started += execute(due);
+				due = takeDue();
+			}
+			finished = true;
+		}
+		finally {
+			if (!finished) {
+				synchronized (lock) {
+					dispatching = false;
+				}
+			}
+		}
+		return started;
+	}
+
+	/**
+	 * Dispatches on a background thread every tickMillis, and again whenever a poll completes.
+	 * @param tickMillis milliseconds between two checks for due members
+	 */
+	public void start(long tickMillis) {
+		synchronized (lock) {
+			Assert.state(ticker == null, "Scheduler already started");
+			ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "linkedin-update-poller");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		ticker.scheduleWithFixedDelay(new Runnable() {
+			public void run() {
+				dispatch();
+			}
+		}, 0, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops the background thread. Polls in progress are left to complete.
+	 */
+	public void stop() {
+		ScheduledExecutorService ticker;
+		synchronized (lock) {
+			ticker = this.ticker;
+			this.ticker = null;
+		}
+		if (ticker != null) {
+			ticker.shutdownNow();
+		}
+	}
+
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * @param found number of new updates, or -1 if the poll failed or was skipped
+	 */
+	private void completed(Member member, int found) {
+		synchronized (lock) {
+			running--;
+			member.polling = false;
+			if (members.get(member.id) != member) {
+				return;
+			}
+			if (found > 0) {
+				member.interval = Math.max(minInterval, member.interval / 2);
+			}
+			else {
+				member.interval = Math.min(maxInterval, member.interval * 2);
+			}
+			boolean boosted = member.boosted;
+			member.boosted = false;
+			if (boosted) {
+				member.interval = minInterval;
+			}
+			enqueue(member, boosted ? currentTimeMillis() : currentTimeMillis() + member.interval, boosted);
+		}
+		// a completion on the dispatching thread, as with a same-thread executor, returns here and leaves
+		// the dispatch loop to start the next polls, so that polls never nest on the stack
+		if (ticker != null) {
+			dispatch();
+		}
+	}
+
+	/*
+	 * Takes the members that can be polled now, marking them as polling. Taking none ends the dispatch,
+	 * in the same critical section, so that a poll completing afterwards starts a new one.
+	 */
+	private List<Member> takeDue() {
+		List<Member> due = new ArrayList<Member>();
+		synchronized (lock) {
+			long now = currentTimeMillis();
+			while (running < maxConcurrency) {
+				Turn turn = queue.peek();
+				if (turn == null) {
+					break;
+				}
+				if (turn.generation != turn.member.generation) {
+					queue.poll();
+					continue;
+				}
+				if (!turn.priority && turn.due > now) {
+					break;
+				}
+				if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+					break;
+				}
+				queue.poll();
+				turn.member.polling = true;
+				running++;
+				due.add(turn.member);
+			}
+			if (due.isEmpty()) {
+				dispatching = false;
+			}
+		}
+		return due;
+	}
+
+	private int execute(List<Member> due) {
+		int started = 0;
+		for (Member member : due) {
+			try {
+				executor.execute(new Poll(member));
+				started++;
+			}
+			catch (RejectedExecutionException e) {
+				synchronized (lock) {
+					running--;
+					member.polling = false;
+					if (members.get(member.id) == member) {
+						enqueue(member, currentTimeMillis() + minInterval, member.boosted);
+					}
+				}
+			}
+		}
+		return started;
+	}
+
+	/*
+	 * Each member has at most one valid turn in the queue: taking a new turn bumps the generation,
+	 * and turns with an older generation are discarded when they reach the head.
+	 */
+	private void enqueue(Member member, long due, boolean priority) {
+		queue.add(new Turn(member, due, priority, ++member.generation, sequence++));
+	}
+
+	private class Poll implements Runnable {
+
+		private final Member member;
+
+		Poll(Member member) {
+			this.member = member;
+		}
+
+		public void run() {
+			int found = -1;
+			try {
+				NetworkUpdateOperations operations = resolver.resolve(member.id);
+				if (operations != null) {
+					NetworkUpdateBatch batch = synchronizer.fetch(member.id, operations);
+					found = batch.getUpdates().size();
+					if (batch.isTruncated() && logger.isWarnEnabled()) {
+						logger.warn("Polled the page limit of network updates for member " + member.id + "; older updates were skipped");
+					}
+					if (found > 0) {
+						listener.onUpdates(member.id, batch.getUpdates());
+					}
+					synchronizer.commit(batch);
+				}
+			}
+			catch (RuntimeException e) {
+				found = -1;
+				listener.onError(member.id, e);
+			}
+			finally {
+				completed(member, found);
+			}
+		}
+
+	}
+
+	private static final class Member {
+
+		private final String id;
+
+		private long interval;
+
+		private long generation;
+
+		private boolean polling;
+
+		private boolean boosted;
+
+		Member(String id, long interval) {
+			this.id = id;
+			this.interval = interval;
+		}
+
+	}
+
+	private static final class Turn implements Comparable<Turn> {
+
+		private final Member member;
+
+		private final long due;
+
+		private final boolean priority;
+
+		private final long generation;
+
+		private final long sequence;
+
+		Turn(Member member, long due, boolean priority, long generation, long sequence) {
+			this.member = member;
+			this.due = due;
+			this.priority = priority;
+			this.generation = generation;
+			this.sequence = sequence;
+		}
+
+		public int compareTo(Turn other) {
+			if (priority != other.priority) {
+				return priority ? -1 : 1;
+			}
+			if (due != other.due) {
+				return due < other.due ? -1 : 1;
+			}
+			return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+		}
+
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+import org.springframework.social.linkedin.api.NetworkUpdateParameters;
+import org.springframework.social.linkedin.api.UpdateTypeInput;
+import org.springframework.util.Assert;
+
+/**
+ * Reads the network updates a member has not seen yet.
+ * <p>
+ * Each call asks LinkedIn only for updates after the member's {@link NetworkUpdateCheckpoint}, less a small overlap
+ * that guards against updates sharing a timestamp or arriving slightly out of order. Updates returned again because
+ * of the overlap, or because the feed moved while paging, are recognised by their update key and dropped.
+ * </p>
+ * <p>
+ * {@link #fetch(String, NetworkUpdateOperations)} reads the updates without saving anything; the checkpoint is
+ * saved by {@link #commit(NetworkUpdateBatch)} once the caller has processed them. Updates are thus delivered at
+ * least once: if processing fails, or the process dies before the commit, the next fetch returns them again.
+ * {@link #synchronize(String, NetworkUpdateOperations)} commits before returning, and so delivers at most once.
+ * </p>
+ * <p>
+ * A synchronizer may be shared between threads, but a given member must not be synchronized by two threads at once,
+ * counting from a fetch to its commit.
+ * </p>
+ * @author agent
+ */
+public class NetworkUpdateSynchronizer {
+
+	public static final int DEFAULT_PAGE_SIZE = 50;
+
+	public static final int DEFAULT_MAX_PAGES = 10;
+
+	public static final long DEFAULT_OVERLAP = 1000;
+
+	public static final int DEFAULT_MAX_RECENT_UPDATES = 500;
+
+	private final CheckpointStore checkpointStore;
+
+	private int pageSize = DEFAULT_PAGE_SIZE;
+
+	private int maxPages = DEFAULT_MAX_PAGES;
+
+	private long overlap = DEFAULT_OVERLAP;
+
+	private int maxRecentUpdates = DEFAULT_MAX_RECENT_UPDATES;
+
+	public NetworkUpdateSynchronizer(CheckpointStore checkpointStore) {
+		Assert.notNull(checkpointStore, "CheckpointStore must not be null");
+		this.checkpointStore = checkpointStore;
+	}
+
+	/**
+	 * @param pageSize number of updates requested per call to LinkedIn
+	 */
+	public void setPageSize(int pageSize) {
+		Assert.isTrue(pageSize > 0, "Page size must be positive");
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Limits the pages read in one synchronization. Older updates past the limit are skipped,
+	 * which mostly matters on the first synchronization of a member with a long feed;
+	 * a batch that stopped at the limit is {@link NetworkUpdateBatch#isTruncated() truncated}.
+	 * @param maxPages maximum number of pages read per call
+	 */
+	public void setMaxPages(int maxPages) {
+		Assert.isTrue(maxPages > 0, "Max pages must be positive");
+		this.maxPages = maxPages;
+	}
+
+	/**
+	 * @param overlap milliseconds before the checkpoint that are queried again
+	 */
+	public void setOverlap(long overlap) {
+		Assert.isTrue(overlap >= 0, "Overlap must not be negative");
+		this.overlap = overlap;
+	}
+
+	/**
+	 * @param maxRecentUpdates maximum number of update keys kept in a checkpoint
+	 */
+	public void setMaxRecentUpdates(int maxRecentUpdates) {
+		Assert.isTrue(maxRecentUpdates > 0, "Max recent updates must be positive");
+		this.maxRecentUpdates = maxRecentUpdates;
+	}
+
+	/**
+	 * Retrieves the updates posted since the member's checkpoint was last committed.
+	 * Nothing is saved until the returned batch is committed.
+	 * @param memberId key of the member's checkpoint, typically the LinkedIn profile id
+	 * @param operations network update operations bound to the member
+	 * @return the new updates and the checkpoint that follows them
+	 */
+	public NetworkUpdateBatch fetch(String memberId, NetworkUpdateOperations operations) {
+		Assert.hasLength(memberId, "Member id must not be empty");
+		NetworkUpdateCheckpoint checkpoint = checkpointStore.load(memberId);
+		Date after = checkpoint == null ? null : new Date(Math.max(0, checkpoint.getTimestamp() - overlap));
+
+		List<LinkedInNetworkUpdate> fresh = new ArrayList<LinkedInNetworkUpdate>();
+		Set<String> seen = new HashSet<String>();
+		boolean truncated = false;
+		for (int page = 0; page < maxPages; page++) {
+			List<LinkedInNetworkUpdate> updates = operations.getNetworkUpdates(parameters(page * pageSize, after));
+			if (updates == null) {
+				break;
+			}
+			// a full last page may be followed by updates that are never read
+			truncated = page == maxPages - 1 && updates.size() >= pageSize;
+			for (LinkedInNetworkUpdate update : updates) {
+				String key = update.getUpdateKey();
+				if (key != null && (!seen.add(key) || (checkpoint != null && checkpoint.contains(key)))) {
+					continue;
+				}
+				fresh.add(update);
+			}
+			if (updates.size() < pageSize) {
+				break;
+			}
+		}
+		return new NetworkUpdateBatch(memberId, fresh, fresh.isEmpty() ? null : advance(memberId, checkpoint, fresh), truncated);
+	}
+
+	/**
+	 * Saves the checkpoint of a batch, so that its updates are not fetched again.
+	 * Call once the updates have been processed.
+	 * @param batch a batch returned by {@link #fetch(String, NetworkUpdateOperations)}
+	 */
+	public void commit(NetworkUpdateBatch batch) {
+		Assert.notNull(batch, "NetworkUpdateBatch must not be null");
+		if (batch.getCheckpoint() != null) {
+			checkpointStore.save(batch.getCheckpoint());
+		}
+	}
+
+	/**
+	 * Retrieves the updates posted since the member was last synchronized and advances the member's checkpoint
+	 * straight away. The updates are not returned again, even if the caller fails to process them; use
+	 * {@link #fetch(String, NetworkUpdateOperations)} and {@link #commit(NetworkUpdateBatch)} when they must not be lost.
+	 * @param memberId key of the member's checkpoint, typically the LinkedIn profile id
+	 * @param operations network update operations bound to the member
+	 * @return updates not returned by a previous synchronization, newest first
+	 */
+	public List<LinkedInNetworkUpdate> synchronize(String memberId, NetworkUpdateOperations operations) {
+		NetworkUpdateBatch batch = fetch(memberId, operations);
+		commit(batch);
+		return batch.getUpdates();
+	}
+
+	private NetworkUpdateParameters parameters(int start, Date after) {
+		return new NetworkUpdateParameters(null, false, start, pageSize, null, after, true, false, Collections.<UpdateTypeInput>emptyList());
+	}
+
+	/*
+	 * Keys are retained while their update is still inside the overlap window of the new checkpoint;
+	 * beyond that the query itself excludes them.
+	 */
+	private NetworkUpdateCheckpoint advance(String memberId, NetworkUpdateCheckpoint previous, List<LinkedInNetworkUpdate> fresh) {
+		long timestamp = previous == null ? 0 : previous.getTimestamp();
+		for (LinkedInNetworkUpdate update : fresh) {
+			if (update.getTimestamp() != null) {
+				timestamp = Math.max(timestamp, update.getTimestamp().getTime());
+			}
+		}
+		long horizon = timestamp - overlap;
+
+		Map<String, Long> recent = new LinkedHashMap<String, Long>();
+		if (previous != null) {
+			for (Map.Entry<String, Long> entry : previous.getRecentUpdates().entrySet()) {
+				if (entry.getValue() >= horizon) {
+					recent.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		for (int i = fresh.size() - 1; i >= 0; i--) {
+			LinkedInNetworkUpdate update = fresh.get(i);
+			if (update.getUpdateKey() != null && update.getTimestamp() != null && update.getTimestamp().getTime() >= horizon) {
+				recent.put(update.getUpdateKey(), update.getTimestamp().getTime());
+			}
+		}
+		// oldest entries come first, so trimming from the front keeps the newest keys
+		Iterator<String> keys = recent.keySet().iterator();
+		for (int excess = recent.size() - maxRecentUpdates; excess > 0; excess--) {
+			keys.next();
+			keys.remove();
+		}
+		return new NetworkUpdateCheckpoint(memberId, timestamp, recent);
+	}
+
+}
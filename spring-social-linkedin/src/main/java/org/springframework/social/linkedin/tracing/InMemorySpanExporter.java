@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps ended spans in memory, in the order they ended. Intended for tests.
+ * @author agent
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+	private final List<Span> spans = new ArrayList<Span>();
+
+	public synchronized void export(Span span) {
+		spans.add(span);
+	}
+
+	/**
+	 * @return a copy of the spans exported so far
+	 */
+	public synchronized List<Span> getSpans() {
+		return new ArrayList<Span>(spans);
+	}
+
+	/**
+	 * @return the first exported span with the given name, or null
+	 */
+	public synchronized Span getSpan(String name) {
+		for (Span span : spans) {
+			if (span.getName().equals(name)) {
+				return span;
+			}
+		}
+		return null;
+	}
+
+	public synchronized void clear() {
+		spans.clear();
+	}
+
+}
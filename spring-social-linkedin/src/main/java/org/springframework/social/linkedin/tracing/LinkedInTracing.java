@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.util.Assert;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Traces LinkedIn API calls.
+ * <p>
+ * {@link #trace(LinkedInTemplate, Tracer)} returns a {@link LinkedIn} whose operations open a span per method call,
+ * named after the operations interface and method (<code>ProfileOperations.getUserProfile</code>).
+ * Within it, each HTTP exchange gets a child span named after the operation (<code>http profile.get</code>) tagged with
+ * the HTTP method and status, the paging parameters, the request and response sizes and the attempt number,
+ * which counts repeated exchanges for the same operation within the parent span.
+ * The exchange span in turn has a <code>deserialize</code> child covering the time from the response headers
+ * to the end of response handling.
+ * </p>
+ * <p>
+ * Neither the request URI nor exception messages are recorded, so the access token never reaches a span.
+ * </p>
+ * @author agent
+ */
+public final class LinkedInTracing {
+
+	private LinkedInTracing() {
+	}
+
+	/**
+	 * Instruments the template's HTTP exchanges and returns a view of it with traced operations.
+	 * @param template the template to trace
+	 * @param tracer the tracer to report to
+	 * @return the traced binding
+	 */
+	public static LinkedIn trace(LinkedInTemplate template, Tracer tracer) {
+		instrument(template, tracer);
+		return (LinkedIn) Proxy.newProxyInstance(LinkedIn.class.getClassLoader(), new Class<?>[] { LinkedIn.class },
+				new BindingHandler(template, tracer));
+	}
+
+	/**
+	 * Traces the template's HTTP exchanges only, replacing any tracing applied before.
+	 * @param template the template to instrument
+	 * @param tracer the tracer to report to
+	 */
+	public static void instrument(LinkedInTemplate template, Tracer tracer) {
+		Assert.notNull(template, "LinkedInTemplate must not be null");
+		Assert.notNull(tracer, "Tracer must not be null");
+		RestTemplate restTemplate = template.getRestTemplate();
+		List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
+		for (Iterator<ClientHttpRequestInterceptor> it = interceptors.iterator(); it.hasNext();) {
+			if (it.next() instanceof TracingInterceptor) {
+				it.remove();
+			}
+		}
+		interceptors.add(new TracingInterceptor(tracer));
+		restTemplate.setInterceptors(interceptors);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static final class BindingHandler implements InvocationHandler {
+
+		private final LinkedIn target;
+
+		private final Tracer tracer;
+
+		private final ConcurrentMap<Class<?>, Object> operations = new ConcurrentHashMap<Class<?>, Object>();
+
+		BindingHandler(LinkedIn target, Tracer tracer) {
+			this.target = target;
+			this.tracer = tracer;
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Class<?> type = method.getReturnType();
+			if (method.getDeclaringClass() == Object.class) {
+				return "equals".equals(method.getName()) ? proxy == args[0] : LinkedInTracing.invoke(target, method, args);
+			}
+			if (!type.isInterface() || type == RestOperations.class || !type.getSimpleName().endsWith("Operations")) {
+				return LinkedInTracing.invoke(target, method, args);
+			}
+			Object traced = operations.get(type);
+			if (traced == null) {
+				Object delegate = LinkedInTracing.invoke(target, method, args);
+				traced = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new OperationsHandler(delegate, type, tracer));
+				Object existing = operations.putIfAbsent(type, traced);
+				if (existing != null) {
+					traced = existing;
+				}
+			}
+			return traced;
+		}
+
+	}
+
+	private static final class OperationsHandler implements InvocationHandler {
+
+		private final Object target;
+
+		private final String prefix;
+
+		private final Tracer tracer;
+
+		OperationsHandler(Object target, Class<?> type, Tracer tracer) {
+			this.target = target;
+			this.prefix = type.getSimpleName() + ".";
+			this.tracer = tracer;
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.getDeclaringClass() == Object.class) {
+				return "equals".equals(method.getName()) ? proxy == args[0] : LinkedInTracing.invoke(target, method, args);
+			}
+			Span span = tracer.startSpan(prefix + method.getName());
+			try {
+				Object result = LinkedInTracing.invoke(target, method, args);
+				if (result instanceof Collection) {
+					span.tag("result.size", ((Collection<?>) result).size());
+				}
+				return result;
+			}
+			catch (Throwable e) {
+				span.error(e);
+				throw e;
+			}
+			finally {
+				span.end();
+			}
+		}
+
+	}
+
+}
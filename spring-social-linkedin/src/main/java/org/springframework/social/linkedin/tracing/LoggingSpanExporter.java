@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Writes each ended span to the log at debug level, or at info level for failed spans.
+ * @author agent
+ */
+public class LoggingSpanExporter implements SpanExporter {
+
+	private final static Log logger = LogFactory.getLog(LoggingSpanExporter.class);
+
+	public void export(Span span) {
+		if (span.getError() != null) {
+			if (logger.isInfoEnabled()) {
+				logger.info(span);
+			}
+		}
+		else if (logger.isDebugEnabled()) {
+			logger.debug(span);
+		}
+	}
+
+}
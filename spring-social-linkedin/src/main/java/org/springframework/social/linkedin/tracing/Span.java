@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A timed unit of work, such as a call to an operations method, an HTTP exchange or the deserialization of a response.
+ * Spans are created by a {@link Tracer} and handed to its {@link SpanExporter} once ended.
+ * @author agent
+ */
+public final class Span {
+
+	private final Tracer tracer;
+
+	private final Span parent;
+
+	private final String name;
+
+	private final String traceId;
+
+	private final String spanId;
+
+	private final long startNanos;
+
+	private final Map<String, String> tags = new LinkedHashMap<String, String>();
+
+	private long endNanos = -1;
+
+	private String error;
+
+	private Map<String, Integer> exchanges;
+
+	Span(Tracer tracer, Span parent, String name, long startNanos) {
+		this.tracer = tracer;
+		this.parent = parent;
+		this.name = name;
+		this.traceId = parent != null ? parent.traceId : newId();
+		this.spanId = newId();
+		this.startNanos = startNanos;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getTraceId() {
+		return traceId;
+	}
+
+	public String getSpanId() {
+		return spanId;
+	}
+
+	/**
+	 * @return the id of the enclosing span, or null for a root span
+	 */
+	public String getParentId() {
+		return parent != null ? parent.spanId : null;
+	}
+
+	public synchronized Map<String, String> getTags() {
+		return Collections.unmodifiableMap(new LinkedHashMap<String, String>(tags));
+	}
+
+	/**
+	 * @return the simple class name of the exception the work failed with, or null
+	 */
+	public synchronized String getError() {
+		return error;
+	}
+
+	public synchronized boolean isEnded() {
+		return endNanos >= 0;
+	}
+
+	/**
+	 * @return the duration in nanoseconds, or -1 while the span is open
+	 */
+	public synchronized long getDurationNanos() {
+		return endNanos >= 0 ? endNanos - startNanos : -1;
+	}
+
+	/**
+	 * Adds a tag. Null values are ignored.
+	 * @return this span
+	 */
+	public synchronized Span tag(String key, Object value) {
+		if (value != null) {
+			tags.put(key, value.toString());
+		}
+		return this;
+	}
+
+	/**
+	 * Marks the span as failed. Only the exception type is recorded, as messages may contain request URIs.
+	 */
+	public synchronized void error(Throwable e) {
+		error = e.getClass().getSimpleName();
+	}
+
+	/**
+	 * Ends the span and exports it. Calls after the first have no effect.
+	 */
+	public void end() {
+		end(System.nanoTime());
+	}
+
+	Span getParent() {
+		return parent;
+	}
+
+	long getStartNanos() {
+		return startNanos;
+	}
+
+	void end(long nanos) {
+		synchronized (this) {
+			if (endNanos >= 0) {
+				return;
+			}
+			endNanos = nanos;
+		}
+		tracer.ended(this);
+	}
+
+	/**
+	 * Counts HTTP exchanges for an operation within this span, so a repeated call shows up as a further attempt.
+	 */
+	synchronized int nextAttempt(String operation) {
+		if (exchanges == null) {
+			exchanges = new HashMap<String, Integer>();
+		}
+		Integer previous = exchanges.get(operation);
+		int attempt = previous != null ? previous + 1 : 1;
+		exchanges.put(operation, attempt);
+		return attempt;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Span[name=" + name + ", trace=" + traceId + ", id=" + spanId + ", parent=" + getParentId() +
+				", durationNanos=" + getDurationNanos() + ", tags=" + tags + (error != null ? ", error=" + error : "") + "]";
+	}
+
+	private static String newId() {
+		return String.format("%016x", ThreadLocalRandom.current().nextLong());
+	}
+
+}
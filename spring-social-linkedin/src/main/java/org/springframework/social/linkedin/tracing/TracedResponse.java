@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Response that counts the body bytes read and ends the exchange and deserialization spans when closed.
+ * @author agent
+ */
+class TracedResponse implements ClientHttpResponse {
+
+	private final ClientHttpResponse response;
+
+	private final Span exchange;
+
+	private final Span deserialization;
+
+	private long bytesRead;
+
+	private InputStream body;
+
+	TracedResponse(ClientHttpResponse response, Span exchange, Span deserialization) {
+		this.response = response;
+		this.exchange = exchange;
+		this.deserialization = deserialization;
+	}
+
+	public HttpStatus getStatusCode() throws IOException {
+		return response.getStatusCode();
+	}
+
+	public int getRawStatusCode() throws IOException {
+		return response.getRawStatusCode();
+	}
+
+	public String getStatusText() throws IOException {
+		return response.getStatusText();
+	}
+
+	public HttpHeaders getHeaders() {
+		return response.getHeaders();
+	}
+
+	public InputStream getBody() throws IOException {
+		if (body == null) {
+			body = new FilterInputStream(response.getBody()) {
+				@Override
+				public int read() throws IOException {
+					int b = super.read();
+					if (b >= 0) {
+						bytesRead++;
+					}
+					return b;
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					int n = super.read(b, off, len);
+					if (n > 0) {
+						bytesRead += n;
+					}
+					return n;
+				}
+
+				@Override
+				public boolean markSupported() {
+					return false;
+				}
+			};
+		}
+		return body;
+	}
+
+	public void close() {
+		try {
+			response.close();
+		}
+		finally {
+			deserialization.tag("response.size", bytesRead).end();
+			exchange.tag("response.size", bytesRead).end();
+		}
+	}
+
+}
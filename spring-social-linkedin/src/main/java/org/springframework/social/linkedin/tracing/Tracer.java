@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Creates spans and tracks the current span of each thread, so spans started while another is open become its children.
+ * @author agent
+ */
+public class Tracer {
+
+	private final static Log logger = LogFactory.getLog(Tracer.class);
+
+	private final SpanExporter exporter;
+
+	private final ThreadLocal<Span> current = new ThreadLocal<Span>();
+
+	public Tracer(SpanExporter exporter) {
+		Assert.notNull(exporter, "SpanExporter must not be null");
+		this.exporter = exporter;
+	}
+
+	/**
+	 * Starts a span as a child of the current span and makes it current until it ends.
+	 * Spans must be ended on the thread that started them, innermost first.
+	 * @param name the span name
+	 * @return the started span
+	 */
+	public Span startSpan(String name) {
+		Span span = new Span(this, current.get(), name, System.nanoTime());
+		current.set(span);
+		return span;
+	}
+
+	/**
+	 * @return the current span of this thread, or null
+	 */
+	public Span currentSpan() {
+		return current.get();
+	}
+
+	/**
+	 * Starts a span that never becomes current, for work that outlives the calling frame.
+	 */
+	Span startDetachedSpan(String name, Span parent, long startNanos) {
+		return new Span(this, parent, name, startNanos);
+	}
+
+	void ended(Span span) {
+		if (current.get() == span) {
+			if (span.getParent() != null) {
+				current.set(span.getParent());
+			}
+			else {
+				current.remove();
+			}
+		}
+		try {
+			exporter.export(span);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to export span " + span.getName(), e);
+		}
+	}
+
+}
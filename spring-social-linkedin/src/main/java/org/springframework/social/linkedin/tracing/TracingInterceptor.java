@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.social.linkedin.metrics.OperationNames;
+
+/**
+ * Opens a span for each HTTP exchange, as a child of the thread's current span.
+ * Only the operation name and the paging parameters of the URI are recorded, never the URI itself,
+ * as its query carries the access token.
+ * @author agent
+ */
+class TracingInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final String[] PAGE_PARAMETERS = { "start", "count", "after", "before" };
+
+	private final Tracer tracer;
+
+	TracingInterceptor(Tracer tracer) {
+		this.tracer = tracer;
+	}
+
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		String operation = OperationNames.resolve(request.getMethod(), request.getURI());
+		Span parent = tracer.currentSpan();
+		Span exchange = tracer.startDetachedSpan("http " + operation, parent, System.nanoTime());
+		exchange.tag("operation", operation).tag("http.method", request.getMethod());
+		if (parent != null) {
+			exchange.tag("attempt", parent.nextAttempt(operation));
+		}
+		tagPageParameters(exchange, request.getURI());
+		exchange.tag("request.size", body.length);
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+			exchange.tag("http.status", response.getRawStatusCode());
+		}
+		catch (IOException e) {
+			exchange.error(e);
+			exchange.end();
+			throw e;
+		}
+		Span deserialization = tracer.startDetachedSpan("deserialize " + operation, exchange, System.nanoTime());
+		return new TracedResponse(response, exchange, deserialization);
+	}
+
+	private static void tagPageParameters(Span span, URI uri) {
+		String query = uri.getRawQuery();
+		if (query == null) {
+			return;
+		}
+		for (String pair : query.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq <= 0) {
+				continue;
+			}
+			String name = pair.substring(0, eq);
+			for (String pageParameter : PAGE_PARAMETERS) {
+				if (pageParameter.equals(name)) {
+					span.tag("page." + name, pair.substring(eq + 1));
+				}
+			}
+		}
+	}
+
+}
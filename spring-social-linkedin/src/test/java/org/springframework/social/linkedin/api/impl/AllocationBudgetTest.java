@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.social.linkedin.api.JobSearchParameters;
+
+/**
+ * Fails when a hot API path allocates more per call than its recorded budget.
+ * <p>
+ * Budgets are the bytes allocated per call on the calling thread, measured against a canned transport,
+ * so they cover URI construction, the interceptors, RestTemplate and deserialization.
+ * They carry about 40% headroom over the figures measured on Java 17, as Java 8 strings, lacking compaction, allocate more.
+ * When an improvement lands, lower the budget to lock it in; never raise one without knowing why.
+ * </p>
+ */
+public class AllocationBudgetTest {
+
+	static final long NETWORK_UPDATES_BUDGET = 266000;
+
+	static final long USER_PROFILE_FULL_BUDGET = 119000;
+
+	static final long CONNECTIONS_BUDGET = 33000;
+
+	static final long SEARCH_JOBS_BUDGET = 256000;
+
+	private static final int WARMUP_CALLS = 100;
+
+	private static final int MEASURED_CALLS = 50;
+
+	private com.sun.management.ThreadMXBean threads;
+
+	@Before
+	public void setup() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	@Test
+	public void getNetworkUpdates() throws Exception {
+		final LinkedInTemplate linkedIn = linkedIn("updates.json");
+		assertWithinBudget("getNetworkUpdates", NETWORK_UPDATES_BUDGET, new Runnable() {
+			public void run() {
+				linkedIn.networkUpdateOperations().getNetworkUpdates();
+			}
+		});
+	}
+
+	@Test
+	public void getUserProfileFull() throws Exception {
+		final LinkedInTemplate linkedIn = linkedIn("profile_full.json");
+		assertWithinBudget("getUserProfileFull", USER_PROFILE_FULL_BUDGET, new Runnable() {
+			public void run() {
+				linkedIn.profileOperations().getUserProfileFull();
+			}
+		});
+	}
+
+	@Test
+	public void getConnections() throws Exception {
+		final LinkedInTemplate linkedIn = linkedIn("connections.json");
+		assertWithinBudget("getConnections", CONNECTIONS_BUDGET, new Runnable() {
+			public void run() {
+				linkedIn.connectionOperations().getConnections();
+			}
+		});
+	}
+
+	@Test
+	public void searchJobs() throws Exception {
+		final LinkedInTemplate linkedIn = linkedIn("job_search.json");
+		final JobSearchParameters parameters = new JobSearchParameters();
+		parameters.setKeywords("java developer");
+		parameters.setCountryCode("gb");
+		parameters.setCount(20);
+		assertWithinBudget("searchJobs", SEARCH_JOBS_BUDGET, new Runnable() {
+			public void run() {
+				linkedIn.jobOperations().searchJobs(parameters);
+			}
+		});
+	}
+
+	private LinkedInTemplate linkedIn(String fixture) throws Exception {
+		LinkedInTemplate linkedIn = new LinkedInTemplate("ACCESS_TOKEN");
+		linkedIn.getRestTemplate().setRequestFactory(new CannedRequestFactory(fixture));
+		return linkedIn;
+	}
+
+	private void assertWithinBudget(String call, long budget, Runnable work) {
+		for (int i = 0; i < WARMUP_CALLS; i++) {
+			work.run();
+		}
+		long thread = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < MEASURED_CALLS; i++) {
+			work.run();
+		}
+		long perCall = (threads.getThreadAllocatedBytes(thread) - before) / MEASURED_CALLS;
+		assertTrue(call + " allocated " + perCall + " bytes per call, over its budget of " + budget, perCall <= budget);
+	}
+
+}
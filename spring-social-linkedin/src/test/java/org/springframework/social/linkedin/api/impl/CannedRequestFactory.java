@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Transport answering every request with the same fixture, with as little allocation of its own as possible.
+ */
+class CannedRequestFactory implements ClientHttpRequestFactory {
+
+	private final byte[] body;
+
+	private final HttpHeaders responseHeaders = new HttpHeaders();
+
+	CannedRequestFactory(String fixture) throws IOException {
+		body = StreamUtils.copyToByteArray(new ClassPathResource(fixture, CannedRequestFactory.class).getInputStream());
+		responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+		responseHeaders.setContentLength(body.length);
+	}
+
+	public ClientHttpRequest createRequest(final URI uri, final HttpMethod httpMethod) {
+		return new ClientHttpRequest() {
+
+			private final HttpHeaders headers = new HttpHeaders();
+
+			public HttpMethod getMethod() {
+				return httpMethod;
+			}
+
+			public String getMethodValue() {
+				return httpMethod.name();
+			}
+
+			public URI getURI() {
+				return uri;
+			}
+
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+
+			public OutputStream getBody() {
+				return new OutputStream() {
+					@Override
+					public void write(int b) {
+					}
+				};
+			}
+
+			public ClientHttpResponse execute() {
+				return new ClientHttpResponse() {
+
+					public HttpStatus getStatusCode() {
+						return HttpStatus.OK;
+					}
+
+					public int getRawStatusCode() {
+						return 200;
+					}
+
+					public String getStatusText() {
+						return "OK";
+					}
+
+					public HttpHeaders getHeaders() {
+						return responseHeaders;
+					}
+
+					public InputStream getBody() {
+						return new ByteArrayInputStream(body);
+					}
+
+					public void close() {
+					}
+
+				};
+			}
+
+		};
+	}
+
+}
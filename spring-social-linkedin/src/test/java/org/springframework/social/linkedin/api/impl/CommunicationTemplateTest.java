@@ -17,13 +17,23 @@ package org.springframework.social.linkedin.api.impl;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.collection.IsCollectionWithSize.*;
+import static org.junit.Assert.*;
 import static org.springframework.http.HttpMethod.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.social.RateLimitExceededException;
 import org.springframework.social.linkedin.api.ConnectionAuthorization;
+import org.springframework.social.linkedin.api.MailboxMessage;
+import org.springframework.social.linkedin.api.MailboxMessageResult;
 
 public class CommunicationTemplateTest extends AbstractLinkedInApiTest {
 	@Test
@@ -73,4 +83,62 @@ public class CommunicationTemplateTest extends AbstractLinkedInApiTest {
 				"I'd like to add you to my professional network on LinkedIn", "rob@test.com", "Robert", "Smith");
 	}
 	
+	@Test
+	public void sendMessages() {
+		List<String> recipients = new ArrayList<String>();
+		for (int i = 0; i < 12; i++) {
+			recipients.add("R" + i);
+		}
+		mockServer.expect(requestTo(CommunicationTemplate.MESSAGING_URL+"?oauth2_access_token=ACCESS_TOKEN"))
+			.andExpect(method(POST))
+			.andExpect(jsonPath("recipients.values", hasSize(10)))
+			.andExpect(jsonPath("recipients.values[0].person._path", is("/people/R0")))
+			.andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+		mockServer.expect(requestTo(CommunicationTemplate.MESSAGING_URL+"?oauth2_access_token=ACCESS_TOKEN"))
+			.andExpect(method(POST))
+			.andExpect(jsonPath("recipients.values", hasSize(2)))
+			.andExpect(jsonPath("recipients.values[0].person._path", is("/people/R10")))
+			.andRespond(withStatus(HttpStatus.FORBIDDEN).body(jsonResource("error_throttle")).contentType(MediaType.APPLICATION_JSON));
+		mockServer.expect(requestTo(CommunicationTemplate.MESSAGING_URL+"?oauth2_access_token=ACCESS_TOKEN"))
+			.andExpect(method(POST))
+			.andExpect(jsonPath("recipients.values[0].person._path", is("/people/email=rob@test.com")))
+			.andExpect(jsonPath("item-content.invitation-request.connect-type", is("friend")))
+			.andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+
+		List<MailboxMessageResult> results = linkedIn.communicationOperations().sendMessages(Arrays.asList(
+				MailboxMessage.message("Test message", "This is a test", recipients),
+				MailboxMessage.emailInvitation("Invitation", "Join me", "rob@test.com", "Robert", "Smith")));
+		
+		mockServer.verify();
+		assertEquals(3, results.size());
+		assertEquals(0, results.get(0).getIndex());
+		assertEquals(0, results.get(0).getChunk());
+		assertTrue(results.get(0).isSuccess());
+		assertEquals(0, results.get(1).getIndex());
+		assertEquals(1, results.get(1).getChunk());
+		assertEquals(Arrays.asList("R10", "R11"), results.get(1).getRecipientIds());
+		assertTrue(results.get(1).getException() instanceof RateLimitExceededException);
+		assertEquals(1, results.get(2).getIndex());
+		assertTrue(results.get(2).isSuccess());
+	}
+	
+	@Test
+	public void sendMessages_noRecipients() {
+		mockServer.expect(requestTo(CommunicationTemplate.MESSAGING_URL+"?oauth2_access_token=ACCESS_TOKEN"))
+			.andExpect(method(POST))
+			.andExpect(jsonPath("recipients.values[0].person._path", is("/people/R0")))
+			.andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+
+		List<MailboxMessageResult> results = linkedIn.communicationOperations().sendMessages(Arrays.asList(
+				MailboxMessage.message("Test message", "This is a test", Collections.<String>emptyList()),
+				MailboxMessage.message("Test message", "This is a test", "R0")));
+		
+		mockServer.verify();
+		assertEquals(2, results.size());
+		assertEquals(0, results.get(0).getIndex());
+		assertTrue(results.get(0).getException() instanceof IllegalArgumentException);
+		assertEquals(1, results.get(1).getIndex());
+		assertTrue(results.get(1).isSuccess());
+	}
+	
 }
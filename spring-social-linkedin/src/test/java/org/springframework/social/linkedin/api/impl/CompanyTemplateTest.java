@@ -21,6 +21,7 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.Ignore;
@@ -29,7 +30,9 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.social.linkedin.api.Companies;
 import org.springframework.social.linkedin.api.Company;
+import org.springframework.social.linkedin.api.CompanyField;
 import org.springframework.social.linkedin.api.Product;
+import org.springframework.social.linkedin.api.ProductField;
 import org.springframework.social.linkedin.api.Products;
 
 public class CompanyTemplateTest extends AbstractLinkedInApiTest {
@@ -109,6 +112,37 @@ public class CompanyTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals("www.rainconcert.in", company.getWebsiteUrl());
 	}
 	
+	@Test
+	public void getCompany_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/companies/1337:(id,name,universal-name,num-followers)?&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("company.json", getClass()), MediaType.APPLICATION_JSON));
+		Company company = linkedIn.companyOperations().getCompany(1337, EnumSet.of(CompanyField.NUM_FOLLOWERS, CompanyField.UNIVERSAL_NAME, CompanyField.NAME, CompanyField.ID));
+		
+		assertEquals(1337, company.getId());
+		assertEquals("LinkedIn", company.getName());
+		mockServer.verify();
+	}
+	
+	@Test
+	public void getCompanyByUniversalName_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/companies/universal-name=linked%20in:(id,name)?&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("company.json", getClass()), MediaType.APPLICATION_JSON));
+		Company company = linkedIn.companyOperations().getCompanyByUniversalName("linked in", EnumSet.of(CompanyField.NAME, CompanyField.ID));
+		
+		assertEquals("linkedin", company.getUniversalName());
+		mockServer.verify();
+	}
+	
+	@Test
+	public void search_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/company-search:(companies:(id,name,logo-url))?keywords=spring%20j2ee&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("company_search.json", getClass()), MediaType.APPLICATION_JSON));
+		Companies result = linkedIn.companyOperations().search("spring j2ee", EnumSet.of(CompanyField.LOGO_URL, CompanyField.NAME, CompanyField.ID));
+		
+		assertEquals(10, result.getCompanies().size());
+		mockServer.verify();
+	}
+	
 	@Test
 	public void getFollowing() {
 		mockServer.expect(requestTo(CompanyTemplate.COMPANY_FOLLOW_URL + "?oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
@@ -164,4 +198,14 @@ public class CompanyTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals(new Date(1319639274411l), p.getRecommendations().get(0).getTimestamp());
 	}
 
+	@Test
+	public void getProducts_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/companies/1337/products:(id,name,type,creation-timestamp)?start=0&count=5&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("products.json", getClass()), MediaType.APPLICATION_JSON));
+		Products productResult = linkedIn.companyOperations().getProducts(1337, 0, 5, EnumSet.of(ProductField.ID, ProductField.NAME, ProductField.TYPE, ProductField.CREATION_TIMESTAMP));
+		
+		assertEquals(5, productResult.getCount());
+		mockServer.verify();
+	}
+	
 }
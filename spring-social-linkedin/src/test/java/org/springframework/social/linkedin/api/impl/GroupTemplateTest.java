@@ -21,6 +21,7 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 import java.util.Date;
+import java.util.EnumSet;
 
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -30,6 +31,7 @@ import org.springframework.social.linkedin.api.Group.GroupAvailableAction;
 import org.springframework.social.linkedin.api.Group.GroupCategory;
 import org.springframework.social.linkedin.api.Group.GroupPosts;
 import org.springframework.social.linkedin.api.Group.MembershipState;
+import org.springframework.social.linkedin.api.GroupField;
 import org.springframework.social.linkedin.api.GroupMemberships;
 import org.springframework.social.linkedin.api.GroupSettings;
 import org.springframework.social.linkedin.api.GroupSettings.EmailDigestFrequency;
@@ -63,6 +65,14 @@ public class GroupTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals("Software Architect Network", s.getGroup().getName());
 	}
 	
+	@Test
+	public void getGroupMemberships_paged() {
+		mockServer.expect(requestTo(GroupTemplate.GROUP_MEMBERSHIPS_URL + "?start=10&count=10&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("group_memberships.json", getClass()), MediaType.APPLICATION_JSON));
+		GroupMemberships memberships = linkedIn.groupOperations().getGroupMemberships(10, 10);
+		assertEquals(10, memberships.getMemberships().size());
+	}
+	
 	@Test
 	public void getGroupSuggestions() {
 		mockServer.expect(requestTo(GroupTemplate.GROUP_SUGGESTIONS_URL + "?oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
@@ -80,6 +90,16 @@ public class GroupTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals("97 Things Every Software Architect Should Know", g.getName());
 	}
 	
+	@Test
+	public void getGroupDetails_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/groups/46964:(id,name,relation-to-viewer:(membership-state,available-actions),location:(country,postal-code))?oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("group.json", getClass()), MediaType.APPLICATION_JSON));
+		Group group = linkedIn.groupOperations().getGroupDetails(46964, EnumSet.of(GroupField.LOCATION, GroupField.RELATION_TO_VIEWER, GroupField.NAME, GroupField.ID));
+
+		assertEquals(46964, group.getId().intValue());
+		mockServer.verify();
+	}
+	
 	@Test
 	public void getGroupDetails() {
 		mockServer.expect(requestTo((GroupTemplate.GROUP_DETAILS_URL + "?oauth2_access_token=ACCESS_TOKEN").replaceFirst("\\{group-id\\}", "46964"))).andExpect(method(GET))
@@ -130,6 +150,14 @@ public class GroupTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals("http://www.springsource.org", group.getWebsiteUrl());
 	}
 	
+	@Test
+	public void getPosts_paged() {
+		mockServer.expect(requestTo((GroupTemplate.GROUP_POSTS_URL + "&start=20&count=5&oauth2_access_token=ACCESS_TOKEN").replaceFirst("\\{group-id\\}", "46964"))).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("group_posts.json", getClass()), MediaType.APPLICATION_JSON));
+		GroupPosts posts = linkedIn.groupOperations().getPosts(46964, 20, 5);
+		assertEquals(10, posts.getPosts().size());
+	}
+	
 	@Test
 	public void getPosts() {
 		mockServer.expect(requestTo((GroupTemplate.GROUP_POSTS_URL + "&oauth2_access_token=ACCESS_TOKEN").replaceFirst("\\{group-id\\}", "46964"))).andExpect(method(GET))
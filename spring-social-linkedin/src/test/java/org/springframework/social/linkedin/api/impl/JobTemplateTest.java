@@ -21,6 +21,7 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.Test;
@@ -29,6 +30,7 @@ import org.springframework.http.MediaType;
 import org.springframework.social.linkedin.api.Job;
 import org.springframework.social.linkedin.api.JobBookmark;
 import org.springframework.social.linkedin.api.JobBookmarks;
+import org.springframework.social.linkedin.api.JobField;
 import org.springframework.social.linkedin.api.JobPosition;
 import org.springframework.social.linkedin.api.JobSearchParameters;
 
@@ -128,6 +130,30 @@ public class JobTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals("Java Developer - GWT (Perm or Contract) \u2013 Dublin, Ireland", p.getTitle());
 	}
 	
+	@Test
+	public void search_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/job-search:(jobs:(id,company:(id,name),position:(title,location,job-functions,industries,job-type,experience-level)))?keywords=j2ee&country-code=ie&start=0&count=10&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("job_search.json", getClass()), MediaType.APPLICATION_JSON));
+		JobSearchParameters parameters = new JobSearchParameters();
+		parameters.setCountryCode("ie");
+		parameters.setKeywords("j2ee");
+		List<Job> jobs = linkedIn.jobOperations().searchJobs(parameters, EnumSet.of(JobField.ID, JobField.COMPANY, JobField.POSITION)).getJobs();
+		
+		assertEquals(8, jobs.size());
+		assertEquals(139355, jobs.get(0).getCompany().getId());
+		mockServer.verify();
+	}
+	
+	@Test
+	public void getJob_selectedFields() {
+		mockServer.expect(requestTo("https://api.linkedin.com/v1/jobs/2160963:(id,active,salary)?oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("job.json", getClass()), MediaType.APPLICATION_JSON));
+		Job j = linkedIn.jobOperations().getJob(2160963, EnumSet.of(JobField.SALARY, JobField.ACTIVE, JobField.ID));
+		
+		assertEquals(2160963, j.getId());
+		mockServer.verify();
+	}
+	
 	@Test
 	public void getJob() {
 		mockServer.expect(requestTo(JobTemplate.JOB_URL
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.Test;
+import org.springframework.social.linkedin.api.ProfileOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class LinkedInTemplateTest {
+
+	@Test
+	public void subApisCreatedOnFirstUse() {
+		LinkedInTemplate linkedIn = new LinkedInTemplate("ACCESS_TOKEN");
+		AtomicReferenceArray<?> subApis = (AtomicReferenceArray<?>) ReflectionTestUtils.getField(linkedIn, "subApis");
+		for (int i = 0; i < subApis.length(); i++) {
+			assertNull(subApis.get(i));
+		}
+		assertSame(linkedIn.profileOperations(), linkedIn.profileOperations());
+		assertSame(linkedIn.connectionOperations(), linkedIn.connectionOperations());
+		assertSame(linkedIn.networkUpdateOperations(), linkedIn.networkUpdateOperations());
+		assertSame(linkedIn.companyOperations(), linkedIn.companyOperations());
+		assertSame(linkedIn.communicationOperations(), linkedIn.communicationOperations());
+		assertSame(linkedIn.jobOperations(), linkedIn.jobOperations());
+		assertSame(linkedIn.groupOperations(), linkedIn.groupOperations());
+	}
+
+	@Test
+	public void subApiCreatedOnceUnderContention() throws Exception {
+		final LinkedInTemplate linkedIn = new LinkedInTemplate("ACCESS_TOKEN");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<ProfileOperations>> calls = new ArrayList<Callable<ProfileOperations>>();
+			for (int i = 0; i < 16; i++) {
+				calls.add(new Callable<ProfileOperations>() {
+					public ProfileOperations call() {
+						return linkedIn.profileOperations();
+					}
+				});
+			}
+			List<Future<ProfileOperations>> results = executor.invokeAll(calls);
+			for (Future<ProfileOperations> result : results) {
+				assertSame(results.get(0).get(), result.get());
+			}
+			assertSame(results.get(0).get(), linkedIn.profileOperations());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -20,12 +20,15 @@ import static org.springframework.http.HttpMethod.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
+import java.util.EnumSet;
+
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.social.linkedin.api.LinkedInProfile;
 import org.springframework.social.linkedin.api.LinkedInProfileFull;
 import org.springframework.social.linkedin.api.LinkedInProfiles;
+import org.springframework.social.linkedin.api.ProfileField;
 import org.springframework.social.linkedin.api.Recommendation.RecommendationType;
 import org.springframework.social.linkedin.api.SearchParameters;
 
@@ -49,6 +52,15 @@ public class ProfileTemplateTest extends AbstractLinkedInApiTest {
 		assertEquals("http://media.linkedin.com/pictureUrl", profile.getProfilePictureUrl());
 	}
 	
+	@Test
+	public void getUserProfile_selectedFields() {
+		mockServer.expect(requestTo(LinkedInTemplate.BASE_URL + "~:(id,first-name,last-name,public-profile-url)?format=json&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
+			.andRespond(withSuccess(new ClassPathResource("profile.json", getClass()), MediaType.APPLICATION_JSON));
+		LinkedInProfile profile = linkedIn.profileOperations().getUserProfile(EnumSet.of(ProfileField.PUBLIC_PROFILE_URL, ProfileField.ID, ProfileField.FIRST_NAME, ProfileField.LAST_NAME));
+		assertEquals("z37f0n3A05", profile.getId());
+		assertEquals("http://www.linkedin.com/in/habuma", profile.getPublicProfileUrl());
+	}
+
 	@Test 
 	public void getUserProfileFull() {
 		mockServer.expect(requestTo(LinkedInTemplate.BASE_URL + "~" + ProfileTemplate.FULL_PROFILE_FIELDS + "&oauth2_access_token=ACCESS_TOKEN")).andExpect(method(GET))
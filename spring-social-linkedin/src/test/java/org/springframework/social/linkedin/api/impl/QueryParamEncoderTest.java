@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class QueryParamEncoderTest {
+
+	@Test
+	public void encode_nothingToEscape() {
+		String keywords = "java-developer_(senior),london";
+		assertSame(keywords, QueryParamEncoder.encode(keywords));
+	}
+
+	@Test
+	public void encode_delimiters() {
+		assertEquals("C%2B%2B%20%26%20.NET%3Dyes", QueryParamEncoder.encode("C++ & .NET=yes"));
+	}
+
+	@Test
+	public void encode_utf8() {
+		assertEquals("Z%C3%BCrich", QueryParamEncoder.encode("Z\u00fcrich"));
+		assertEquals("%E2%82%AC100", QueryParamEncoder.encode("\u20ac100"));
+		assertEquals("%F0%9F%98%80", QueryParamEncoder.encode("\ud83d\ude00"));
+	}
+
+	@Test
+	public void encode_unpairedSurrogate() {
+		assertEquals("a?b", QueryParamEncoder.encode("a\ud83db"));
+	}
+
+	@Test
+	public void encode_appendsToBuffer() {
+		StringBuilder buffer = new StringBuilder("keywords=");
+		QueryParamEncoder.encode("spring j2ee", buffer);
+		assertEquals("keywords=spring%20j2ee", buffer.toString());
+	}
+
+}
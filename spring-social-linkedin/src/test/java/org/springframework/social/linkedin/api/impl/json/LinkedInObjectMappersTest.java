@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.api.impl.json;
+
+import static org.junit.Assert.*;
+
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class LinkedInObjectMappersTest {
+
+	private static final String REFLECT_CONFIG = "META-INF/native-image/org.springframework.social/spring-social-linkedin/reflect-config.json";
+
+	@Test
+	public void shared() {
+		assertSame(LinkedInObjectMappers.shared(), LinkedInObjectMappers.shared());
+		assertNotSame(LinkedInObjectMappers.shared(), LinkedInObjectMappers.create());
+	}
+
+	@Test
+	public void warmUp() {
+		LinkedInObjectMappers.warmUp();
+		LinkedInObjectMappers.warmUp();
+		ObjectMapper mapper = LinkedInObjectMappers.shared();
+		Map<?, ?> rootDeserializers = (Map<?, ?>) ReflectionTestUtils.getField(mapper, "_rootDeserializers");
+		for (Class<?> type : LinkedInModule.getTargetTypes()) {
+			assertNotNull(type.getName(), rootDeserializers.get(mapper.constructType(type)));
+		}
+	}
+
+	@Test
+	public void reflectConfigCoversModelMixinsAndDeserializers() throws Exception {
+		Set<String> registered = new HashSet<String>();
+		InputStream in = new ClassPathResource(REFLECT_CONFIG).getInputStream();
+		try {
+			List<Map<String, Object>> entries = new ObjectMapper().readValue(in, new TypeReference<List<Map<String, Object>>>() {});
+			for (Map<String, Object> entry : entries) {
+				registered.add((String) entry.get("name"));
+			}
+		}
+		finally {
+			in.close();
+		}
+		for (Class<?> type : LinkedInModule.getTargetTypes()) {
+			assertTrue(type.getName(), registered.contains(type.getName()));
+		}
+		for (Class<?> mixin : LinkedInModule.getMixinTypes()) {
+			assertTrue(mixin.getName(), registered.contains(mixin.getName()));
+			for (Class<?> nested : mixin.getDeclaredClasses()) {
+				if (JsonDeserializer.class.isAssignableFrom(nested)) {
+					assertTrue(nested.getName(), registered.contains(nested.getName()));
+				}
+			}
+		}
+		for (String name : registered) {
+			Class.forName(name);
+		}
+	}
+
+}
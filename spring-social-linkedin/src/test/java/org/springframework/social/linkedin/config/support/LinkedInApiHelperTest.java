@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.config.support;
+
+import static java.util.Arrays.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.social.UserIdSource;
+import org.springframework.social.connect.Connection;
+import org.springframework.social.connect.ConnectionRepository;
+import org.springframework.social.connect.UsersConnectionRepository;
+import org.springframework.social.linkedin.api.LinkedIn;
+
+public class LinkedInApiHelperTest {
+
+	private UsersConnectionRepository usersConnectionRepository = mock(UsersConnectionRepository.class);
+
+	private ConnectionRepository connectionRepository = mock(ConnectionRepository.class);
+
+	private UserIdSource userIdSource = mock(UserIdSource.class);
+
+	@SuppressWarnings("unchecked")
+	private Connection<LinkedIn> connection = mock(Connection.class);
+
+	private LinkedIn linkedIn = mock(LinkedIn.class);
+
+	private LinkedInApiHelper helper;
+
+	@Before
+	public void setup() throws Exception {
+		when(usersConnectionRepository.createConnectionRepository(anyString())).thenReturn(connectionRepository);
+		when(userIdSource.getUserId()).thenReturn("habuma");
+		when(connection.getApi()).thenReturn(linkedIn);
+		helper = BeanUtils.instantiateClass(LinkedInApiHelper.class.getDeclaredConstructor(UsersConnectionRepository.class, UserIdSource.class),
+				usersConnectionRepository, userIdSource);
+		helper.setCacheTimeToLive(30);
+	}
+
+	@Test
+	public void getApi_memoized() {
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		assertSame(linkedIn, helper.getApi());
+		assertSame(linkedIn, helper.getApi());
+		verify(connectionRepository, times(1)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void getApi_notConnected() {
+		assertNull(helper.getApi());
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		assertSame(linkedIn, helper.getApi());
+	}
+
+	@Test
+	public void getApi_expiredConnectionLookedUpAgain() {
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		helper.getApi();
+		when(connection.hasExpired()).thenReturn(true);
+		helper.getApi();
+		verify(connectionRepository, times(2)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void invalidate() {
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		helper.getApi();
+		helper.invalidate("habuma");
+		helper.getApi();
+		helper.invalidateAll();
+		helper.getApi();
+		verify(connectionRepository, times(3)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void invalidateDuringLookup() {
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenAnswer(new Answer<Connection<LinkedIn>>() {
+			public Connection<LinkedIn> answer(InvocationOnMock invocation) {
+				// the user disconnects while the repository is being queried
+				helper.invalidate("habuma");
+				return connection;
+			}
+		});
+		assertSame(linkedIn, helper.getApi());
+		helper.getApi();
+		verify(connectionRepository, times(2)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void cacheDisabledByDefault() throws Exception {
+		helper = BeanUtils.instantiateClass(LinkedInApiHelper.class.getDeclaredConstructor(UsersConnectionRepository.class, UserIdSource.class),
+				usersConnectionRepository, userIdSource);
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		helper.getApi();
+		helper.getApi();
+		verify(connectionRepository, times(2)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void cacheDisabled() {
+		helper.setCacheTimeToLive(0);
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		helper.getApi();
+		helper.getApi();
+		verify(connectionRepository, times(2)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void maxCacheSize() {
+		helper.setMaxCacheSize(1);
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		helper.warmUp(asList("a", "habuma"));
+		helper.getApi();
+		verify(connectionRepository, times(2)).findPrimaryConnection(LinkedIn.class);
+		helper.warmUp(asList("a"));
+		helper.getApi();
+		verify(connectionRepository, times(4)).findPrimaryConnection(LinkedIn.class);
+	}
+
+	@Test
+	public void warmUp() {
+		ConnectionRepository unconnected = mock(ConnectionRepository.class);
+		when(usersConnectionRepository.createConnectionRepository("nobody")).thenReturn(unconnected);
+		when(connectionRepository.findPrimaryConnection(LinkedIn.class)).thenReturn(connection);
+		assertEquals(2, helper.warmUp(asList("habuma", "kdonald", "nobody")));
+		assertSame(linkedIn, helper.getApi());
+		verify(connectionRepository, times(2)).findPrimaryConnection(LinkedIn.class);
+	}
+
+}
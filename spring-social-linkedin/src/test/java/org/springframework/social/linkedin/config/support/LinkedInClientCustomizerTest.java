@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.config.support;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+
+public class LinkedInClientCustomizerTest {
+
+	@Test
+	public void customize_sharesRequestFactory() throws Exception {
+		LinkedInClientCustomizer customizer = new LinkedInClientCustomizer();
+		customizer.setConnectTimeout(2000);
+		customizer.setMaxConnections(10);
+		ClientHttpRequestFactory requestFactory = customizer.getRequestFactory();
+		assertTrue(requestFactory instanceof HttpComponentsClientHttpRequestFactory);
+
+		LinkedInTemplate first = mock(LinkedInTemplate.class);
+		LinkedInTemplate second = mock(LinkedInTemplate.class);
+		customizer.customize(first);
+		customizer.customize(second);
+		verify(first).setRequestFactory(requestFactory);
+		verify(second).setRequestFactory(requestFactory);
+		verify(first, never()).setRequestRateLimiter(any());
+		customizer.destroy();
+	}
+
+	@Test
+	public void customize_sharesRateLimiter() {
+		LinkedInClientCustomizer customizer = new LinkedInClientCustomizer();
+		customizer.setPermitsPerSecond(5);
+		assertEquals(5, customizer.getRateLimiter().getPermitsPerSecond(), 0.001);
+
+		LinkedInTemplate first = mock(LinkedInTemplate.class);
+		LinkedInTemplate second = mock(LinkedInTemplate.class);
+		customizer.customize(first);
+		customizer.customize(second);
+		verify(first).setRequestRateLimiter(customizer.getRateLimiter());
+		verify(second).setRequestRateLimiter(customizer.getRateLimiter());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setReadTimeout_negative() {
+		new LinkedInClientCustomizer().setReadTimeout(-1);
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.config.xml;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.GenericXmlApplicationContext;
+import org.springframework.social.connect.ConnectionData;
+import org.springframework.social.connect.ConnectionFactory;
+import org.springframework.social.connect.ConnectionFactoryLocator;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.social.linkedin.config.support.LinkedInApiHelper;
+import org.springframework.social.linkedin.config.support.LinkedInClientCustomizer;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
+
+public class LinkedInConfigBeanDefinitionParserTest {
+
+	private GenericXmlApplicationContext context;
+
+	@Before
+	public void setup() {
+		context = new GenericXmlApplicationContext(getClass(), "client-config.xml");
+	}
+
+	@After
+	public void tearDown() {
+		context.close();
+	}
+
+	@Test
+	public void clientInfrastructure() {
+		LinkedInClientCustomizer customizer = context.getBean(LinkedInClientCustomizer.class);
+		assertEquals(10, customizer.getRateLimiter().getPermitsPerSecond(), 0.001);
+		LinkedInBindingCache bindingCache = context.getBean(LinkedInBindingCache.class);
+
+		ConnectionFactory<LinkedIn> connectionFactory = context.getBean(ConnectionFactoryLocator.class).getConnectionFactory(LinkedIn.class);
+		ConnectionData data = new ConnectionData("linkedin", "1", null, null, null, "accessToken", null, null, null);
+		connectionFactory.createConnection(data);
+		LinkedInTemplate template = (LinkedInTemplate) bindingCache.get("accessToken");
+		assertFalse(template.getRestTemplate().getInterceptors().isEmpty());
+		connectionFactory.createConnection(data);
+		assertSame(template, bindingCache.get("accessToken"));
+		assertEquals(1, bindingCache.size());
+	}
+
+	@Test
+	public void apiHelperName() {
+		LinkedInApiHelper helper = context.getBean(LinkedInConfigBeanDefinitionParser.API_HELPER_BEAN_NAME, LinkedInApiHelper.class);
+		assertSame(context.getBean(LinkedInApiHelper.class), helper);
+	}
+
+}
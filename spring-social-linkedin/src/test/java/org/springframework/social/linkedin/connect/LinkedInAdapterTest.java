@@ -19,6 +19,8 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.springframework.social.NotAuthorizedException;
+import org.springframework.social.connect.ConnectionValues;
 import org.springframework.social.connect.UserProfile;
 import org.springframework.social.linkedin.api.LinkedIn;
 import org.springframework.social.linkedin.api.LinkedInProfile;
@@ -36,7 +38,7 @@ public class LinkedInAdapterTest {
 	public void fetchProfile() {
 		ProfileOperations profileOperations = Mockito.mock(ProfileOperations.class);
 		Mockito.when(linkedin.profileOperations()).thenReturn(profileOperations);
-		Mockito.when(profileOperations.getUserProfile()).thenReturn(new LinkedInProfile("50A3nOf73z", "Craig", "Walls", "Spring Guy", "Software", "http://www.linkedin.com/in/habuma", 
+		Mockito.when(profileOperations.getUserProfile(LinkedInAdapter.PROFILE_FIELDS)).thenReturn(new LinkedInProfile("50A3nOf73z", "Craig", "Walls", "Spring Guy", "Software", "http://www.linkedin.com/in/habuma", 
 				new UrlResource(null, "http://www.linkedin.com/profile?viewProfile=&key=3630172&authToken=0IpZ&authType=name&trk=api*a121026*s129482*"), "http://media.linkedin.com/mpr/mprx/0_9-Hjc8b0ViE1gGElNtdCcGh0s3pjxbRlNzpCciT05XHD8i2Asq4AM_zAN7yGp8VgcAoi4k1faewD"));
 		UserProfile profile = apiAdapter.fetchUserProfile(linkedin);
 		assertEquals("Craig Walls", profile.getName());
@@ -46,6 +48,35 @@ public class LinkedInAdapterTest {
 		assertNull(profile.getUsername());
 	}
 	
+	@Test
+	public void connectionSetupFetchesProfileOnce() {
+		ProfileOperations profileOperations = Mockito.mock(ProfileOperations.class);
+		Mockito.when(linkedin.profileOperations()).thenReturn(profileOperations);
+		Mockito.when(profileOperations.getUserProfile(LinkedInAdapter.PROFILE_FIELDS)).thenReturn(new LinkedInProfile("50A3nOf73z", "Craig", "Walls", null, null, "http://www.linkedin.com/in/habuma", 
+				null, "http://media.linkedin.com/pictureUrl"));
+		assertTrue(apiAdapter.test(linkedin));
+		ConnectionValues values = Mockito.mock(ConnectionValues.class);
+		apiAdapter.setConnectionValues(linkedin, values);
+		Mockito.verify(values).setProviderUserId("50A3nOf73z");
+		Mockito.verify(values).setDisplayName("Craig Walls");
+		Mockito.verify(values).setProfileUrl("http://www.linkedin.com/in/habuma");
+		Mockito.verify(values).setImageUrl("http://media.linkedin.com/pictureUrl");
+		assertEquals("Craig Walls", apiAdapter.fetchUserProfile(linkedin).getName());
+		Mockito.verify(profileOperations, Mockito.times(1)).getUserProfile(LinkedInAdapter.PROFILE_FIELDS);
+		Mockito.verify(profileOperations, Mockito.never()).getUserProfile();
+	}
+
+	@Test
+	public void testBypassesRememberedProfile() {
+		ProfileOperations profileOperations = Mockito.mock(ProfileOperations.class);
+		Mockito.when(linkedin.profileOperations()).thenReturn(profileOperations);
+		Mockito.when(profileOperations.getUserProfile(LinkedInAdapter.PROFILE_FIELDS))
+			.thenReturn(new LinkedInProfile("50A3nOf73z", "Craig", "Walls", null, null, null, null, null))
+			.thenThrow(new NotAuthorizedException("linkedin", "Token revoked"));
+		assertEquals("Craig Walls", apiAdapter.fetchUserProfile(linkedin).getName());
+		assertFalse(apiAdapter.test(linkedin));
+	}
+
 	@Test
 	public void updateStatus() {
 		NetworkUpdateOperations networkOperations = Mockito.mock(NetworkUpdateOperations.class);
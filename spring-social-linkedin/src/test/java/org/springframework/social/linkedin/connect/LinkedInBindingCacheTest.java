@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.connect;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+
+public class LinkedInBindingCacheTest {
+
+	private long now;
+
+	private LinkedInBindingCache cache = new LinkedInBindingCache(2, 10, TimeUnit.NANOSECONDS) {
+		@Override
+		long nanoTime() {
+			return now;
+		}
+	};
+
+	@Test
+	public void putIfAbsent() {
+		LinkedIn binding = Mockito.mock(LinkedIn.class);
+		assertNull(cache.get("token"));
+		assertSame(binding, cache.putIfAbsent("token", binding));
+		assertSame(binding, cache.putIfAbsent("token", Mockito.mock(LinkedIn.class)));
+		assertSame(binding, cache.get("token"));
+	}
+
+	@Test
+	public void expires() {
+		cache.putIfAbsent("token", Mockito.mock(LinkedIn.class));
+		now += 9;
+		assertNotNull(cache.get("token"));
+		now += 1;
+		assertNull(cache.get("token"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void evictExpired() {
+		cache.putIfAbsent("a", Mockito.mock(LinkedIn.class));
+		now += 5;
+		cache.putIfAbsent("b", Mockito.mock(LinkedIn.class));
+		now += 5;
+		cache.evictExpired();
+		assertEquals(1, cache.size());
+		assertNotNull(cache.get("b"));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		cache.putIfAbsent("a", Mockito.mock(LinkedIn.class));
+		cache.putIfAbsent("b", Mockito.mock(LinkedIn.class));
+		cache.get("a");
+		cache.putIfAbsent("c", Mockito.mock(LinkedIn.class));
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("c"));
+	}
+
+	@Test
+	public void associate_replacedTokenEvicted() {
+		cache.putIfAbsent("old", Mockito.mock(LinkedIn.class));
+		cache.associate("member", "old");
+		cache.putIfAbsent("new", Mockito.mock(LinkedIn.class));
+		cache.associate("member", "new");
+		assertNull(cache.get("old"));
+		assertNotNull(cache.get("new"));
+	}
+
+	@Test
+	public void evictUser() {
+		cache.putIfAbsent("token", Mockito.mock(LinkedIn.class));
+		cache.associate("member", "token");
+		cache.evictUser("member");
+		assertNull(cache.get("token"));
+		cache.evictUser("member");
+	}
+
+	@Test
+	public void maxIdleTime() {
+		cache.setMaxIdleTime(4, TimeUnit.NANOSECONDS);
+		cache.putIfAbsent("a", Mockito.mock(LinkedIn.class));
+		cache.putIfAbsent("b", Mockito.mock(LinkedIn.class));
+		now += 3;
+		assertNotNull(cache.get("a"));
+		now += 3;
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		now += 4;
+		cache.evictExpired();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void counters() {
+		cache.putIfAbsent("a", Mockito.mock(LinkedIn.class));
+		cache.associate("1", "a");
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		cache.putIfAbsent("b", Mockito.mock(LinkedIn.class));
+		cache.associate("1", "b");
+		cache.putIfAbsent("c", Mockito.mock(LinkedIn.class));
+		cache.putIfAbsent("d", Mockito.mock(LinkedIn.class));
+		now += 10;
+		assertNull(cache.get("d"));
+		cache.evict("c");
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		// replaced token a, least recently used b, expired d
+		assertEquals(3, cache.getEvictionCount());
+	}
+
+	@Test
+	public void serviceProvider_replacesBindingPerMember() {
+		LinkedInServiceProvider serviceProvider = new LinkedInServiceProvider("clientId", "clientSecret");
+		LinkedInBindingCache cache = new LinkedInBindingCache();
+		serviceProvider.setBindingCache(cache);
+		LinkedIn binding = serviceProvider.getApi("1", "token");
+		assertSame(binding, serviceProvider.getApi("1", "token"));
+		LinkedIn refreshed = serviceProvider.getApi("1", "refreshed");
+		assertNotSame(binding, refreshed);
+		assertNull(cache.get("token"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void serviceProvider_reusesBindingPerToken() {
+		LinkedInServiceProvider serviceProvider = new LinkedInServiceProvider("clientId", "clientSecret");
+		assertNotSame(serviceProvider.getApi("token"), serviceProvider.getApi("token"));
+		final int[] customized = new int[1];
+		serviceProvider.addTemplateCustomizer(new LinkedInTemplateCustomizer() {
+			public void customize(LinkedInTemplate template) {
+				customized[0]++;
+			}
+		});
+		serviceProvider.setBindingCache(new LinkedInBindingCache());
+		LinkedIn binding = serviceProvider.getApi("token");
+		assertSame(binding, serviceProvider.getApi("token"));
+		assertNotSame(binding, serviceProvider.getApi("other"));
+		assertEquals(2, customized[0]);
+	}
+
+}
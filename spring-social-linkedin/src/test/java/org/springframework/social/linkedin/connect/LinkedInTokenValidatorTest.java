@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.connect;
+
+import static java.util.Arrays.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.social.NotAuthorizedException;
+import org.springframework.social.RateLimitExceededException;
+import org.springframework.social.connect.Connection;
+import org.springframework.social.connect.ConnectionData;
+import org.springframework.social.connect.ConnectionKey;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.ProfileField;
+import org.springframework.social.linkedin.api.ProfileOperations;
+import org.springframework.social.linkedin.connect.LinkedInTokenValidator.Status;
+import org.springframework.social.linkedin.connect.LinkedInTokenValidator.StatusListener;
+
+public class LinkedInTokenValidatorTest {
+
+	private LinkedInTokenValidator validator = new LinkedInTokenValidator();
+
+	@Test
+	public void test_fetchesIdOnly() {
+		LinkedIn linkedin = linkedIn(null);
+		assertTrue(validator.test(linkedin));
+		verify(linkedin.profileOperations()).getUserProfile(singleton(ProfileField.ID));
+		verify(linkedin.profileOperations(), never()).getUserProfile();
+	}
+
+	@Test
+	public void test_validCached() {
+		LinkedIn linkedin = linkedIn(null);
+		assertTrue(validator.test(linkedin));
+		assertTrue(validator.test(linkedin));
+		verify(linkedin.profileOperations(), times(1)).getUserProfile(singleton(ProfileField.ID));
+	}
+
+	@Test
+	public void test_invalidNotCached() {
+		LinkedIn linkedin = linkedIn(new NotAuthorizedException("linkedin", "Invalid access token"));
+		assertFalse(validator.test(linkedin));
+		assertFalse(validator.test(linkedin));
+		verify(linkedin.profileOperations(), times(2)).getUserProfile(singleton(ProfileField.ID));
+	}
+
+	@Test
+	public void isValid_cachedPerToken() {
+		assertTrue(validator.isValid(connection("1", "token", linkedIn(null))));
+		LinkedIn other = linkedIn(null);
+		assertTrue(validator.isValid(connection("1", "token", other)));
+		verifyZeroInteractions(other.profileOperations());
+		validator.invalidate("token");
+		assertTrue(validator.isValid(connection("1", "token", other)));
+		verify(other.profileOperations()).getUserProfile(singleton(ProfileField.ID));
+	}
+
+	@Test
+	public void isValid_cacheDisabled() {
+		validator.setValidTimeToLive(0, TimeUnit.SECONDS);
+		LinkedIn linkedin = linkedIn(null);
+		validator.isValid(connection("1", "token", linkedin));
+		validator.isValid(connection("1", "token", linkedin));
+		verify(linkedin.profileOperations(), times(2)).getUserProfile(singleton(ProfileField.ID));
+	}
+
+	@Test
+	public void validateAll() throws Exception {
+		validator.setConcurrency(2);
+		Map<ConnectionKey, Status> statuses = validator.validateAll(asList(
+				connection("1", "a", linkedIn(null)),
+				connection("2", "b", linkedIn(new NotAuthorizedException("linkedin", "Invalid access token"))),
+				connection("3", "c", linkedIn(new RateLimitExceededException("linkedin"))),
+				connection("4", "d", linkedIn(null))));
+		assertEquals(asList(new ConnectionKey("linkedin", "1"), new ConnectionKey("linkedin", "2"), new ConnectionKey("linkedin", "3"),
+				new ConnectionKey("linkedin", "4")), asList(statuses.keySet().toArray()));
+		assertEquals(asList(Status.VALID, Status.INVALID, Status.UNKNOWN, Status.VALID), asList(statuses.values().toArray()));
+	}
+
+	@Test
+	public void validateAll_streamed() throws Exception {
+		validator.setConcurrency(2);
+		final int[] taken = new int[1];
+		final Iterator<Connection<LinkedIn>> connections = new Iterator<Connection<LinkedIn>>() {
+			public boolean hasNext() {
+				return taken[0] < 20;
+			}
+
+			public Connection<LinkedIn> next() {
+				taken[0]++;
+				return connection(String.valueOf(taken[0]), "token" + taken[0],
+						linkedIn(taken[0] % 2 == 0 ? new NotAuthorizedException("linkedin", "Invalid access token") : null));
+			}
+		};
+		final List<Status> statuses = new ArrayList<Status>();
+		int checked = validator.validateAll(new Iterable<Connection<LinkedIn>>() {
+			public Iterator<Connection<LinkedIn>> iterator() {
+				return connections;
+			}
+		}, new StatusListener() {
+			public void onStatus(Connection<LinkedIn> connection, Status status) {
+				// no more connections are taken than there are checks in flight
+				assertTrue(taken[0] - statuses.size() <= 2);
+				statuses.add(status);
+			}
+		});
+		assertEquals(20, checked);
+		assertEquals(10, Collections.frequency(statuses, Status.VALID));
+		assertEquals(10, Collections.frequency(statuses, Status.INVALID));
+	}
+
+	@Test
+	public void adapterDelegatesToValidator() {
+		LinkedInAdapter adapter = new LinkedInAdapter();
+		adapter.setTokenValidator(validator);
+		LinkedIn linkedin = linkedIn(null);
+		assertTrue(adapter.test(linkedin));
+		verify(linkedin.profileOperations()).getUserProfile(singleton(ProfileField.ID));
+	}
+
+	private static Set<ProfileField> singleton(ProfileField field) {
+		return EnumSet.of(field);
+	}
+
+	private static LinkedIn linkedIn(RuntimeException failure) {
+		LinkedIn linkedin = mock(LinkedIn.class);
+		ProfileOperations profileOperations = mock(ProfileOperations.class);
+		when(linkedin.profileOperations()).thenReturn(profileOperations);
+		if (failure != null) {
+			when(profileOperations.getUserProfile(singleton(ProfileField.ID))).thenThrow(failure);
+		}
+		else {
+			when(profileOperations.getUserProfile(singleton(ProfileField.ID))).thenReturn(mock(LinkedInProfile.class));
+		}
+		return linkedin;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Connection<LinkedIn> connection(String providerUserId, String accessToken, LinkedIn linkedin) {
+		Connection<LinkedIn> connection = mock(Connection.class);
+		when(connection.getKey()).thenReturn(new ConnectionKey("linkedin", providerUserId));
+		when(connection.createData()).thenReturn(new ConnectionData("linkedin", providerUserId, null, null, null, accessToken, null, null, null));
+		when(connection.getApi()).thenReturn(linkedin);
+		return connection;
+	}
+
+}
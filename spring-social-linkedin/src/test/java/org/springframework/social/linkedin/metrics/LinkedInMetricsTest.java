@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import static org.junit.Assert.*;
+import static org.springframework.http.HttpMethod.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.social.NotAuthorizedException;
+import org.springframework.social.RateLimitExceededException;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.social.linkedin.connect.LinkedInBindingCache;
+import org.springframework.social.linkedin.tracing.InMemorySpanExporter;
+import org.springframework.social.linkedin.tracing.LinkedInTracing;
+import org.springframework.social.linkedin.tracing.Tracer;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LinkedInMetricsTest {
+
+	private LinkedInTemplate linkedIn;
+
+	private MockRestServiceServer mockServer;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+		linkedIn = new LinkedInTemplate("ACCESS_TOKEN");
+		registry = new SimpleMeterRegistry();
+		LinkedInMetrics.instrument(linkedIn, registry);
+		LinkedInMetrics.instrument(linkedIn, registry);
+		mockServer = MockRestServiceServer.createServer(linkedIn.getRestTemplate());
+	}
+
+	@Test
+	public void successfulCall() {
+		ClassPathResource profile = new ClassPathResource("profile.json", LinkedInTemplate.class);
+		mockServer.expect(method(GET)).andRespond(withSuccess(profile, MediaType.APPLICATION_JSON));
+		linkedIn.profileOperations().getUserProfile();
+		mockServer.verify();
+
+		Timer requests = registry.find(LinkedInMetrics.REQUESTS)
+				.tags("operation", "profile.get", "method", "GET", "status", "2xx", "exception", "none").timer();
+		assertNotNull(requests);
+		assertEquals(1, requests.count());
+		Timer deserialization = registry.find(LinkedInMetrics.DESERIALIZATION).tags("operation", "profile.get").timer();
+		assertEquals(1, deserialization.count());
+		assertTrue(deserialization.totalTime(TimeUnit.NANOSECONDS) > 0);
+		DistributionSummary responseSize = registry.find(LinkedInMetrics.RESPONSE_SIZE).tags("operation", "profile.get").summary();
+		assertTrue(responseSize.totalAmount() > 0);
+		assertEquals(0, registry.find(LinkedInMetrics.REQUEST_SIZE).summary().totalAmount(), 0);
+	}
+
+	@Test
+	public void translatedException() {
+		ClassPathResource throttle = new ClassPathResource("error_throttle.json", LinkedInTemplate.class);
+		mockServer.expect(method(GET)).andRespond(withStatus(HttpStatus.FORBIDDEN).body(throttle).contentType(MediaType.APPLICATION_JSON));
+		try {
+			linkedIn.profileOperations().getUserProfile();
+			fail();
+		}
+		catch (RateLimitExceededException e) {
+			// expected
+		}
+		Timer requests = registry.find(LinkedInMetrics.REQUESTS)
+				.tags("status", "4xx", "exception", "RateLimitExceededException").timer();
+		assertNotNull(requests);
+		assertEquals(1, requests.count());
+	}
+
+	@Test
+	public void translatedExceptionWithTracing() {
+		assertNotAuthorizedRecorded(true);
+		assertNotAuthorizedRecorded(false);
+	}
+
+	@Test
+	public void requestBodyAndNoToken() {
+		mockServer.expect(method(POST)).andRespond(withStatus(HttpStatus.CREATED));
+		linkedIn.networkUpdateOperations().createNetworkUpdate("Hello");
+		DistributionSummary requestSize = registry.find(LinkedInMetrics.REQUEST_SIZE).tags("operation", "networkUpdates.create").summary();
+		assertTrue(requestSize.totalAmount() > 0);
+		for (Meter meter : registry.getMeters()) {
+			assertFalse(meter.getId().toString().contains("ACCESS_TOKEN"));
+		}
+	}
+
+	private void assertNotAuthorizedRecorded(boolean tracingFirst) {
+		LinkedInTemplate template = new LinkedInTemplate("ACCESS_TOKEN");
+		MeterRegistry registry = new SimpleMeterRegistry();
+		if (tracingFirst) {
+			LinkedInTracing.instrument(template, new Tracer(new InMemorySpanExporter()));
+		}
+		LinkedInMetrics.instrument(template, registry);
+		if (!tracingFirst) {
+			LinkedInTracing.instrument(template, new Tracer(new InMemorySpanExporter()));
+		}
+		MockRestServiceServer mockServer = MockRestServiceServer.createServer(template.getRestTemplate());
+		ClassPathResource error = new ClassPathResource("error_invalid_token.json", LinkedInTemplate.class);
+		mockServer.expect(method(GET)).andRespond(withStatus(HttpStatus.UNAUTHORIZED).body(error).contentType(MediaType.APPLICATION_JSON));
+		try {
+			template.profileOperations().getUserProfile();
+			fail();
+		}
+		catch (NotAuthorizedException e) {
+			// expected
+		}
+		Timer requests = registry.find(LinkedInMetrics.REQUESTS)
+				.tags("status", "4xx", "exception", "NotAuthorizedException").timer();
+		assertNotNull(requests);
+		assertEquals(1, requests.count());
+	}
+
+	@Test
+	public void monitorBindingCache() {
+		LinkedInBindingCache cache = new LinkedInBindingCache(1, 1, TimeUnit.HOURS);
+		LinkedInMetrics.monitor(cache, registry);
+		cache.putIfAbsent("a", linkedIn);
+		cache.get("a");
+		cache.get("b");
+		cache.putIfAbsent("b", linkedIn);
+		assertEquals(1, registry.find(LinkedInMetrics.BINDING_CACHE_SIZE).gauge().value(), 0);
+		assertEquals(1, registry.find(LinkedInMetrics.BINDING_CACHE_REQUESTS).tags("result", "hit").functionCounter().count(), 0);
+		assertEquals(1, registry.find(LinkedInMetrics.BINDING_CACHE_REQUESTS).tags("result", "miss").functionCounter().count(), 0);
+		assertEquals(1, registry.find(LinkedInMetrics.BINDING_CACHE_EVICTIONS).functionCounter().count(), 0);
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.metrics;
+
+import static org.junit.Assert.*;
+import static org.springframework.http.HttpMethod.*;
+
+import java.net.URI;
+
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+
+public class OperationNamesTest {
+
+	@Test
+	public void profiles() {
+		assertEquals("profile.get", resolve(GET, "/v1/people/~:(id,first-name,positions:(title,company:(name)))?format=json&oauth2_access_token=SECRET"));
+		assertEquals("profile.get", resolve(GET, "/v1/people/id=z37f0n3A05:(id)"));
+		assertEquals("profile.get", resolve(GET, "/v1/people/url=http%3A%2F%2Fwww.linkedin.com%2Fin%2Fhabuma"));
+		assertEquals("profile.get", resolve(GET, "/v1/people/url=http:%2F%2Fwww.linkedin.com%2Fin%2Fhabuma"));
+		assertEquals("profile.search", resolve(GET, "/v1/people-search:(people:(id),num-results)?keywords=java"));
+		assertEquals("shares.current", resolve(GET, "/v1/people/~:(current-share)"));
+	}
+
+	@Test
+	public void networkUpdates() {
+		assertEquals("networkUpdates.list", resolve(GET, "/v1/people/~/network/updates?count=10"));
+		assertEquals("networkUpdates.comments.list", resolve(GET, "/v1/people/~/network/updates/key=UNIU-1/update-comments"));
+		assertEquals("networkUpdates.comments.create", resolve(POST, "/v1/people/~/network/updates/key=UNIU-1/update-comments"));
+		assertEquals("networkUpdates.like", resolve(PUT, "/v1/people/~/network/updates/key=UNIU-1/is-liked"));
+		assertEquals("networkUpdates.create", resolve(POST, "/v1/people/~/person-activities"));
+		assertEquals("shares.create", resolve(POST, "/v1/people/~/shares"));
+		assertEquals("connections.list", resolve(GET, "/v1/people/~/connections:(id)?start=0&count=500"));
+		assertEquals("connections.stats", resolve(GET, "/v1/people/~/network/network-stats"));
+	}
+
+	@Test
+	public void companiesJobsAndGroups() {
+		assertEquals("company.get", resolve(GET, "/v1/companies/1337:(id,name)"));
+		assertEquals("company.get", resolve(GET, "/v1/companies/universal-name=linkedin"));
+		assertEquals("company.get", resolve(GET, "/v1/companies%2F1337:(id,name)"));
+		assertEquals("company.products.list", resolve(GET, "/v1/companies/1337/products:(id)?start=0&count=20"));
+		assertEquals("company.follow", resolve(POST, "/v1/people/~/following/companies"));
+		assertEquals("company.unfollow", resolve(DELETE, "/v1/people/~/following/companies/id=1337"));
+		assertEquals("job.get", resolve(GET, "/v1/jobs/1234:(id)"));
+		assertEquals("job.bookmarks.delete", resolve(DELETE, "/v1/people/~/job-bookmarks/1234"));
+		assertEquals("group.join", resolve(PUT, "/v1/people/~/group-memberships/42"));
+		assertEquals("group.leave", resolve(DELETE, "/v1/people/~/group-memberships/42"));
+		assertEquals("group.posts.create", resolve(POST, "/v1/groups/42/posts"));
+		assertEquals("group.comments.list", resolve(GET, "/v1/posts/g-42-S-99/comments:(id)"));
+		assertEquals("group.posts.delete", resolve(DELETE, "/v1/posts/g-42-S-99"));
+	}
+
+	@Test
+	public void unknown() {
+		assertEquals(OperationNames.OTHER, resolve(GET, "/v1/people/~/unknown/resource"));
+		assertEquals(OperationNames.OTHER, resolve(GET, "/elsewhere"));
+	}
+
+	private String resolve(HttpMethod method, String path) {
+		return OperationNames.resolve(method, URI.create("https://api.linkedin.com" + path));
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.paging;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.social.linkedin.api.Group.GroupPosts;
+import org.springframework.social.linkedin.api.GroupOperations;
+import org.springframework.social.linkedin.api.Post;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class PrefetchingPageIteratorTest {
+
+	private ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void readsAllPagesInOrder() {
+		CountingFetcher fetcher = new CountingFetcher(25, false);
+		PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<Integer>(fetcher, 10, executor);
+
+		List<Integer> items = new ArrayList<Integer>();
+		while (iterator.hasNext()) {
+			items.add(iterator.next());
+		}
+
+		assertEquals(25, items.size());
+		for (int i = 0; i < 25; i++) {
+			assertEquals(Integer.valueOf(i), items.get(i));
+		}
+		assertTrue(fetcher.calls.get() <= 3 + PrefetchingPageIterator.DEFAULT_MAX_DEPTH);
+	}
+
+	@Test
+	public void knownTotalStopsAtEnd() {
+		CountingFetcher fetcher = new CountingFetcher(30, true);
+		PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<Integer>(fetcher, 10, executor);
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			count++;
+		}
+		assertEquals(30, count);
+		assertEquals(3, fetcher.calls.get());
+	}
+
+	@Test
+	public void closeCancelsReadAhead() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<Integer>(new PageFetcher<Integer>() {
+			public Page<Integer> fetch(int start, int count) {
+				if (start == 0) {
+					return new Page<Integer>(Collections.nCopies(count, 1), -1);
+				}
+				started.countDown();
+				try {
+					new CountDownLatch(1).await();
+				}
+				catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return new Page<Integer>(null, -1);
+			}
+		}, 10, executor);
+
+		assertEquals(Integer.valueOf(1), iterator.next());
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		iterator.close();
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void rejectedFetchRunsOnCaller() {
+		CountingFetcher fetcher = new CountingFetcher(25, false);
+		PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<Integer>(fetcher, 10, new Executor() {
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException("saturated");
+			}
+		});
+		int count = 0;
+		while (iterator.hasNext()) {
+			assertEquals(Integer.valueOf(count++), iterator.next());
+		}
+		assertEquals(25, count);
+	}
+
+	@Test
+	public void rejectedReadAheadWaitsForPending() {
+		CountingFetcher fetcher = new CountingFetcher(45, true);
+		// one worker and no queue: read-ahead beyond the page being fetched is rejected
+		ExecutorService bounded = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<Runnable>());
+		try {
+			PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<Integer>(fetcher, 10, bounded);
+			int count = 0;
+			while (iterator.hasNext()) {
+				assertEquals(Integer.valueOf(count++), iterator.next());
+			}
+			assertEquals(45, count);
+		}
+		finally {
+			bounded.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rethrowsFetchFailure() {
+		PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<Integer>(new PageFetcher<Integer>() {
+			public Page<Integer> fetch(int start, int count) {
+				throw new IllegalArgumentException("boom");
+			}
+		}, 10, executor);
+		iterator.hasNext();
+	}
+
+	@Test
+	public void groupPosts() {
+		GroupOperations operations = Mockito.mock(GroupOperations.class);
+		Mockito.when(operations.getPosts(42, 0, 2)).thenReturn(posts(2, 3));
+		Mockito.when(operations.getPosts(42, 2, 2)).thenReturn(posts(1, 3));
+		PrefetchingPageIterator<Post> iterator = Pages.groupPosts(operations, 42, 2, executor);
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			count++;
+		}
+		assertEquals(3, count);
+		Mockito.verify(operations, Mockito.times(2)).getPosts(Mockito.eq(42), Mockito.anyInt(), Mockito.eq(2));
+	}
+
+	private GroupPosts posts(int count, int total) {
+		GroupPosts posts = new GroupPosts(count, 0, total);
+		ReflectionTestUtils.setField(posts, "posts", Collections.nCopies(count, Mockito.mock(Post.class)));
+		return posts;
+	}
+
+	private static class CountingFetcher implements PageFetcher<Integer> {
+
+		private final int size;
+
+		private final boolean reportTotal;
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		CountingFetcher(int size, boolean reportTotal) {
+			this.size = size;
+			this.reportTotal = reportTotal;
+		}
+
+		public Page<Integer> fetch(int start, int count) {
+			calls.incrementAndGet();
+			List<Integer> items = new ArrayList<Integer>();
+			for (int i = start; i < Math.min(size, start + count); i++) {
+				items.add(i);
+			}
+			return new Page<Integer>(items, reportTotal ? size : -1);
+		}
+
+	}
+
+}
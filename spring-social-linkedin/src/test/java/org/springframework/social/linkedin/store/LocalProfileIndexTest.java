@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.social.linkedin.api.Company;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.LinkedInProfileFull;
+import org.springframework.social.linkedin.api.LinkedInProfiles;
+import org.springframework.social.linkedin.api.Location;
+import org.springframework.social.linkedin.api.Position;
+import org.springframework.social.linkedin.api.ProfileOperations;
+import org.springframework.social.linkedin.api.SearchParameters;
+import org.springframework.social.linkedin.api.SearchParameters.FacetType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class LocalProfileIndexTest {
+
+	private static final String MEMBER = "member";
+
+	private LocalProfileIndex index = new LocalProfileIndex(new OffHeapProfileStore(64 * 1024));
+
+	@Before
+	public void setup() {
+		LinkedInProfileFull craig = new LinkedInProfileFull("z37f0n3A05", "Craig", "Walls", "Spring Social Project Lead at SpringSource", "Computer Software", null, null, null);
+		ReflectionTestUtils.setField(craig, "positions", Arrays.asList(
+				new Position(new Company(1234, "SpringSource"), "p1", true, null, null, null, "Spring Social Project Lead"),
+				new Position(new Company(5678, "Semantra"), "p2", false, null, null, null, "Senior Software Engineer")));
+		ReflectionTestUtils.setField(craig, "location", new Location("us", "Dallas/Fort Worth Area"));
+		index.indexConnections(MEMBER, Collections.singletonList(craig), true);
+		index.index(new LinkedInProfile("UB2kruYvvv", "Robert", "Drysdale", "Java Developer", "Information Technology and Services", null, null, null));
+		index.index(new LinkedInProfile("private", "Private", "Profile", null, null, null, null, null));
+	}
+
+	@Test
+	public void search_keywordsAndNames() {
+		LinkedInProfiles result = index.search(MEMBER, parameters("spring", null));
+		assertEquals(1, result.getTotal());
+		assertEquals("Craig", result.getPeople().get(0).getFirstName());
+		assertEquals("Computer Software", result.getPeople().get(0).getIndustry());
+
+		assertEquals("UB2kruYvvv", index.search(MEMBER, parameters(null, "drysdale")).getPeople().get(0).getId());
+		assertNull(index.search(MEMBER, parameters("spring developer", null)));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	public void search_currentAndPastCompany() {
+		SearchParameters parameters = new SearchParameters();
+		parameters.setCompanyName("semantra");
+		assertEquals(1, index.search(MEMBER, parameters).getTotal());
+		parameters.setCurrentCompany(true);
+		assertNull(index.search(MEMBER, parameters));
+		parameters.setCurrentCompany(false);
+		assertEquals(1, index.search(MEMBER, parameters).getTotal());
+	}
+
+	@Test
+	public void search_facets() {
+		SearchParameters parameters = new SearchParameters();
+		parameters.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_FIRST_DEGREE);
+		parameters.addFacet(FacetType.CURRENT_COMPANY, "1234");
+		parameters.addFacet(FacetType.LOCATION, "us:84");
+		assertEquals("z37f0n3A05", index.search(MEMBER, parameters).getPeople().get(0).getId());
+
+		parameters.addFacet(FacetType.CURRENT_COMPANY, "5678");
+		assertEquals(1, index.search(MEMBER, parameters).getTotal());
+
+		SearchParameters industry = new SearchParameters();
+		industry.addFacet(FacetType.INDUSTRY, "information technology and services");
+		assertEquals("UB2kruYvvv", index.search(MEMBER, industry).getPeople().get(0).getId());
+	}
+
+	@Test
+	public void search_unsupported() {
+		SearchParameters parameters = parameters("spring", null);
+		parameters.setSort(SearchParameters.Sort.DISTANCE);
+		assertFalse(index.supports(parameters));
+		assertNull(index.search(MEMBER, parameters));
+	}
+
+	@Test
+	public void search_paging() {
+		SearchParameters parameters = new SearchParameters();
+		parameters.setStart(1);
+		parameters.setCount(1);
+		LinkedInProfiles result = index.search(MEMBER, parameters);
+		assertEquals(2, result.getTotal());
+		assertEquals(1, result.getStart());
+		assertEquals("UB2kruYvvv", result.getPeople().get(0).getId());
+	}
+
+	@Test
+	public void search_networkOfEachMember() {
+		LinkedInProfile robert = new LinkedInProfile("UB2kruYvvv", "Robert", "Drysdale", null, null, null, null, null);
+		index.indexConnections("other", Collections.singletonList(robert), true);
+		SearchParameters parameters = new SearchParameters();
+		parameters.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_FIRST_DEGREE);
+
+		assertEquals("z37f0n3A05", index.search(MEMBER, parameters).getPeople().get(0).getId());
+		assertEquals(1, index.search(MEMBER, parameters).getTotal());
+		assertEquals("UB2kruYvvv", index.search("other", parameters).getPeople().get(0).getId());
+		assertEquals(1, index.search("other", parameters).getTotal());
+		assertNull(index.search("stranger", parameters));
+		assertNull(index.search(null, parameters));
+		assertNull(index.searchComplete("stranger", parameters, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void searchComplete() {
+		SearchParameters parameters = parameters(null, "walls");
+		assertNull(index.searchComplete(MEMBER, parameters, Long.MAX_VALUE));
+
+		parameters.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_FIRST_DEGREE);
+		assertEquals(1, index.searchComplete(MEMBER, parameters, Long.MAX_VALUE).getTotal());
+		parameters.setLastName("drysdale");
+		assertEquals(0, index.searchComplete(MEMBER, parameters, Long.MAX_VALUE).getTotal());
+
+		parameters.addFacet(FacetType.NETWORK, "S");
+		assertNull(index.searchComplete(MEMBER, parameters, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void searchComplete_pagedConnections() {
+		LinkedInProfile robert = new LinkedInProfile("UB2kruYvvv", "Robert", "Drysdale", null, null, null, null, null);
+		index.indexConnections("other", Collections.singletonList(robert), false);
+		SearchParameters parameters = new SearchParameters();
+		parameters.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_FIRST_DEGREE);
+		assertEquals(1, index.search("other", parameters).getTotal());
+		assertNull(index.searchComplete("other", parameters, Long.MAX_VALUE));
+
+		index.remove("z37f0n3A05");
+		assertNull(index.searchComplete(MEMBER, parameters, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void localFirst() throws Exception {
+		ProfileOperations delegate = Mockito.mock(ProfileOperations.class);
+		LocalFirstProfileOperations operations = new LocalFirstProfileOperations(delegate, index, MEMBER);
+		SearchParameters local = parameters("spring", null);
+		local.addFacet(FacetType.NETWORK, SearchParameters.NETWORK_FIRST_DEGREE);
+		assertEquals(1, operations.search(local).getTotal());
+		Mockito.verify(delegate, Mockito.never()).search(local);
+
+		SearchParameters anyone = parameters("spring", null);
+		LinkedInProfile habuma = new LinkedInProfile("abc", "Habuma", "Walls", "Spring fan", null, null, null, null);
+		Mockito.when(delegate.search(anyone)).thenReturn(new LinkedInProfiles(1, 0, 120, Collections.singletonList(habuma)));
+		assertEquals(120, operations.search(anyone).getTotal());
+		assertEquals(2, index.search(MEMBER, anyone).getTotal());
+		assertEquals(1, operations.search(local).getTotal());
+
+		Thread.sleep(5);
+		operations.setMaxAge(1);
+		Mockito.when(delegate.search(local)).thenReturn(new LinkedInProfiles(0, 0, 0, Collections.<LinkedInProfile>emptyList()));
+		assertEquals(0, operations.search(local).getTotal());
+	}
+
+	private SearchParameters parameters(String keywords, String lastName) {
+		SearchParameters parameters = new SearchParameters();
+		parameters.setKeywords(keywords);
+		parameters.setLastName(lastName);
+		return parameters;
+	}
+
+}
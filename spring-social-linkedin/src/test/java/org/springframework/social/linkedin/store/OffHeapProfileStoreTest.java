@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.store;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.UrlResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class OffHeapProfileStoreTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void putAndRead() {
+		OffHeapProfileStore store = new OffHeapProfileStore(64 * 1024);
+		store.put(new LinkedInProfile("z37f0n3A05", "Craig", "Walls", "Spring Guy", "Computer Software", "http://www.linkedin.com/in/habuma",
+				new UrlResource(null, "http://www.linkedin.com/profile?viewProfile=&key=3630172"), null));
+		store.put(new LinkedInProfile("UB2kruYvvv", "Z\u00fcrich", "M\u00fcller", null, "Computer Software", null, null, "http://media.linkedin.com/pic.jpg"));
+
+		ProfileView view = new ProfileView();
+		assertTrue(store.read("z37f0n3A05", view));
+		assertEquals("Craig", view.getFirstName());
+		assertEquals("Spring Guy", view.getHeadline());
+		assertEquals("Computer Software", view.getIndustry());
+		assertEquals("http://www.linkedin.com/profile?viewProfile=&key=3630172", view.getSiteStandardProfileUrl());
+		assertNull(view.getProfilePictureUrl());
+
+		LinkedInProfile profile = store.get("UB2kruYvvv");
+		assertEquals("Z\u00fcrich", profile.getFirstName());
+		assertEquals("M\u00fcller", profile.getLastName());
+		assertNull(profile.getHeadline());
+		assertNull(profile.getSiteStandardProfileRequest());
+		assertEquals("Computer Software", profile.getIndustry());
+		assertEquals("http://media.linkedin.com/pic.jpg", profile.getProfilePictureUrl());
+
+		assertFalse(store.read("unknown", view));
+		assertEquals("z37f0n3A05", store.get("z37f0n3A05").getId());
+	}
+
+	@Test
+	public void getRestoresEveryStoredField() {
+		LinkedInProfile original = new LinkedInProfile("z37f0n3A05", "Craig", "Walls", "Spring Guy", "Computer Software",
+				"http://www.linkedin.com/in/habuma", new UrlResource(null, "http://www.linkedin.com/profile?viewProfile=&key=3630172"),
+				"http://media.linkedin.com/pic.jpg");
+		ReflectionTestUtils.setField(original, "emailAddress", "habuma@example.com");
+		ReflectionTestUtils.setField(original, "summary", "Author of Spring in Action");
+		OffHeapProfileStore store = new OffHeapProfileStore(64 * 1024);
+		store.put(original);
+
+		LinkedInProfile profile = store.get("z37f0n3A05");
+		assertEquals(original.getId(), profile.getId());
+		assertEquals(original.getFirstName(), profile.getFirstName());
+		assertEquals(original.getLastName(), profile.getLastName());
+		assertEquals(original.getHeadline(), profile.getHeadline());
+		assertEquals(original.getIndustry(), profile.getIndustry());
+		assertEquals(original.getPublicProfileUrl(), profile.getPublicProfileUrl());
+		assertEquals(original.getSiteStandardProfileRequest().getUrl(), profile.getSiteStandardProfileRequest().getUrl());
+		assertEquals(original.getProfilePictureUrl(), profile.getProfilePictureUrl());
+		assertEquals("habuma@example.com", profile.getEmailAddress());
+		assertEquals("Author of Spring in Action", profile.getSummary());
+		assertFalse(store.put(profile));
+	}
+
+	@Test
+	public void replaceAndRemove() {
+		OffHeapProfileStore store = new OffHeapProfileStore(64 * 1024);
+		for (int i = 0; i < 5000; i++) {
+			store.put(profile("id" + i, "First" + i));
+		}
+		store.put(profile("id42", "Replaced"));
+		assertTrue(store.remove("id7"));
+		assertFalse(store.remove("id7"));
+
+		assertEquals(4999, store.size());
+		assertEquals("Replaced", store.get("id42").getFirstName());
+		assertEquals("First4999", store.get("id4999").getFirstName());
+		assertNull(store.get("id7"));
+		assertTrue(store.getWastedBytes() > 0);
+		assertTrue(store.getAllocatedBytes() > 64 * 1024);
+
+		final List<String> ids = new ArrayList<String>();
+		store.scan(new ProfileView(), new OffHeapProfileStore.ProfileCallback() {
+			public void profile(ProfileView view) {
+				ids.add(view.getId());
+			}
+		});
+		assertEquals(4999, ids.size());
+	}
+
+	@Test
+	public void readMissLeavesView() {
+		OffHeapProfileStore store = new OffHeapProfileStore(64 * 1024);
+		for (int i = 0; i < 5000; i++) {
+			store.put(profile("id" + i, "First" + i));
+		}
+		ProfileView view = new ProfileView();
+		assertTrue(store.read("id1", view));
+		for (int i = 0; i < 1000; i++) {
+			assertFalse(store.read("unknown" + i, view));
+			assertEquals("id1", view.getId());
+		}
+	}
+
+	@Test
+	public void identicalPutWritesNothing() {
+		OffHeapProfileStore store = new OffHeapProfileStore(64 * 1024);
+		assertTrue(store.put(profile("id1", "Craig")));
+		long used = store.getUsedBytes();
+		assertFalse(store.put(profile("id1", "Craig")));
+		assertEquals(used, store.getUsedBytes());
+		assertEquals(0, store.getWastedBytes());
+		assertTrue(store.put(profile("id1", "Robert")));
+		assertEquals("Robert", store.get("id1").getFirstName());
+	}
+
+	@Test
+	public void refreshesCompact() {
+		OffHeapProfileStore store = new OffHeapProfileStore(64 * 1024);
+		for (int round = 0; round < 50; round++) {
+			for (int i = 0; i < 2000; i++) {
+				store.put(profile("id" + i, "First" + i + "-" + round));
+			}
+		}
+		assertEquals(2000, store.size());
+		assertEquals("First1234-49", store.get("id1234").getFirstName());
+		long live = store.getUsedBytes() - store.getWastedBytes();
+		assertTrue(store.getWastedBytes() <= Math.max(64 * 1024, live) + 64 * 1024);
+		assertTrue(store.getAllocatedBytes() <= 4 * Math.max(64 * 1024, live) + 2 * 64 * 1024);
+	}
+
+	@Test
+	public void mappedRefreshesReuseFile() throws Exception {
+		File file = folder.newFile("refreshed");
+		OffHeapProfileStore store = new OffHeapProfileStore(file, 64 * 1024);
+		try {
+			for (int round = 0; round < 50; round++) {
+				for (int i = 0; i < 2000; i++) {
+					store.put(profile("id" + i, "First" + i + "-" + round));
+				}
+			}
+			assertEquals("First7-49", store.get("id7").getFirstName());
+			assertTrue(file.length() <= 16 * 64 * 1024);
+		}
+		finally {
+			store.close();
+		}
+	}
+
+	@Test
+	public void mapped() throws Exception {
+		OffHeapProfileStore store = new OffHeapProfileStore(folder.newFile("profiles"), 64 * 1024);
+		try {
+			store.put(profile("id1", "Craig"));
+			assertEquals("Craig", store.get("id1").getFirstName());
+		}
+		finally {
+			store.close();
+		}
+	}
+
+	@Test
+	public void mappedGetDuringCompactingPuts() throws Exception {
+		final OffHeapProfileStore store = new OffHeapProfileStore(folder.newFile("concurrent"), 64 * 1024);
+		try {
+			for (int i = 0; i < 2000; i++) {
+				store.put(profile("id" + i, "First" + i + "-0", "Last" + i));
+			}
+			final AtomicBoolean writing = new AtomicBoolean(true);
+			Thread writer = new Thread() {
+				public void run() {
+					try {
+						for (int round = 1; round < 40; round++) {
+							for (int i = 0; i < 2000; i++) {
+								store.put(profile("id" + i, "First" + i + "-" + round, "Last" + i));
+							}
+						}
+					}
+					finally {
+						writing.set(false);
+					}
+				}
+			};
+			writer.start();
+			int reads = 0;
+			while (writing.get() || reads == 0) {
+				int i = reads++ % 2000;
+				LinkedInProfile profile = store.get("id" + i);
+				assertEquals("id" + i, profile.getId());
+				assertTrue(profile.getFirstName(), profile.getFirstName().startsWith("First" + i + "-"));
+				assertEquals("Last" + i, profile.getLastName());
+			}
+			writer.join();
+		}
+		finally {
+			store.close();
+		}
+	}
+
+	private LinkedInProfile profile(String id, String firstName) {
+		return profile(id, firstName, "Last");
+	}
+
+	private LinkedInProfile profile(String id, String firstName, String lastName) {
+		return new LinkedInProfile(id, firstName, lastName, "Headline", "Industry", null, null, null);
+	}
+
+}
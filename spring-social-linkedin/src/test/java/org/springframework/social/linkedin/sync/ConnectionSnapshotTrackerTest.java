@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.springframework.social.ApiException;
+import org.springframework.social.linkedin.api.ConnectionOperations;
+import org.springframework.social.linkedin.api.LinkedInProfile;
+import org.springframework.social.linkedin.api.NetworkStatistics;
+
+public class ConnectionSnapshotTrackerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ConnectionSnapshotTracker tracker = new ConnectionSnapshotTracker();
+
+	@Test
+	public void update() {
+		ConnectionDelta first = tracker.update("member", Arrays.asList("a", "b", "c", "b"));
+		assertEquals(Arrays.asList("a", "b", "c"), first.getAdded());
+		assertTrue(first.getRemoved().isEmpty());
+		assertEquals(3, first.getConnectionCount());
+
+		ConnectionDelta second = tracker.update("member", Arrays.asList("d", "c", "a"));
+		assertEquals(Collections.singletonList("d"), second.getAdded());
+		assertEquals(Collections.singletonList("b"), second.getRemoved());
+		assertEquals(3, second.getConnectionCount());
+
+		assertTrue(tracker.update("member", Arrays.asList("a", "c", "d")).isEmpty());
+		ConnectionSnapshot snapshot = tracker.getSnapshot("member");
+		assertTrue(snapshot.contains(tracker.getDictionary().encode("d")));
+		assertFalse(snapshot.contains(tracker.getDictionary().encode("b")));
+	}
+
+	@Test
+	public void update_sharedDictionary() {
+		tracker.update("one", Arrays.asList("a", "b"));
+		tracker.update("two", Arrays.asList("b", "c"));
+		assertEquals(3, tracker.getDictionary().size());
+	}
+
+	@Test
+	public void update_fileStoreAcrossDictionaries() throws Exception {
+		FileConnectionSnapshotStore store = new FileConnectionSnapshotStore(folder.newFolder("snapshots"));
+		new ConnectionSnapshotTracker(new MemberIdDictionary(), store).update("abc/123", Arrays.asList("a", "b", "c"));
+
+		// a fresh dictionary, as in a new process, assigns different codes
+		MemberIdDictionary dictionary = new MemberIdDictionary();
+		dictionary.encode("z");
+		ConnectionSnapshotTracker restarted = new ConnectionSnapshotTracker(dictionary, store);
+		assertEquals(3, restarted.getSnapshot("abc/123").size());
+		ConnectionDelta delta = restarted.update("abc/123", Arrays.asList("c", "d", "a"));
+		assertEquals(Collections.singletonList("d"), delta.getAdded());
+		assertEquals(Collections.singletonList("b"), delta.getRemoved());
+
+		restarted.remove("abc/123");
+		assertNull(store.load("abc/123", dictionary));
+	}
+
+	@Test
+	public void synchronize() {
+		tracker.setPageSize(2);
+		ConnectionOperations operations = Mockito.mock(ConnectionOperations.class);
+		Mockito.when(operations.getConnections(0, 2)).thenReturn(profiles("a", "private"));
+		Mockito.when(operations.getConnections(2, 2)).thenReturn(profiles("c"));
+		Mockito.when(operations.getNetworkStatistics()).thenReturn(new NetworkStatistics(3, 100));
+
+		ConnectionDelta delta = tracker.synchronize("member", operations);
+
+		assertEquals(Arrays.asList("a", "c"), delta.getAdded());
+		assertEquals(2, tracker.getSnapshot("member").size());
+	}
+
+	@Test
+	public void synchronize_endsOnEmptyPage() {
+		tracker.setPageSize(2);
+		ConnectionOperations operations = Mockito.mock(ConnectionOperations.class);
+		Mockito.when(operations.getConnections(0, 2)).thenReturn(profiles("a", "b"));
+		Mockito.when(operations.getNetworkStatistics()).thenReturn(new NetworkStatistics(2, 100));
+
+		assertEquals(Arrays.asList("a", "b"), tracker.synchronize("member", operations).getAdded());
+	}
+
+	@Test
+	public void synchronize_truncatedReadKeepsSnapshot() {
+		tracker.setPageSize(2);
+		tracker.update("member", Arrays.asList("a", "b", "c", "d", "e"));
+		ConnectionSnapshot previous = tracker.getSnapshot("member");
+		ConnectionOperations operations = Mockito.mock(ConnectionOperations.class);
+		Mockito.when(operations.getConnections(0, 2)).thenReturn(profiles("a", "b"));
+		Mockito.when(operations.getNetworkStatistics()).thenReturn(new NetworkStatistics(5, 100));
+
+		try {
+			tracker.synchronize("member", operations);
+			fail("Expected ApiException");
+		}
+		catch (ApiException e) {
+		}
+		assertSame(previous, tracker.getSnapshot("member"));
+	}
+
+	private List<LinkedInProfile> profiles(String... ids) {
+		List<LinkedInProfile> profiles = new ArrayList<LinkedInProfile>();
+		for (String id : ids) {
+			profiles.add(new LinkedInProfile(id, "First", "Last", null, null, null, null, null));
+		}
+		return profiles;
+	}
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+import org.springframework.social.linkedin.api.NetworkUpdateParameters;
+import org.springframework.social.linkedin.api.UpdateType;
+
+public class NetworkUpdatePollSchedulerTest {
+
+	private NetworkUpdateSynchronizer synchronizer = Mockito.mock(NetworkUpdateSynchronizer.class);
+
+	private NetworkUpdateOperations operations = Mockito.mock(NetworkUpdateOperations.class);
+
+	private List<String> polled = new ArrayList<String>();
+
+	private List<Runnable> pending = new ArrayList<Runnable>();
+
+	private long now = 0;
+
+	private NetworkUpdatePollScheduler scheduler;
+
+	@Before
+	public void setup() {
+		NetworkUpdateOperationsResolver resolver = new NetworkUpdateOperationsResolver() {
+			public NetworkUpdateOperations resolve(String memberId) {
+				polled.add(memberId);
+				return operations;
+			}
+		};
+		NetworkUpdateListener listener = new NetworkUpdateListener() {
+			public void onUpdates(String memberId, List<LinkedInNetworkUpdate> updates) {
+			}
+			public void onError(String memberId, RuntimeException exception) {
+			}
+		};
+		Executor deferred = new Executor() {
+			public void execute(Runnable command) {
+				pending.add(command);
+			}
+		};
+		scheduler = new NetworkUpdatePollScheduler(synchronizer, resolver, listener, deferred) {
+			protected long currentTimeMillis() {
+				return now;
+			}
+		};
+		scheduler.setMinInterval(1000);
+		scheduler.setInitialInterval(4000);
+		scheduler.setMaxInterval(16000);
+		Mockito.when(synchronizer.fetch(Mockito.anyString(), Mockito.eq(operations)))
+			.thenReturn(new NetworkUpdateBatch("any", Collections.<LinkedInNetworkUpdate>emptyList(), null, false));
+		Mockito.when(synchronizer.fetch(Mockito.eq("busy"), Mockito.eq(operations)))
+			.thenReturn(new NetworkUpdateBatch("busy", Collections.singletonList(new LinkedInNetworkUpdate(new Date(), "UNIU-1", UpdateType.SHAR)), null, false));
+	}
+
+	@Test
+	public void adaptsIntervals() {
+		scheduler.register("busy");
+		scheduler.register("quiet");
+		assertEquals(2, scheduler.dispatch());
+		runPending();
+
+		assertEquals(2000, scheduler.getPollInterval("busy"));
+		assertEquals(8000, scheduler.getPollInterval("quiet"));
+
+		now = 2000;
+		assertEquals(1, scheduler.dispatch());
+		runPending();
+		assertEquals(1000, scheduler.getPollInterval("busy"));
+
+		now = 8000;
+		scheduler.dispatch();
+		runPending();
+		assertEquals(16000, scheduler.getPollInterval("quiet"));
+		assertEquals(1000, scheduler.getPollInterval("busy"));
+	}
+
+	@Test
+	public void roundRobinWithinConcurrencyLimit() {
+		scheduler.setMaxConcurrency(1);
+		scheduler.register("a");
+		scheduler.register("b");
+		scheduler.register("c");
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(1, scheduler.dispatch());
+			assertEquals(0, scheduler.dispatch());
+			runPending();
+		}
+		assertEquals(0, scheduler.dispatch());
+		assertEquals(3, polled.size());
+		assertEquals("a", polled.get(0));
+		assertEquals("b", polled.get(1));
+		assertEquals("c", polled.get(2));
+	}
+
+	@Test
+	public void boostJumpsQueue() {
+		scheduler.setMaxConcurrency(1);
+		scheduler.register("a");
+		scheduler.register("b");
+		scheduler.register("interactive");
+		assertTrue(scheduler.boost("interactive"));
+		assertFalse(scheduler.boost("unknown"));
+
+		scheduler.dispatch();
+		runPending();
+		assertEquals("interactive", polled.get(0));
+		assertEquals(2000, scheduler.getPollInterval("interactive"));
+	}
+
+	@Test
+	public void unregister() {
+		scheduler.register("a");
+		scheduler.unregister("a");
+		assertEquals(0, scheduler.dispatch());
+		assertEquals(0, scheduler.getMemberCount());
+		assertEquals(-1, scheduler.getPollInterval("a"));
+	}
+
+	@Test
+	public void failedListenerLeavesCheckpoint() {
+		InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+		Mockito.when(operations.getNetworkUpdates(Mockito.any(NetworkUpdateParameters.class)))
+			.thenReturn(Collections.singletonList(new LinkedInNetworkUpdate(new Date(1000), "UNIU-1", UpdateType.SHAR)));
+		final List<String> delivered = new ArrayList<String>();
+		final List<RuntimeException> errors = new ArrayList<RuntimeException>();
+		NetworkUpdateListener listener = new NetworkUpdateListener() {
+			public void onUpdates(String memberId, List<LinkedInNetworkUpdate> updates) {
+				delivered.add(updates.get(0).getUpdateKey());
+				if (delivered.size() == 1) {
+					throw new IllegalStateException("processing failed");
+				}
+			}
+			public void onError(String memberId, RuntimeException exception) {
+				errors.add(exception);
+			}
+		};
+		NetworkUpdateOperationsResolver resolver = new NetworkUpdateOperationsResolver() {
+			public NetworkUpdateOperations resolve(String memberId) {
+				return operations;
+			}
+		};
+		Executor sameThread = new Executor() {
+			public void execute(Runnable command) {
+				command.run();
+			}
+		};
+		NetworkUpdatePollScheduler scheduler = new NetworkUpdatePollScheduler(new NetworkUpdateSynchronizer(store), resolver, listener, sameThread) {
+			protected long currentTimeMillis() {
+				return now;
+			}
+		};
+		scheduler.register("member");
+
+		scheduler.dispatch();
+		assertEquals(1, errors.size());
+		assertNull(store.load("member"));
+
+		now = NetworkUpdatePollScheduler.DEFAULT_MAX_INTERVAL;
+		scheduler.dispatch();
+		assertEquals(Arrays.asList("UNIU-1", "UNIU-1"), delivered);
+		assertEquals(1000, store.load("member").getTimestamp());
+	}
+
+	@Test
+	public void sameThreadExecutor_drainsWithoutNesting() {
+		NetworkUpdatePollScheduler direct = directScheduler(null);
+		for (int i = 0; i < 50000; i++) {
+			direct.register("member" + i);
+		}
+		assertEquals(50000, direct.dispatch());
+		assertEquals(50000, polled.size());
+		assertEquals(0, direct.dispatch());
+	}
+
+	@Test
+	public void sameThreadExecutor_ticker() throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(50000);
+		NetworkUpdatePollScheduler direct = directScheduler(done);
+		for (int i = 0; i < 50000; i++) {
+			direct.register("member" + i);
+		}
+		direct.start(60000);
+		try {
+			assertTrue(done.await(30, TimeUnit.SECONDS));
+		}
+		finally {
+			direct.stop();
+		}
+	}
+
+	private NetworkUpdatePollScheduler directScheduler(final CountDownLatch done) {
+		NetworkUpdateOperationsResolver resolver = new NetworkUpdateOperationsResolver() {
+			public NetworkUpdateOperations resolve(String memberId) {
+				polled.add(memberId);
+				if (done != null) {
+					done.countDown();
+				}
+				return operations;
+			}
+		};
+		NetworkUpdateListener listener = new NetworkUpdateListener() {
+			public void onUpdates(String memberId, List<LinkedInNetworkUpdate> updates) {
+			}
+			public void onError(String memberId, RuntimeException exception) {
+			}
+		};
+		Executor sameThread = new Executor() {
+			public void execute(Runnable command) {
+				command.run();
+			}
+		};
+		return new NetworkUpdatePollScheduler(synchronizer, resolver, listener, sameThread) {
+			protected long currentTimeMillis() {
+				return now;
+			}
+		};
+	}
+
+	private void runPending() {
+		List<Runnable> tasks = new ArrayList<Runnable>(pending);
+		pending.clear();
+		for (Runnable task : tasks) {
+			task.run();
+		}
+	}
+
+}
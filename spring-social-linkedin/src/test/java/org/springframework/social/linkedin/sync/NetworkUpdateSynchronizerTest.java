@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.sync;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.social.linkedin.api.LinkedInNetworkUpdate;
+import org.springframework.social.linkedin.api.NetworkUpdateOperations;
+import org.springframework.social.linkedin.api.NetworkUpdateParameters;
+import org.springframework.social.linkedin.api.UpdateType;
+
+public class NetworkUpdateSynchronizerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private NetworkUpdateOperations operations = Mockito.mock(NetworkUpdateOperations.class);
+
+	@Test
+	public void synchronize_firstRun() {
+		InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+		NetworkUpdateSynchronizer synchronizer = new NetworkUpdateSynchronizer(store);
+		synchronizer.setPageSize(2);
+		Mockito.when(operations.getNetworkUpdates(Mockito.any(NetworkUpdateParameters.class)))
+			.thenReturn(Arrays.asList(update("C", 3000), update("B", 2000)))
+			.thenReturn(Collections.singletonList(update("A", 1000)));
+
+		List<LinkedInNetworkUpdate> updates = synchronizer.synchronize("member", operations);
+
+		assertEquals(Arrays.asList("C", "B", "A"), keys(updates));
+		ArgumentCaptor<NetworkUpdateParameters> parameters = ArgumentCaptor.forClass(NetworkUpdateParameters.class);
+		Mockito.verify(operations, Mockito.times(2)).getNetworkUpdates(parameters.capture());
+		assertNull(parameters.getAllValues().get(0).getRecordsAfter());
+		assertEquals(2, parameters.getAllValues().get(1).getRecordStart());
+		NetworkUpdateCheckpoint checkpoint = store.load("member");
+		assertEquals(3000, checkpoint.getTimestamp());
+		assertTrue(checkpoint.contains("C"));
+		assertTrue(checkpoint.contains("B"));
+		assertFalse(checkpoint.contains("A"));
+	}
+
+	@Test
+	public void synchronize_dropsOverlap() {
+		InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+		store.save(new NetworkUpdateCheckpoint("member", 3000, Collections.singletonMap("C", 3000L)));
+		NetworkUpdateSynchronizer synchronizer = new NetworkUpdateSynchronizer(store);
+		Mockito.when(operations.getNetworkUpdates(Mockito.any(NetworkUpdateParameters.class)))
+			.thenReturn(Arrays.asList(update("E", 3500), update("D", 3000), update("C", 3000)));
+
+		List<LinkedInNetworkUpdate> updates = synchronizer.synchronize("member", operations);
+
+		assertEquals(Arrays.asList("E", "D"), keys(updates));
+		ArgumentCaptor<NetworkUpdateParameters> parameters = ArgumentCaptor.forClass(NetworkUpdateParameters.class);
+		Mockito.verify(operations).getNetworkUpdates(parameters.capture());
+		assertEquals(new Date(2000), parameters.getValue().getRecordsAfter());
+		assertEquals(3500, store.load("member").getTimestamp());
+		assertEquals(3, store.load("member").getRecentUpdates().size());
+	}
+
+	@Test
+	public void synchronize_nothingNew() {
+		InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+		NetworkUpdateCheckpoint checkpoint = new NetworkUpdateCheckpoint("member", 3000, Collections.singletonMap("C", 3000L));
+		store.save(checkpoint);
+		Mockito.when(operations.getNetworkUpdates(Mockito.any(NetworkUpdateParameters.class)))
+			.thenReturn(Collections.singletonList(update("C", 3000)));
+
+		assertTrue(new NetworkUpdateSynchronizer(store).synchronize("member", operations).isEmpty());
+		assertSame(checkpoint, store.load("member"));
+	}
+
+	@Test
+	public void fetch_savesOnCommit() {
+		InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+		NetworkUpdateSynchronizer synchronizer = new NetworkUpdateSynchronizer(store);
+		Mockito.when(operations.getNetworkUpdates(Mockito.any(NetworkUpdateParameters.class)))
+			.thenReturn(Collections.singletonList(update("A", 1000)));
+
+		NetworkUpdateBatch batch = synchronizer.fetch("member", operations);
+		assertEquals(Collections.singletonList("A"), keys(batch.getUpdates()));
+		assertNull(store.load("member"));
+		assertEquals(Collections.singletonList("A"), keys(synchronizer.fetch("member", operations).getUpdates()));
+
+		synchronizer.commit(batch);
+		assertEquals(1000, store.load("member").getTimestamp());
+		assertTrue(synchronizer.fetch("member", operations).isEmpty());
+	}
+
+	@Test
+	public void fetch_truncatedAtPageLimit() {
+		InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+		store.save(new NetworkUpdateCheckpoint("member", 1000, Collections.singletonMap("A", 1000L)));
+		NetworkUpdateSynchronizer synchronizer = new NetworkUpdateSynchronizer(store);
+		synchronizer.setPageSize(2);
+		synchronizer.setMaxPages(2);
+		Mockito.when(operations.getNetworkUpdates(Mockito.any(NetworkUpdateParameters.class)))
+			.thenReturn(Arrays.asList(update("F", 6000), update("E", 5000)))
+			.thenReturn(Arrays.asList(update("D", 4000), update("C", 3000)))
+			.thenReturn(Arrays.asList(update("F", 6000), update("E", 5000)))
+			.thenReturn(Collections.singletonList(update("D", 4000)));
+
+		NetworkUpdateBatch truncated = synchronizer.fetch("member", operations);
+		assertEquals(Arrays.asList("F", "E", "D", "C"), keys(truncated.getUpdates()));
+		assertTrue(truncated.isTruncated());
+		assertFalse(synchronizer.fetch("member", operations).isTruncated());
+	}
+
+	@Test
+	public void fileCheckpointStore() throws Exception {
+		FileCheckpointStore store = new FileCheckpointStore(folder.newFolder("checkpoints"));
+		assertNull(store.load("abc/123"));
+		store.save(new NetworkUpdateCheckpoint("abc/123", 3500, Collections.singletonMap("UNIU-1-2-SHARE", 3000L)));
+
+		NetworkUpdateCheckpoint checkpoint = new FileCheckpointStore(folder.getRoot().toPath().resolve("checkpoints").toFile()).load("abc/123");
+		assertEquals("abc/123", checkpoint.getMemberId());
+		assertEquals(3500, checkpoint.getTimestamp());
+		assertEquals(Long.valueOf(3000), checkpoint.getRecentUpdates().get("UNIU-1-2-SHARE"));
+
+		store.remove("abc/123");
+		assertNull(store.load("abc/123"));
+	}
+
+	private LinkedInNetworkUpdate update(String key, long timestamp) {
+		return new LinkedInNetworkUpdate(new Date(timestamp), key, UpdateType.SHAR);
+	}
+
+	private List<String> keys(List<LinkedInNetworkUpdate> updates) {
+		List<String> keys = new ArrayList<String>();
+		for (LinkedInNetworkUpdate update : updates) {
+			keys.add(update.getUpdateKey());
+		}
+		return keys;
+	}
+
+}
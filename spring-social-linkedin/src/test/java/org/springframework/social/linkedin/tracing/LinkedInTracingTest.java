@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.social.linkedin.tracing;
+
+import static org.junit.Assert.*;
+import static org.springframework.http.HttpMethod.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.social.NotAuthorizedException;
+import org.springframework.social.linkedin.api.LinkedIn;
+import org.springframework.social.linkedin.api.impl.LinkedInTemplate;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+public class LinkedInTracingTest {
+
+	private InMemorySpanExporter exporter;
+
+	private LinkedIn linkedIn;
+
+	private MockRestServiceServer mockServer;
+
+	@Before
+	public void setup() {
+		LinkedInTemplate template = new LinkedInTemplate("ACCESS_TOKEN");
+		exporter = new InMemorySpanExporter();
+		linkedIn = LinkedInTracing.trace(template, new Tracer(exporter));
+		mockServer = MockRestServiceServer.createServer(template.getRestTemplate());
+	}
+
+	@Test
+	public void spansForOperationExchangeAndDeserialization() {
+		ClassPathResource connections = new ClassPathResource("connections.json", LinkedInTemplate.class);
+		mockServer.expect(method(GET)).andRespond(withSuccess(connections, MediaType.APPLICATION_JSON));
+		linkedIn.connectionOperations().getConnections(10, 20);
+		mockServer.verify();
+
+		List<Span> spans = exporter.getSpans();
+		assertEquals(3, spans.size());
+		Span operation = exporter.getSpan("ConnectionOperations.getConnections");
+		Span exchange = exporter.getSpan("http connections.list");
+		Span deserialization = exporter.getSpan("deserialize connections.list");
+		assertNull(operation.getParentId());
+		assertEquals(operation.getSpanId(), exchange.getParentId());
+		assertEquals(exchange.getSpanId(), deserialization.getParentId());
+		assertEquals(operation.getTraceId(), deserialization.getTraceId());
+		assertEquals("10", exchange.getTags().get("page.start"));
+		assertEquals("20", exchange.getTags().get("page.count"));
+		assertEquals("200", exchange.getTags().get("http.status"));
+		assertEquals("1", exchange.getTags().get("attempt"));
+		assertTrue(Long.parseLong(deserialization.getTags().get("response.size")) > 0);
+		assertNotNull(operation.getTags().get("result.size"));
+		assertTrue(operation.getDurationNanos() >= exchange.getDurationNanos());
+		for (Span span : spans) {
+			assertFalse(span.toString().contains("ACCESS_TOKEN"));
+		}
+	}
+
+	@Test
+	public void repeatedExchangesAreNumbered() {
+		ClassPathResource profile = new ClassPathResource("profile.json", LinkedInTemplate.class);
+		Tracer tracer = new Tracer(exporter);
+		LinkedInTemplate template = new LinkedInTemplate("ACCESS_TOKEN");
+		LinkedInTracing.instrument(template, tracer);
+		mockServer = MockRestServiceServer.createServer(template.getRestTemplate());
+		mockServer.expect(method(GET)).andRespond(withSuccess(profile, MediaType.APPLICATION_JSON));
+		mockServer.expect(method(GET)).andRespond(withSuccess(profile, MediaType.APPLICATION_JSON));
+
+		Span request = tracer.startSpan("request");
+		template.profileOperations().getUserProfile();
+		template.profileOperations().getUserProfile();
+		request.end();
+
+		assertNull(tracer.currentSpan());
+		List<Span> spans = exporter.getSpans();
+		assertEquals("1", spans.get(1).getTags().get("attempt"));
+		assertEquals("http profile.get", spans.get(3).getName());
+		assertEquals("2", spans.get(3).getTags().get("attempt"));
+		assertEquals(request.getSpanId(), spans.get(3).getParentId());
+	}
+
+	@Test
+	public void failedOperation() {
+		ClassPathResource error = new ClassPathResource("error_invalid_token.json", LinkedInTemplate.class);
+		mockServer.expect(method(GET)).andRespond(withStatus(HttpStatus.UNAUTHORIZED).body(error).contentType(MediaType.APPLICATION_JSON));
+		try {
+			linkedIn.profileOperations().getUserProfile();
+			fail();
+		}
+		catch (NotAuthorizedException e) {
+			// expected
+		}
+		Span operation = exporter.getSpan("ProfileOperations.getUserProfile");
+		assertEquals("NotAuthorizedException", operation.getError());
+		assertEquals("401", exporter.getSpan("http profile.get").getTags().get("http.status"));
+	}
+
+}